@@ -0,0 +1,50 @@
+package com.starwars.application.dto.request;
+
+import com.starwars.domain.model.SpecFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Parámetros de filtro por rango de /api/v1/starships y /api/v1/vehicles
+ * (minLength, maxCost, minCrew, ...). Se resuelven en base de datos sobre el catálogo local.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpecRangeRequest {
+    private Double minLength;
+    private Double maxLength;
+    private Long minCost;
+    private Long maxCost;
+    private Long minCrew;
+    private Long maxCrew;
+    private Long minPassengers;
+    private Long maxPassengers;
+    private Long minCargoCapacity;
+    private Long maxCargoCapacity;
+
+    public boolean hasAny() {
+        return Stream.of(minLength, maxLength, minCost, maxCost, minCrew, maxCrew,
+                        minPassengers, maxPassengers, minCargoCapacity, maxCargoCapacity)
+                .anyMatch(Objects::nonNull);
+    }
+
+    public SpecFilter toFilter() {
+        return SpecFilter.builder()
+                .minLength(minLength)
+                .maxLength(maxLength)
+                .minCost(minCost)
+                .maxCost(maxCost)
+                .minCrew(minCrew)
+                .maxCrew(maxCrew)
+                .minPassengers(minPassengers)
+                .maxPassengers(maxPassengers)
+                .minCargoCapacity(minCargoCapacity)
+                .maxCargoCapacity(maxCargoCapacity)
+                .build();
+    }
+}
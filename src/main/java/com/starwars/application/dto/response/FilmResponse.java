@@ -1,5 +1,7 @@
 package com.starwars.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.starwars.application.mapper.FieldSelection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +13,7 @@ import java.time.LocalDate;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class FilmResponse {
     private Long id;
     private String uid;
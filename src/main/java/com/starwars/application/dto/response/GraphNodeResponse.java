@@ -0,0 +1,16 @@
+package com.starwars.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GraphNodeResponse {
+    private String type;
+    private String uid;
+    private String name;
+}
@@ -0,0 +1,23 @@
+package com.starwars.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GroupStatsResponse {
+    private String group;
+    private long count;
+    private String field;
+    private Long valueCount;
+    private Double sum;
+    private Double average;
+    private Double min;
+    private Double max;
+}
@@ -1,11 +1,13 @@
 package com.starwars.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -15,10 +17,18 @@ public class PageResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
+    // Null cuando la página se pidió por cursor sin conteo total
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
     private int totalPages;
     private boolean last;
     private boolean first;
+    // Cursor opaco de la página siguiente (solo en paginación por cursor; null en la última página)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    // Conteos por atributo y valor (solo en el filtrado por facetas)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Map<String, Long>> facets;
 }
 
 
@@ -1,5 +1,7 @@
 package com.starwars.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.starwars.application.mapper.FieldSelection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(FieldSelection.FILTER_ID)
 public class PeopleResponse {
     private Long id;
     private String uid;
@@ -0,0 +1,19 @@
+package com.starwars.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitResponse<T> {
+    private T item;
+    private Double score;
+    // Campo -> fragmento con los términos encontrados entre <em> y </em>
+    private Map<String, String> highlights;
+}
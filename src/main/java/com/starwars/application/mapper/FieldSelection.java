@@ -0,0 +1,87 @@
+package com.starwars.application.mapper;
+
+import com.starwars.domain.exception.UnsupportedFieldException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Campos pedidos con {@code fields=title,director} (sparse fieldsets). Los controladores la reciben ya
+ * interpretada y se la pasan a los mappers, que solo copian esos campos; la serialización solo escribe
+ * esos. {@code uid} se incluye siempre para poder identificar cada elemento. Sin {@code fields}, o
+ * fuera de una petición HTTP (exportaciones en streaming, tareas programadas), se usa {@link #ALL}.
+ */
+public final class FieldSelection {
+
+    public static final String PARAMETER = "fields";
+
+    // Id de @JsonFilter en los DTOs de respuesta de los recursos
+    public static final String FILTER_ID = "fieldSelection";
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final String ALWAYS_INCLUDED = "uid";
+
+    // Null cuando se piden todos
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Interpreta una lista separada por comas; vacía o null es {@link #ALL}.
+     */
+    public static FieldSelection parse(String raw) {
+        if (raw == null) {
+            return ALL;
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : raw.split(",")) {
+            if (!field.isBlank()) {
+                fields.add(field.trim());
+            }
+        }
+        if (fields.isEmpty()) {
+            return ALL;
+        }
+        fields.add(ALWAYS_INCLUDED);
+        return new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    // Campos pedidos, con uid; null si se piden todos
+    public Set<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Misma clave para el mismo conjunto de campos, sin importar el orden en que se pidieron.
+     */
+    public String key() {
+        return fields == null ? "" : String.join(",", new TreeSet<>(fields));
+    }
+
+    /**
+     * @throws UnsupportedFieldException si se pidió un campo que el recurso no tiene
+     */
+    public FieldSelection requireKnown(String resource, Set<String> known) {
+        if (fields != null) {
+            for (String field : fields) {
+                if (!known.contains(field)) {
+                    throw new UnsupportedFieldException(resource, field, String.join(", ", known));
+                }
+            }
+        }
+        return this;
+    }
+}
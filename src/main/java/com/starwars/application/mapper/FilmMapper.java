@@ -1,22 +1,56 @@
 package com.starwars.application.mapper;
 
 import com.starwars.application.dto.response.FilmResponse;
+import com.starwars.application.dto.response.SearchHitResponse;
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.SearchHit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public class FilmMapper {
-    
+
+    // Campos de la respuesta, en el orden en que se serializan
+    static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "uid", "title", "episodeId", "openingCrawl", "director", "producer", "releaseDate")));
+
+    // Todos los campos: exportaciones y respuestas sin 'fields'
     public FilmResponse toResponse(Film film) {
+        return toResponse(film, FieldSelection.ALL);
+    }
+
+    /**
+     * @throws com.starwars.domain.exception.UnsupportedFieldException si se pidió un campo que films no tiene
+     */
+    public FieldSelection requireKnown(FieldSelection fields) {
+        return fields.requireKnown("films", FIELDS);
+    }
+
+    /**
+     * Copia solo los campos de {@code fields}, que ya tiene que haber pasado por {@link #requireKnown}.
+     */
+    public FilmResponse toResponse(Film film, FieldSelection fields) {
         return FilmResponse.builder()
-                .id(film.getId())
+                .id(fields.includes("id") ? film.getId() : null)
                 .uid(film.getUid())
-                .title(film.getTitle())
-                .episodeId(film.getEpisodeId())
-                .openingCrawl(film.getOpeningCrawl())
-                .director(film.getDirector())
-                .producer(film.getProducer())
-                .releaseDate(film.getReleaseDate())
+                .title(fields.includes("title") ? film.getTitle() : null)
+                .episodeId(fields.includes("episodeId") ? film.getEpisodeId() : null)
+                .openingCrawl(fields.includes("openingCrawl") ? film.getOpeningCrawl() : null)
+                .director(fields.includes("director") ? film.getDirector() : null)
+                .producer(fields.includes("producer") ? film.getProducer() : null)
+                .releaseDate(fields.includes("releaseDate") ? film.getReleaseDate() : null)
+                .build();
+    }
+
+    public SearchHitResponse<FilmResponse> toSearchHitResponse(SearchHit<Film> hit, FieldSelection fields) {
+        return SearchHitResponse.<FilmResponse>builder()
+                .item(toResponse(hit.getItem(), fields))
+                .score(hit.getScore())
+                .highlights(hit.getHighlights())
                 .build();
     }
 }
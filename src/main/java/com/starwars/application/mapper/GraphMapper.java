@@ -0,0 +1,27 @@
+package com.starwars.application.mapper;
+
+import com.starwars.application.dto.response.CoAppearanceResponse;
+import com.starwars.application.dto.response.GraphNodeResponse;
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.GraphNode;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GraphMapper {
+
+    public CoAppearanceResponse toResponse(CoAppearance coAppearance) {
+        return CoAppearanceResponse.builder()
+                .uid(coAppearance.getUid())
+                .name(coAppearance.getName())
+                .sharedFilms(coAppearance.getSharedFilms())
+                .build();
+    }
+
+    public GraphNodeResponse toResponse(GraphNode node) {
+        return GraphNodeResponse.builder()
+                .type(node.getType())
+                .uid(node.getUid())
+                .name(node.getName())
+                .build();
+    }
+}
@@ -4,22 +4,46 @@ import com.starwars.application.dto.response.PeopleResponse;
 import com.starwars.domain.model.People;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public class PeopleMapper {
-    
+
+    // Campos de la respuesta, en el orden en que se serializan
+    static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "uid", "name", "height", "mass", "hairColor", "skinColor", "eyeColor", "birthYear", "gender", "homeworld")));
+
+    // Todos los campos: exportaciones y respuestas sin 'fields'
     public PeopleResponse toResponse(People people) {
+        return toResponse(people, FieldSelection.ALL);
+    }
+
+    /**
+     * @throws com.starwars.domain.exception.UnsupportedFieldException si se pidió un campo que people no tiene
+     */
+    public FieldSelection requireKnown(FieldSelection fields) {
+        return fields.requireKnown("people", FIELDS);
+    }
+
+    /**
+     * Copia solo los campos de {@code fields}, que ya tiene que haber pasado por {@link #requireKnown}.
+     */
+    public PeopleResponse toResponse(People people, FieldSelection fields) {
         return PeopleResponse.builder()
-                .id(people.getId())
+                .id(fields.includes("id") ? people.getId() : null)
                 .uid(people.getUid())
-                .name(people.getName())
-                .height(people.getHeight())
-                .mass(people.getMass())
-                .hairColor(people.getHairColor())
-                .skinColor(people.getSkinColor())
-                .eyeColor(people.getEyeColor())
-                .birthYear(people.getBirthYear())
-                .gender(people.getGender())
-                .homeworld(people.getHomeworld())
+                .name(fields.includes("name") ? people.getName() : null)
+                .height(fields.includes("height") ? people.getHeight() : null)
+                .mass(fields.includes("mass") ? people.getMass() : null)
+                .hairColor(fields.includes("hairColor") ? people.getHairColor() : null)
+                .skinColor(fields.includes("skinColor") ? people.getSkinColor() : null)
+                .eyeColor(fields.includes("eyeColor") ? people.getEyeColor() : null)
+                .birthYear(fields.includes("birthYear") ? people.getBirthYear() : null)
+                .gender(fields.includes("gender") ? people.getGender() : null)
+                .homeworld(fields.includes("homeworld") ? people.getHomeworld() : null)
                 .build();
     }
 }
@@ -4,22 +4,46 @@ import com.starwars.application.dto.response.StarshipResponse;
 import com.starwars.domain.model.Starship;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public class StarshipMapper {
-    
+
+    // Campos de la respuesta, en el orden en que se serializan
+    static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "uid", "name", "model", "manufacturer", "costInCredits", "length", "crew", "passengers", "cargoCapacity", "starshipClass")));
+
+    // Todos los campos: exportaciones y respuestas sin 'fields'
     public StarshipResponse toResponse(Starship starship) {
+        return toResponse(starship, FieldSelection.ALL);
+    }
+
+    /**
+     * @throws com.starwars.domain.exception.UnsupportedFieldException si se pidió un campo que starships no tiene
+     */
+    public FieldSelection requireKnown(FieldSelection fields) {
+        return fields.requireKnown("starships", FIELDS);
+    }
+
+    /**
+     * Copia solo los campos de {@code fields}, que ya tiene que haber pasado por {@link #requireKnown}.
+     */
+    public StarshipResponse toResponse(Starship starship, FieldSelection fields) {
         return StarshipResponse.builder()
-                .id(starship.getId())
+                .id(fields.includes("id") ? starship.getId() : null)
                 .uid(starship.getUid())
-                .name(starship.getName())
-                .model(starship.getModel())
-                .manufacturer(starship.getManufacturer())
-                .costInCredits(starship.getCostInCredits())
-                .length(starship.getLength())
-                .crew(starship.getCrew())
-                .passengers(starship.getPassengers())
-                .cargoCapacity(starship.getCargoCapacity())
-                .starshipClass(starship.getStarshipClass())
+                .name(fields.includes("name") ? starship.getName() : null)
+                .model(fields.includes("model") ? starship.getModel() : null)
+                .manufacturer(fields.includes("manufacturer") ? starship.getManufacturer() : null)
+                .costInCredits(fields.includes("costInCredits") ? starship.getCostInCredits() : null)
+                .length(fields.includes("length") ? starship.getLength() : null)
+                .crew(fields.includes("crew") ? starship.getCrew() : null)
+                .passengers(fields.includes("passengers") ? starship.getPassengers() : null)
+                .cargoCapacity(fields.includes("cargoCapacity") ? starship.getCargoCapacity() : null)
+                .starshipClass(fields.includes("starshipClass") ? starship.getStarshipClass() : null)
                 .build();
     }
 }
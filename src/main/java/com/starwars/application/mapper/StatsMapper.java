@@ -0,0 +1,32 @@
+package com.starwars.application.mapper;
+
+import com.starwars.application.dto.response.GroupStatsResponse;
+import com.starwars.application.dto.response.RankedValueResponse;
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatsMapper {
+
+    public RankedValueResponse toResponse(RankedValue rankedValue) {
+        return RankedValueResponse.builder()
+                .uid(rankedValue.getUid())
+                .name(rankedValue.getName())
+                .value(rankedValue.getValue())
+                .build();
+    }
+
+    public GroupStatsResponse toResponse(GroupStats groupStats) {
+        return GroupStatsResponse.builder()
+                .group(groupStats.getGroup())
+                .count(groupStats.getCount())
+                .field(groupStats.getField())
+                .valueCount(groupStats.getValueCount())
+                .sum(groupStats.getSum())
+                .average(groupStats.getAverage())
+                .min(groupStats.getMin())
+                .max(groupStats.getMax())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.starwars.application.mapper;
+
+import com.starwars.application.dto.response.SuggestionResponse;
+import com.starwars.domain.model.Suggestion;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SuggestionMapper {
+    
+    public SuggestionResponse toResponse(Suggestion suggestion) {
+        return SuggestionResponse.builder()
+                .type(suggestion.getType())
+                .uid(suggestion.getUid())
+                .label(suggestion.getLabel())
+                .build();
+    }
+}
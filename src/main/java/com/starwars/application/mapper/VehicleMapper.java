@@ -4,22 +4,46 @@ import com.starwars.application.dto.response.VehicleResponse;
 import com.starwars.domain.model.Vehicle;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Component
 public class VehicleMapper {
-    
+
+    // Campos de la respuesta, en el orden en que se serializan
+    static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "uid", "name", "model", "manufacturer", "costInCredits", "length", "crew", "passengers", "cargoCapacity", "vehicleClass")));
+
+    // Todos los campos: exportaciones y respuestas sin 'fields'
     public VehicleResponse toResponse(Vehicle vehicle) {
+        return toResponse(vehicle, FieldSelection.ALL);
+    }
+
+    /**
+     * @throws com.starwars.domain.exception.UnsupportedFieldException si se pidió un campo que vehicles no tiene
+     */
+    public FieldSelection requireKnown(FieldSelection fields) {
+        return fields.requireKnown("vehicles", FIELDS);
+    }
+
+    /**
+     * Copia solo los campos de {@code fields}, que ya tiene que haber pasado por {@link #requireKnown}.
+     */
+    public VehicleResponse toResponse(Vehicle vehicle, FieldSelection fields) {
         return VehicleResponse.builder()
-                .id(vehicle.getId())
+                .id(fields.includes("id") ? vehicle.getId() : null)
                 .uid(vehicle.getUid())
-                .name(vehicle.getName())
-                .model(vehicle.getModel())
-                .manufacturer(vehicle.getManufacturer())
-                .costInCredits(vehicle.getCostInCredits())
-                .length(vehicle.getLength())
-                .crew(vehicle.getCrew())
-                .passengers(vehicle.getPassengers())
-                .cargoCapacity(vehicle.getCargoCapacity())
-                .vehicleClass(vehicle.getVehicleClass())
+                .name(fields.includes("name") ? vehicle.getName() : null)
+                .model(fields.includes("model") ? vehicle.getModel() : null)
+                .manufacturer(fields.includes("manufacturer") ? vehicle.getManufacturer() : null)
+                .costInCredits(fields.includes("costInCredits") ? vehicle.getCostInCredits() : null)
+                .length(fields.includes("length") ? vehicle.getLength() : null)
+                .crew(fields.includes("crew") ? vehicle.getCrew() : null)
+                .passengers(fields.includes("passengers") ? vehicle.getPassengers() : null)
+                .cargoCapacity(fields.includes("cargoCapacity") ? vehicle.getCargoCapacity() : null)
+                .vehicleClass(fields.includes("vehicleClass") ? vehicle.getVehicleClass() : null)
                 .build();
     }
 }
@@ -0,0 +1,40 @@
+package com.starwars.application.service;
+
+import com.starwars.domain.exception.UnsupportedResourceTypeException;
+import com.starwars.domain.model.Suggestion;
+import com.starwars.domain.port.in.AutocompleteUseCase;
+import com.starwars.domain.port.out.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Autocompletado de nombres y títulos desde el índice en memoria: no consulta SWAPI ni la base.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService implements AutocompleteUseCase {
+
+    private final SuggestionIndex suggestionIndex;
+
+    @Override
+    public List<Suggestion> suggest(String query, Set<String> types, int limit) {
+        if (query == null || query.isBlank() || limit < 1) {
+            return List.of();
+        }
+        Set<String> supported = suggestionIndex.types();
+        if (types == null || types.isEmpty()) {
+            return suggestionIndex.suggest(query, supported, limit);
+        }
+        for (String type : types) {
+            if (!supported.contains(type)) {
+                throw new UnsupportedResourceTypeException(type, String.join(", ", supported));
+            }
+        }
+        return suggestionIndex.suggest(query, types, limit);
+    }
+}
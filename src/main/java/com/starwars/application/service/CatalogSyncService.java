@@ -0,0 +1,129 @@
+package com.starwars.application.service;
+
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiFilmDTO;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiPeopleDTO;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiStarshipDTO;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiVehicleDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Copia el catálogo de SWAPI a la base local, que es la que atiende la paginación por cursor
+ * y las relaciones entre recursos.
+ * El listado de SWAPI solo trae uid y nombre, así que cada recurso se completa con su detalle.
+ * Cada recurso se escribe con un único upsert batch por uid, para que los ids (y los cursores
+ * ya emitidos) se mantengan sin leer fila por fila lo que ya existe.
+ * <p>
+ * El orden importa: las tablas de relaciones enlazan por uid con filas que ya deben existir,
+ * así que primero van naves y vehículos, después personajes y al final films.
+ * Al terminar publica un {@link CatalogSyncedEvent} con los recursos escritos.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSyncService {
+
+    private final SwapiClient swapiClient;
+    private final SwapiMapper swapiMapper;
+    private final StarshipRepository starshipRepository;
+    private final VehicleRepository vehicleRepository;
+    private final PeopleRepository peopleRepository;
+    private final FilmRepository filmRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void syncAll() {
+        long start = System.currentTimeMillis();
+        List<SwapiStarshipDTO> starships = fetchDetails("starships", SwapiStarshipDTO.class, SwapiStarshipDTO::getUid);
+        starshipRepository.upsertAll(starships.stream().map(swapiMapper::toStarship).toList());
+        List<SwapiVehicleDTO> vehicles = fetchDetails("vehicles", SwapiVehicleDTO.class, SwapiVehicleDTO::getUid);
+        vehicleRepository.upsertAll(vehicles.stream().map(swapiMapper::toVehicle).toList());
+        List<SwapiPeopleDTO> people = fetchDetails("people", SwapiPeopleDTO.class, SwapiPeopleDTO::getUid);
+        peopleRepository.upsertAll(people.stream().map(swapiMapper::toPeople).toList(),
+                withPilotLinks(links(people, SwapiPeopleDTO::getUid, SwapiPeopleDTO::getStarships),
+                        links(starships, SwapiStarshipDTO::getUid, SwapiStarshipDTO::getPilots)),
+                withPilotLinks(links(people, SwapiPeopleDTO::getUid, SwapiPeopleDTO::getVehicles),
+                        links(vehicles, SwapiVehicleDTO::getUid, SwapiVehicleDTO::getPilots)));
+        List<SwapiFilmDTO> films = fetchFilms();
+        filmRepository.upsertAll(films.stream().map(swapiMapper::toFilm).toList(),
+                links(films, SwapiFilmDTO::getUid, SwapiFilmDTO::getCharacters),
+                links(films, SwapiFilmDTO::getUid, SwapiFilmDTO::getStarships),
+                links(films, SwapiFilmDTO::getUid, SwapiFilmDTO::getVehicles));
+        log.info("Catalog sync finished in {} ms: {} starships, {} vehicles, {} people, {} films",
+                System.currentTimeMillis() - start, starships.size(), vehicles.size(), people.size(), films.size());
+        eventPublisher.publishEvent(new CatalogSyncedEvent(Set.of("starships", "vehicles", "people", "films")));
+    }
+
+    public int syncStarships() {
+        int written = starshipRepository.upsertAll(fetchDetails("starships", SwapiStarshipDTO.class, SwapiStarshipDTO::getUid)
+                .stream().map(swapiMapper::toStarship).toList());
+        eventPublisher.publishEvent(new CatalogSyncedEvent(Set.of("starships")));
+        return written;
+    }
+
+    public int syncVehicles() {
+        int written = vehicleRepository.upsertAll(fetchDetails("vehicles", SwapiVehicleDTO.class, SwapiVehicleDTO::getUid)
+                .stream().map(swapiMapper::toVehicle).toList());
+        eventPublisher.publishEvent(new CatalogSyncedEvent(Set.of("vehicles")));
+        return written;
+    }
+
+    private <T> List<T> fetchDetails(String endpoint, Class<T> type, Function<T, String> uid) {
+        return swapiClient.fetchAll(endpoint, type).stream()
+                .map(summary -> swapiClient.fetchById(endpoint, uid.apply(summary), type))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // El listado de films ya trae el detalle completo, incluidas las URLs de sus relaciones
+    private List<SwapiFilmDTO> fetchFilms() {
+        return swapiClient.fetchAll("films", SwapiFilmDTO.class).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // uid de cada recurso a los uids que enlaza por URL (personajes de un film, pilotos de una nave...)
+    private <T> Map<String, List<String>> links(List<T> owners, Function<T, String> uid,
+                                                Function<T, List<String>> urls) {
+        Map<String, List<String>> links = new HashMap<>();
+        for (T owner : owners) {
+            links.put(uid.apply(owner), swapiMapper.uidsOf(urls.apply(owner)));
+        }
+        return links;
+    }
+
+    /**
+     * SWAPI no siempre trae las naves y vehículos de cada personaje, pero sí los pilotos de cada
+     * nave y vehículo: se suman ambos lados para que person_starships y person_vehicles queden completas.
+     *
+     * @param byPerson uid de cada personaje a las naves (o vehículos) que SWAPI le asigna
+     * @param byCraft  uid de cada nave (o vehículo) a sus pilotos
+     */
+    static Map<String, List<String>> withPilotLinks(Map<String, List<String>> byPerson,
+                                                    Map<String, List<String>> byCraft) {
+        Map<String, Set<String>> merged = new HashMap<>();
+        byPerson.forEach((person, crafts) -> merged.computeIfAbsent(person, key -> new LinkedHashSet<>()).addAll(crafts));
+        byCraft.forEach((craft, pilots) -> pilots.stream()
+                .filter(merged::containsKey)
+                .forEach(pilot -> merged.get(pilot).add(craft)));
+        Map<String, List<String>> links = new HashMap<>();
+        merged.forEach((person, crafts) -> links.put(person, new ArrayList<>(crafts)));
+        return links;
+    }
+}
@@ -0,0 +1,16 @@
+package com.starwars.application.service;
+
+import java.util.Set;
+
+/**
+ * Se publica cuando {@link CatalogSyncService} termina de escribir recursos en el catálogo local,
+ * para que los índices en memoria construidos sobre él se reconstruyan.
+ *
+ * @param resources recursos sincronizados ("starships", "vehicles", "people", "films")
+ */
+public record CatalogSyncedEvent(Set<String> resources) {
+
+    public boolean includes(String resource) {
+        return resources.contains(resource);
+    }
+}
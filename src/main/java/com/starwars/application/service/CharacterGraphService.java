@@ -0,0 +1,50 @@
+package com.starwars.application.service;
+
+import com.starwars.domain.exception.ResourceNotFoundException;
+import com.starwars.domain.exception.UnsupportedResourceTypeException;
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.GraphNode;
+import com.starwars.domain.port.in.CharacterGraphUseCase;
+import com.starwars.domain.port.out.CharacterGraph;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consultas sobre el grafo de apariciones en memoria: no llama a SWAPI ni a la base.
+ */
+@Service
+@RequiredArgsConstructor
+public class CharacterGraphService implements CharacterGraphUseCase {
+
+    private final CharacterGraph characterGraph;
+
+    @Override
+    public List<CoAppearance> coAppearances(String personUid, int limit) {
+        return characterGraph.coAppearances(personUid, limit)
+                .orElseThrow(() -> new ResourceNotFoundException("People", personUid));
+    }
+
+    @Override
+    public CoAppearance coAppearance(String personUid, String otherUid) {
+        return characterGraph.coAppearance(personUid, otherUid)
+                .orElseThrow(() -> new ResourceNotFoundException("People", personUid + ", " + otherUid));
+    }
+
+    @Override
+    public List<GraphNode> shortestPath(String fromUid, String toUid, Set<String> via) {
+        Set<String> supported = characterGraph.linkTypes();
+        if (via == null || via.isEmpty()) {
+            via = supported;
+        }
+        for (String type : via) {
+            if (!supported.contains(type)) {
+                throw new UnsupportedResourceTypeException(type, String.join(", ", supported));
+            }
+        }
+        return characterGraph.shortestPath(fromUid, toUid, via)
+                .orElseThrow(() -> new ResourceNotFoundException("People", fromUid + ", " + toUid));
+    }
+}
@@ -1,8 +1,18 @@
 package com.starwars.application.service;
 
+import com.starwars.domain.exception.UnsupportedSortException;
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.SearchHit;
+import com.starwars.domain.model.SortOrder;
+import com.starwars.domain.model.Starship;
 import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.in.FilmUseCase;
+import com.starwars.domain.port.out.FullTextIndex;
+import com.starwars.domain.port.out.FuzzyIndex;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.SortIndex;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiFilmDTO;
@@ -15,6 +25,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,6 +35,10 @@ public class FilmService implements FilmUseCase {
     
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
+    private final FilmRepository filmRepository;
+    private final FuzzyIndex<Film> filmFuzzyIndex;
+    private final FullTextIndex<Film> filmTextIndex;
+    private final SortIndex<Film> filmSortIndex;
     
     @Override
     public Page<Film> findAll(Pageable pageable) {
@@ -43,6 +58,16 @@ public class FilmService implements FilmUseCase {
         List<Film> pageContent = allFilms.subList(start, end);
         return new PageImpl<>(pageContent, pageable, allFilms.size());
     }
+
+    @Override
+    public Page<Film> findAllSorted(String sort, Pageable pageable) {
+        log.debug("Finding films sorted by {} with pageable: {}", sort, pageable);
+        SortOrder order = SortOrder.parse(sort);
+        if (order == null || !filmSortIndex.fields().contains(order.getField())) {
+            throw new UnsupportedSortException(sort, String.join(", ", filmSortIndex.fields()));
+        }
+        return filmSortIndex.findAll(order.getField(), order.isDescending(), pageable);
+    }
     
     @Override
     public Optional<Film> findByUid(String uid) {
@@ -93,8 +118,46 @@ public class FilmService implements FilmUseCase {
         return new PageImpl<>(paginatedFilms, pageable, filteredFilms.size());
     }
 
-}
+    @Override
+    public Page<Film> findByTitleFuzzy(String title, Pageable pageable) {
+        log.debug("Fuzzy searching films by title: {}", title);
+        // El índice devuelve todas las coincidencias ya ordenadas (acotadas por search.fuzzy.max-results)
+        List<Film> matches = filmFuzzyIndex.search(title);
+        int start = (int) Math.min(pageable.getOffset(), matches.size());
+        int end = Math.min(start + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(start, end), pageable, matches.size());
+    }
 
+    @Override
+    public Page<SearchHit<Film>> searchText(String text, Pageable pageable) {
+        log.debug("Full-text searching films: {}", text);
+        List<SearchHit<Film>> hits = filmTextIndex.search(text);
+        int start = (int) Math.min(pageable.getOffset(), hits.size());
+        int end = Math.min(start + pageable.getPageSize(), hits.size());
+        return new PageImpl<>(hits.subList(start, end), pageable, hits.size());
+    }
 
+    @Override
+    public Optional<List<People>> findCharacters(String uid) {
+        log.debug("Finding characters of film {} in local catalog", uid);
+        return filmRepository.findCharacters(uid);
+    }
 
+    @Override
+    public Optional<List<Starship>> findStarships(String uid) {
+        log.debug("Finding starships of film {} in local catalog", uid);
+        return filmRepository.findStarships(uid);
+    }
 
+    @Override
+    public Optional<List<Vehicle>> findVehicles(String uid) {
+        log.debug("Finding vehicles of film {} in local catalog", uid);
+        return filmRepository.findVehicles(uid);
+    }
+
+    @Override
+    public long exportAll(Consumer<Film> consumer) {
+        log.debug("Exporting films from local store");
+        return filmRepository.exportAll(consumer);
+    }
+}
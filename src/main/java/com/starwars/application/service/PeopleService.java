@@ -1,9 +1,17 @@
 package com.starwars.application.service;
 
 import com.starwars.domain.exception.ResourceNotFoundException;
+import com.starwars.domain.exception.UnsupportedSortException;
+import com.starwars.domain.model.Film;
 import com.starwars.domain.model.People;
+import com.starwars.domain.model.SortOrder;
+import com.starwars.domain.model.Starship;
 import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.in.PeopleUseCase;
+import com.starwars.domain.port.out.FuzzyIndex;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.SortIndex;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiPeopleDTO;
@@ -16,6 +24,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +34,9 @@ public class PeopleService implements PeopleUseCase {
     
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
+    private final PeopleRepository peopleRepository;
+    private final FuzzyIndex<People> peopleFuzzyIndex;
+    private final SortIndex<People> peopleSortIndex;
     
     @Override
     public Page<People> findAll(Pageable pageable) {
@@ -51,6 +63,16 @@ public class PeopleService implements PeopleUseCase {
         return new PageImpl<>(peopleList, pageable, totalElements);
     }
 
+    @Override
+    public Page<People> findAllSorted(String sort, Pageable pageable) {
+        log.debug("Finding people sorted by {} with pageable: {}", sort, pageable);
+        SortOrder order = SortOrder.parse(sort);
+        if (order == null || !peopleSortIndex.fields().contains(order.getField())) {
+            throw new UnsupportedSortException(sort, String.join(", ", peopleSortIndex.fields()));
+        }
+        return peopleSortIndex.findAll(order.getField(), order.isDescending(), pageable);
+    }
+
 
     @Override
     public Optional<People> findByUid(String uid) {
@@ -100,8 +122,37 @@ public class PeopleService implements PeopleUseCase {
         return new PageImpl<>(paginatedPeople, pageable, allPeople.size());
     }
 
-}
+    @Override
+    public Page<People> findByNameFuzzy(String name, Pageable pageable) {
+        log.debug("Fuzzy searching people by name: {}", name);
+        // El índice devuelve todas las coincidencias ya ordenadas (acotadas por search.fuzzy.max-results)
+        List<People> matches = peopleFuzzyIndex.search(name);
+        int start = (int) Math.min(pageable.getOffset(), matches.size());
+        int end = Math.min(start + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(start, end), pageable, matches.size());
+    }
 
+    @Override
+    public Optional<List<Film>> findFilms(String uid) {
+        log.debug("Finding films of person {} in local catalog", uid);
+        return peopleRepository.findFilms(uid);
+    }
 
+    @Override
+    public Optional<List<Starship>> findStarships(String uid) {
+        log.debug("Finding starships of person {} in local catalog", uid);
+        return peopleRepository.findStarships(uid);
+    }
 
+    @Override
+    public Optional<List<Vehicle>> findVehicles(String uid) {
+        log.debug("Finding vehicles of person {} in local catalog", uid);
+        return peopleRepository.findVehicles(uid);
+    }
 
+    @Override
+    public long exportAll(Consumer<People> consumer) {
+        log.debug("Exporting people from local store");
+        return peopleRepository.exportAll(consumer);
+    }
+}
@@ -1,8 +1,18 @@
 package com.starwars.application.service;
 
+import com.starwars.domain.exception.UnsupportedSortException;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SortOrder;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Starship;
 import com.starwars.domain.model.SwapiPageResponse;
 import com.starwars.domain.port.in.StarshipUseCase;
+import com.starwars.domain.port.out.FacetIndex;
+import com.starwars.domain.port.out.FuzzyIndex;
+import com.starwars.domain.port.out.SortIndex;
+import com.starwars.domain.port.out.StarshipRepository;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiStarshipDTO;
@@ -14,7 +24,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,6 +37,10 @@ public class StarshipService implements StarshipUseCase {
     
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
+    private final StarshipRepository starshipRepository;
+    private final FacetIndex<Starship> starshipFacetIndex;
+    private final FuzzyIndex<Starship> starshipFuzzyIndex;
+    private final SortIndex<Starship> starshipSortIndex;
     
     @Override
     public Page<Starship> findAll(Pageable pageable) {
@@ -51,6 +68,16 @@ public class StarshipService implements StarshipUseCase {
         return new PageImpl<>(starshipList, pageable, totalElements);
     }
 
+    @Override
+    public Page<Starship> findAllSorted(String sort, Pageable pageable) {
+        log.debug("Finding starships sorted by {} with pageable: {}", sort, pageable);
+        SortOrder order = SortOrder.parse(sort);
+        if (order == null || !starshipSortIndex.fields().contains(order.getField())) {
+            throw new UnsupportedSortException(sort, String.join(", ", starshipSortIndex.fields()));
+        }
+        return starshipSortIndex.findAll(order.getField(), order.isDescending(), pageable);
+    }
+
     
     @Override
     public Optional<Starship> findByUid(String uid) {
@@ -101,8 +128,56 @@ public class StarshipService implements StarshipUseCase {
         return new PageImpl<>(paginatedStarships, pageable, filteredStarships.size());
     }
 
-}
+    @Override
+    public Page<Starship> findByNameFuzzy(String name, Pageable pageable) {
+        log.debug("Fuzzy searching starships by name: {}", name);
+        // El índice devuelve todas las coincidencias ya ordenadas (acotadas por search.fuzzy.max-results)
+        List<Starship> matches = starshipFuzzyIndex.search(name);
+        int start = (int) Math.min(pageable.getOffset(), matches.size());
+        int end = Math.min(start + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(start, end), pageable, matches.size());
+    }
 
+    // Las consultas con cursor leen la copia local que mantiene CatalogSyncService, no SWAPI
+    @Override
+    public CursorPage<Starship> findAllAfter(String cursor, int size, boolean includeTotal) {
+        log.debug("Finding starships from local store after cursor: {}", cursor);
+        return starshipRepository.findAllAfter(cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Starship> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching starships by name from local store: {} after cursor: {}", name, cursor);
+        return starshipRepository.findByNameContainingAfter(name, cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Starship> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching starships by name prefix from local store: {} after cursor: {}", prefix, cursor);
+        return starshipRepository.findByNamePrefixAfter(prefix, cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Starship> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal) {
+        log.debug("Filtering starships by specs from local store: {} after cursor: {}", filter, cursor);
+        return starshipRepository.findBySpecsAfter(filter, cursor, size, includeTotal);
+    }
+
+    @Override
+    public CursorPage<Starship> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching starships by combined filters from local store: {} after cursor: {}", filter, cursor);
+        return starshipRepository.findBySearchAfter(filter, cursor, size, includeTotal);
+    }
+
+    @Override
+    public FacetedPage<Starship> findByFacets(Map<String, Set<String>> filters, int offset, int size) {
+        log.debug("Filtering starships by facets: {} offset: {}", filters, offset);
+        return starshipFacetIndex.search(filters, offset, size);
+    }
+
+    @Override
+    public long exportAll(Consumer<Starship> consumer) {
+        log.debug("Exporting starships from local store");
+        return starshipRepository.exportAll(consumer);
+    }
+}
@@ -0,0 +1,74 @@
+package com.starwars.application.service;
+
+import com.starwars.domain.exception.InvalidStatsQueryException;
+import com.starwars.domain.exception.UnsupportedResourceTypeException;
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+import com.starwars.domain.port.in.StatsUseCase;
+import com.starwars.domain.port.out.StatsIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rankings y agregados del catálogo local, leídos de los agregados que se mantienen al sincronizar:
+ * ninguna consulta recorre la colección.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsService implements StatsUseCase {
+
+    private final List<StatsIndex> statsIndexes;
+
+    @Override
+    public List<RankedValue> top(String resource, String field, int k, String order) {
+        StatsIndex index = index(resource);
+        requireField(index, field);
+        if (k < 1 || k > index.maxTop()) {
+            throw new InvalidStatsQueryException(String.format("'k' debe estar entre 1 y %d.", index.maxTop()));
+        }
+        boolean ascending;
+        if ("asc".equalsIgnoreCase(order)) {
+            ascending = true;
+        } else if (order == null || "desc".equalsIgnoreCase(order)) {
+            ascending = false;
+        } else {
+            throw new InvalidStatsQueryException("'order' debe ser 'asc' o 'desc'.");
+        }
+        return index.top(field, k, ascending);
+    }
+
+    @Override
+    public List<GroupStats> aggregate(String resource, String groupBy, String field) {
+        StatsIndex index = index(resource);
+        if (field != null) {
+            requireField(index, field);
+        }
+        if (groupBy != null && !index.groupings().contains(groupBy)) {
+            throw new InvalidStatsQueryException(String.format("No se puede agrupar %s por '%s'. Use %s.",
+                    resource, groupBy, String.join(", ", index.groupings())));
+        }
+        return index.aggregate(groupBy, field);
+    }
+
+    private StatsIndex index(String resource) {
+        return statsIndexes.stream()
+                .filter(index -> index.resource().equals(resource))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedResourceTypeException(resource, String.join(", ", resources())));
+    }
+
+    private List<String> resources() {
+        return statsIndexes.stream().map(StatsIndex::resource).sorted().toList();
+    }
+
+    private static void requireField(StatsIndex index, String field) {
+        Set<String> fields = index.fields();
+        if (field == null || !fields.contains(field)) {
+            throw new InvalidStatsQueryException(String.format("Campo no soportado en %s: '%s'. Use %s.",
+                    index.resource(), field, String.join(", ", fields)));
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.starwars.application.service;
 
+import com.starwars.domain.exception.UnsupportedSortException;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SortOrder;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.model.SwapiPageResponse;
 import com.starwars.domain.port.in.VehicleUseCase;
+import com.starwars.domain.port.out.FacetIndex;
+import com.starwars.domain.port.out.FuzzyIndex;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.domain.port.out.SortIndex;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiVehicleDTO;
@@ -14,7 +24,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,6 +37,10 @@ public class VehicleService implements VehicleUseCase {
     
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
+    private final VehicleRepository vehicleRepository;
+    private final FacetIndex<Vehicle> vehicleFacetIndex;
+    private final FuzzyIndex<Vehicle> vehicleFuzzyIndex;
+    private final SortIndex<Vehicle> vehicleSortIndex;
     
     @Override
     public Page<Vehicle> findAll(Pageable pageable) {
@@ -47,6 +64,16 @@ public class VehicleService implements VehicleUseCase {
         
         return new PageImpl<>(vehicleList, pageable, totalElements);
     }
+
+    @Override
+    public Page<Vehicle> findAllSorted(String sort, Pageable pageable) {
+        log.debug("Finding vehicles sorted by {} with pageable: {}", sort, pageable);
+        SortOrder order = SortOrder.parse(sort);
+        if (order == null || !vehicleSortIndex.fields().contains(order.getField())) {
+            throw new UnsupportedSortException(sort, String.join(", ", vehicleSortIndex.fields()));
+        }
+        return vehicleSortIndex.findAll(order.getField(), order.isDescending(), pageable);
+    }
     
     @Override
     public Optional<Vehicle> findByUid(String uid) {
@@ -97,8 +124,56 @@ public class VehicleService implements VehicleUseCase {
         return new PageImpl<>(paginatedVehicles, pageable, filteredVehicles.size());
     }
 
-}
+    @Override
+    public Page<Vehicle> findByNameFuzzy(String name, Pageable pageable) {
+        log.debug("Fuzzy searching vehicles by name: {}", name);
+        // El índice devuelve todas las coincidencias ya ordenadas (acotadas por search.fuzzy.max-results)
+        List<Vehicle> matches = vehicleFuzzyIndex.search(name);
+        int start = (int) Math.min(pageable.getOffset(), matches.size());
+        int end = Math.min(start + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(start, end), pageable, matches.size());
+    }
 
+    // Las consultas con cursor leen la copia local que mantiene CatalogSyncService, no SWAPI
+    @Override
+    public CursorPage<Vehicle> findAllAfter(String cursor, int size, boolean includeTotal) {
+        log.debug("Finding vehicles from local store after cursor: {}", cursor);
+        return vehicleRepository.findAllAfter(cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Vehicle> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching vehicles by name from local store: {} after cursor: {}", name, cursor);
+        return vehicleRepository.findByNameContainingAfter(name, cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Vehicle> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching vehicles by name prefix from local store: {} after cursor: {}", prefix, cursor);
+        return vehicleRepository.findByNamePrefixAfter(prefix, cursor, size, includeTotal);
+    }
 
+    @Override
+    public CursorPage<Vehicle> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal) {
+        log.debug("Filtering vehicles by specs from local store: {} after cursor: {}", filter, cursor);
+        return vehicleRepository.findBySpecsAfter(filter, cursor, size, includeTotal);
+    }
+
+    @Override
+    public CursorPage<Vehicle> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal) {
+        log.debug("Searching vehicles by combined filters from local store: {} after cursor: {}", filter, cursor);
+        return vehicleRepository.findBySearchAfter(filter, cursor, size, includeTotal);
+    }
+
+    @Override
+    public FacetedPage<Vehicle> findByFacets(Map<String, Set<String>> filters, int offset, int size) {
+        log.debug("Filtering vehicles by facets: {} offset: {}", filters, offset);
+        return vehicleFacetIndex.search(filters, offset, size);
+    }
+
+    @Override
+    public long exportAll(Consumer<Vehicle> consumer) {
+        log.debug("Exporting vehicles from local store");
+        return vehicleRepository.exportAll(consumer);
+    }
+}
@@ -0,0 +1,7 @@
+package com.starwars.domain.exception;
+
+public class InvalidCursorException extends DomainException {
+    public InvalidCursorException(String cursor) {
+        super(String.format("Cursor de paginación inválido: %s", cursor));
+    }
+}
@@ -0,0 +1,7 @@
+package com.starwars.domain.exception;
+
+public class InvalidStatsQueryException extends DomainException {
+    public InvalidStatsQueryException(String message) {
+        super(message);
+    }
+}
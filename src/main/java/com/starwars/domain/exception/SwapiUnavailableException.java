@@ -0,0 +1,11 @@
+package com.starwars.domain.exception;
+
+public class SwapiUnavailableException extends DomainException {
+    public SwapiUnavailableException(String message) {
+        super(message);
+    }
+
+    public SwapiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.starwars.domain.exception;
+
+public class UnsupportedFieldException extends DomainException {
+    public UnsupportedFieldException(String resource, String field, String supported) {
+        super(String.format("Campo no soportado en %s: '%s'. Use %s.", resource, field, supported));
+    }
+}
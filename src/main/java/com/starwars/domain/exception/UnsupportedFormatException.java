@@ -0,0 +1,7 @@
+package com.starwars.domain.exception;
+
+public class UnsupportedFormatException extends DomainException {
+    public UnsupportedFormatException(String format, String supported) {
+        super(String.format("Formato no soportado: '%s'. Use %s.", format, supported));
+    }
+}
@@ -0,0 +1,7 @@
+package com.starwars.domain.exception;
+
+public class UnsupportedResourceTypeException extends DomainException {
+    public UnsupportedResourceTypeException(String type, String supported) {
+        super(String.format("Tipo de recurso no soportado: '%s'. Use %s.", type, supported));
+    }
+}
@@ -0,0 +1,11 @@
+package com.starwars.domain.exception;
+
+public class UnsupportedSortException extends DomainException {
+    public UnsupportedSortException(String sort, String supported) {
+        super(String.format("Orden no soportado: '%s'. Use %s, con ',asc' o ',desc' opcional.", sort, supported));
+    }
+
+    public UnsupportedSortException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Personaje que comparte films con otro y en cuántos coinciden.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoAppearance {
+    private String uid;
+    private String name;
+    private int sharedFilms;
+}
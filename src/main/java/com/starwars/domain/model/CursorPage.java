@@ -0,0 +1,23 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página obtenida por paginación keyset: en lugar de número de página lleva un cursor opaco
+ * hacia la siguiente. {@code nextCursor} es null en la última página y {@code totalElements}
+ * es null si no se pidió el conteo total.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private Long totalElements;
+}
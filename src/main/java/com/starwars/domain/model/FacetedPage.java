@@ -0,0 +1,23 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de un filtrado por facetas. {@code facets} trae, por atributo, cuántos elementos hay con
+ * cada valor (de mayor a menor) aplicando los filtros del resto de atributos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedPage<T> {
+    private List<T> content;
+    private long totalElements;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,20 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nodo del grafo de apariciones: un recurso del catálogo ("people", "films", "starships",
+ * "vehicles") identificado por uid, con su nombre o título.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GraphNode {
+    private String type;
+    private String uid;
+    private String name;
+}
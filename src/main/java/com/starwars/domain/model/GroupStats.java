@@ -0,0 +1,26 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Agregado de un grupo del catálogo ({@code group} null es el recurso completo). Los valores de
+ * {@code field} son null si no se pidió un campo numérico; {@code valueCount} cuenta solo los
+ * elementos con valor conocido, que son los que entran en la suma, el promedio y los extremos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupStats {
+    private String group;
+    private long count;
+    private String field;
+    private Long valueCount;
+    private Double sum;
+    private Double average;
+    private Double min;
+    private Double max;
+}
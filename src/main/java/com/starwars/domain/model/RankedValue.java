@@ -0,0 +1,19 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elemento de un ranking por un campo numérico ("las 10 naves más largas").
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedValue {
+    private String uid;
+    private String name;
+    private double value;
+}
@@ -0,0 +1,35 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros de texto combinables sobre naves y vehículos. Los campos null o vacíos no filtran;
+ * los presentes se combinan con AND. Con {@code prefix} name y model se buscan al inicio del campo,
+ * si no en cualquier posición. manufacturer y craftClass se comparan enteros, igual que las facetas:
+ * un fabricante coincide con cualquiera de los que SWAPI junta por comas. {@code craftClass} es
+ * starshipClass o vehicleClass según el recurso.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFilter {
+    private String name;
+    private String model;
+    private String manufacturer;
+    private String craftClass;
+    private boolean prefix;
+
+    public int countPresent() {
+        int count = 0;
+        for (String value : new String[]{name, model, manufacturer, craftClass}) {
+            if (value != null && !value.isBlank()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,22 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Resultado de una búsqueda de texto completo: el elemento, su puntaje de relevancia y, por campo
+ * con coincidencias, un fragmento del texto con los términos encontrados entre {@code <em>} y {@code </em>}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit<T> {
+    private T item;
+    private double score;
+    private Map<String, String> highlights;
+}
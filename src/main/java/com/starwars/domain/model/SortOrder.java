@@ -0,0 +1,31 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Orden pedido en {@code sort=campo[,asc|desc]}; sin dirección es ascendente.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SortOrder {
+    private String field;
+    private boolean descending;
+
+    /**
+     * Null si la dirección no es {@code asc} ni {@code desc}; el campo se valida contra el índice.
+     */
+    public static SortOrder parse(String sort) {
+        String[] parts = sort.split(",", -1);
+        String field = parts[0].trim();
+        String direction = parts.length > 1 ? parts[1].trim() : "asc";
+        if (parts.length > 2 || !(direction.equalsIgnoreCase("asc") || direction.equalsIgnoreCase("desc"))) {
+            return null;
+        }
+        return new SortOrder(field, direction.equalsIgnoreCase("desc"));
+    }
+}
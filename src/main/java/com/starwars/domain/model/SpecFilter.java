@@ -0,0 +1,26 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rangos sobre las especificaciones numéricas de naves y vehículos. Los límites null no filtran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpecFilter {
+    private Double minLength;
+    private Double maxLength;
+    private Long minCost;
+    private Long maxCost;
+    private Long minCrew;
+    private Long maxCrew;
+    private Long minPassengers;
+    private Long maxPassengers;
+    private Long minCargoCapacity;
+    private Long maxCargoCapacity;
+}
@@ -22,4 +22,10 @@ public class Starship {
     private String cargoCapacity;
     private String starshipClass;
     private String url;
+    // Especificaciones normalizadas a número (null si SWAPI no las conoce)
+    private Long costInCreditsValue;
+    private Double lengthValue;
+    private Long crewValue;
+    private Long passengersValue;
+    private Long cargoCapacityValue;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.starwars.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sugerencia de autocompletado: un recurso del catálogo ("films", "people", "starships",
+ * "vehicles") identificado por uid, con el nombre o título que se muestra.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Suggestion {
+    private String type;
+    private String uid;
+    private String label;
+}
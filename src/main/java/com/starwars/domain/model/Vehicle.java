@@ -22,6 +22,12 @@ public class Vehicle {
     private String cargoCapacity;
     private String vehicleClass;
     private String url;
+    // Especificaciones normalizadas a número (null si SWAPI no las conoce)
+    private Long costInCreditsValue;
+    private Double lengthValue;
+    private Long crewValue;
+    private Long passengersValue;
+    private Long cargoCapacityValue;
 }
 
 
@@ -0,0 +1,11 @@
+package com.starwars.domain.port.in;
+
+import com.starwars.domain.model.Suggestion;
+
+import java.util.List;
+import java.util.Set;
+
+public interface AutocompleteUseCase {
+    // types vacío o null busca en todos los recursos
+    List<Suggestion> suggest(String query, Set<String> types, int limit);
+}
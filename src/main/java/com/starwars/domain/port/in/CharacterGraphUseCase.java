@@ -0,0 +1,16 @@
+package com.starwars.domain.port.in;
+
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.GraphNode;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CharacterGraphUseCase {
+    List<CoAppearance> coAppearances(String personUid, int limit);
+
+    CoAppearance coAppearance(String personUid, String otherUid);
+
+    // via vacío o null permite pasar por films, naves y vehículos
+    List<GraphNode> shortestPath(String fromUid, String toUid, Set<String> via);
+}
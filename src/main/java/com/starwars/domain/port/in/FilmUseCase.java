@@ -1,16 +1,33 @@
 package com.starwars.domain.port.in;
 
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.SearchHit;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface FilmUseCase {
     Page<Film> findAll(Pageable pageable);
+    // Catálogo local ordenado por sort=campo[,asc|desc] desde las permutaciones precalculadas
+    Page<Film> findAllSorted(String sort, Pageable pageable);
     Optional<Film> findByUid(String uid);
     Page<Film> findByTitleContaining(String title, Pageable pageable);
+    // Búsqueda tolerante a errores de tipeo sobre el catálogo local, de la coincidencia más cercana a la más lejana
+    Page<Film> findByTitleFuzzy(String title, Pageable pageable);
+    // Texto completo sobre título, director, productores y crawl, del más relevante al menos relevante (BM25)
+    Page<SearchHit<Film>> searchText(String text, Pageable pageable);
 
-}
-
+    // Relaciones del catálogo local; vacío si el film no está sincronizado
+    Optional<List<People>> findCharacters(String uid);
+    Optional<List<Starship>> findStarships(String uid);
+    Optional<List<Vehicle>> findVehicles(String uid);
 
+    // Exportación del catálogo local elemento a elemento; devuelve cuántos se exportaron
+    long exportAll(Consumer<Film> consumer);
+}
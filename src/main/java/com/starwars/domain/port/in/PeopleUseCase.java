@@ -1,15 +1,30 @@
 package com.starwars.domain.port.in;
 
+import com.starwars.domain.model.Film;
 import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PeopleUseCase {
     Page<People> findAll(Pageable pageable);
+    // Catálogo local ordenado por sort=campo[,asc|desc] desde las permutaciones precalculadas
+    Page<People> findAllSorted(String sort, Pageable pageable);
     Optional<People> findByUid(String uid);
     Page<People> findByNameContaining(String name, Pageable pageable);
-}
+    // Búsqueda tolerante a errores de tipeo sobre el catálogo local, de la coincidencia más cercana a la más lejana
+    Page<People> findByNameFuzzy(String name, Pageable pageable);
 
+    // Relaciones del catálogo local; vacío si el personaje no está sincronizado
+    Optional<List<Film>> findFilms(String uid);
+    Optional<List<Starship>> findStarships(String uid);
+    Optional<List<Vehicle>> findVehicles(String uid);
 
+    // Exportación del catálogo local elemento a elemento; devuelve cuántos se exportaron
+    long exportAll(Consumer<People> consumer);
+}
@@ -1,15 +1,35 @@
 package com.starwars.domain.port.in;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Starship;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface StarshipUseCase {
     Page<Starship> findAll(Pageable pageable);
+    // Catálogo local ordenado por sort=campo[,asc|desc] desde las permutaciones precalculadas
+    Page<Starship> findAllSorted(String sort, Pageable pageable);
     Optional<Starship> findByUid(String uid);
     Page<Starship> findByNameContaining(String name, Pageable pageable);
-}
+    // Búsqueda tolerante a errores de tipeo sobre el catálogo local, de la coincidencia más cercana a la más lejana
+    Page<Starship> findByNameFuzzy(String name, Pageable pageable);
+    CursorPage<Starship> findAllAfter(String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal);
 
+    // Filtrado por facetas sobre el índice en memoria del catálogo local (OR dentro de un atributo, AND entre atributos)
+    FacetedPage<Starship> findByFacets(Map<String, Set<String>> filters, int offset, int size);
 
+    // Exportación del catálogo local elemento a elemento; devuelve cuántos se exportaron
+    long exportAll(Consumer<Starship> consumer);
+}
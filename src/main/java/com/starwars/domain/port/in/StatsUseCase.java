@@ -0,0 +1,14 @@
+package com.starwars.domain.port.in;
+
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+
+import java.util.List;
+
+public interface StatsUseCase {
+    // order: "desc" (mayores primero) o "asc"
+    List<RankedValue> top(String resource, String field, int k, String order);
+
+    // groupBy y field son opcionales
+    List<GroupStats> aggregate(String resource, String groupBy, String field);
+}
@@ -1,15 +1,35 @@
 package com.starwars.domain.port.in;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface VehicleUseCase {
     Page<Vehicle> findAll(Pageable pageable);
+    // Catálogo local ordenado por sort=campo[,asc|desc] desde las permutaciones precalculadas
+    Page<Vehicle> findAllSorted(String sort, Pageable pageable);
     Optional<Vehicle> findByUid(String uid);
     Page<Vehicle> findByNameContaining(String name, Pageable pageable);
-}
+    // Búsqueda tolerante a errores de tipeo sobre el catálogo local, de la coincidencia más cercana a la más lejana
+    Page<Vehicle> findByNameFuzzy(String name, Pageable pageable);
+    CursorPage<Vehicle> findAllAfter(String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal);
 
+    // Filtrado por facetas sobre el índice en memoria del catálogo local (OR dentro de un atributo, AND entre atributos)
+    FacetedPage<Vehicle> findByFacets(Map<String, Set<String>> filters, int offset, int size);
 
+    // Exportación del catálogo local elemento a elemento; devuelve cuántos se exportaron
+    long exportAll(Consumer<Vehicle> consumer);
+}
@@ -0,0 +1,32 @@
+package com.starwars.domain.port.out;
+
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.GraphNode;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CharacterGraph {
+
+    // Tipos de nodo por los que puede pasar un camino entre personajes ("films", "starships", "vehicles")
+    Set<String> linkTypes();
+
+    /**
+     * Personajes que comparten al menos un film con {@code personUid}, del que más comparte al que
+     * menos. Vacío si el personaje no está en el grafo.
+     */
+    Optional<List<CoAppearance>> coAppearances(String personUid, int limit);
+
+    /**
+     * Films que comparten dos personajes (0 si ninguno), con el nombre de {@code otherUid}. Vacío si
+     * alguno de los dos no está en el grafo.
+     */
+    Optional<CoAppearance> coAppearance(String personUid, String otherUid);
+
+    /**
+     * Camino más corto entre dos personajes pasando solo por nodos de {@code via}, con los dos
+     * extremos incluidos; lista vacía si no hay conexión. Vacío si alguno no está en el grafo.
+     */
+    Optional<List<GraphNode>> shortestPath(String fromUid, String toUid, Set<String> via);
+}
@@ -0,0 +1,16 @@
+package com.starwars.domain.port.out;
+
+import com.starwars.domain.model.FacetedPage;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface FacetIndex<T> {
+
+    /**
+     * Filtra por valores de atributos: los valores de un mismo atributo se combinan con OR y los
+     * atributos entre sí con AND (la comparación ignora mayúsculas). Devuelve los elementos
+     * [{@code offset}, {@code offset + size}) en orden de nombre y el conteo de cada faceta.
+     */
+    FacetedPage<T> search(Map<String, Set<String>> filters, int offset, int size);
+}
@@ -1,14 +1,53 @@
 package com.starwars.domain.port.out;
 
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface FilmRepository {
+    /**
+     * Listado sin {@code openingCrawl}; el texto completo solo viene en {@link #findById}.
+     */
     Page<Film> findAll(Pageable pageable);
     Optional<Film> findById(Long id);
-}
 
+    /**
+     * Búsqueda por título sin distinguir mayúsculas ni acentos. Como el listado, no trae {@code openingCrawl}.
+     */
+    Page<Film> findByTitleContaining(String title, Pageable pageable);
+
+    /**
+     * Inserta o actualiza por uid todos los films y reemplaza sus enlaces con personajes, naves y vehículos.
+     * Los mapas van del uid de cada film a los uids relacionados; un film sin entrada queda sin enlaces de ese tipo.
+     */
+    int upsertAll(Collection<Film> films, Map<String, List<String>> characterUids,
+                  Map<String, List<String>> starshipUids, Map<String, List<String>> vehicleUids);
+
+    /**
+     * Relacionados de un film, ordenados por nombre. Vacío si el film no está en la base local.
+     */
+    Optional<List<People>> findCharacters(String filmUid);
+    Optional<List<Starship>> findStarships(String filmUid);
+    Optional<List<Vehicle>> findVehicles(String filmUid);
 
+    /**
+     * Recorre todo el catálogo local en orden de id y entrega cada elemento a {@code consumer}
+     * sin acumularlos en memoria. Devuelve cuántos se entregaron.
+     */
+    long exportAll(Consumer<Film> consumer);
+
+    /**
+     * Todos los enlaces de films con personajes: {@code consumer} recibe el uid del film y el del personaje.
+     */
+    void exportCharacterLinks(BiConsumer<String, String> consumer);
+}
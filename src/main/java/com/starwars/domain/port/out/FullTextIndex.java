@@ -0,0 +1,14 @@
+package com.starwars.domain.port.out;
+
+import com.starwars.domain.model.SearchHit;
+
+import java.util.List;
+
+public interface FullTextIndex<T> {
+
+    /**
+     * Elementos con alguno de los términos de {@code text} (tras quitar palabras vacías y reducir a su
+     * raíz), del más relevante al menos relevante según BM25.
+     */
+    List<SearchHit<T>> search(String text);
+}
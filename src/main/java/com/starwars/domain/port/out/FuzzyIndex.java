@@ -0,0 +1,13 @@
+package com.starwars.domain.port.out;
+
+import java.util.List;
+
+public interface FuzzyIndex<T> {
+
+    /**
+     * Elementos cuyo nombre, o alguna de sus palabras, está a una distancia de edición acotada de
+     * {@code query} (la cota crece con el largo de la consulta). Ordenados del más cercano al más
+     * lejano y, a igual distancia, del más popular al menos popular.
+     */
+    List<T> search(String query);
+}
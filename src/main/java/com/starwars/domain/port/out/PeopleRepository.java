@@ -1,15 +1,53 @@
 package com.starwars.domain.port.out;
 
+import com.starwars.domain.model.Film;
 import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface PeopleRepository {
     Page<People> findAll(Pageable pageable);
     Optional<People> findById(Long id);
 
-}
+    /**
+     * Búsqueda por nombre sin distinguir mayúsculas ni acentos.
+     */
+    Page<People> findByNameContaining(String name, Pageable pageable);
+
+    /**
+     * Inserta o actualiza por uid todos los personajes y reemplaza sus enlaces con naves y vehículos.
+     * Los mapas van del uid de cada personaje a los uids relacionados; sin entrada queda sin enlaces de ese tipo.
+     */
+    int upsertAll(Collection<People> people, Map<String, List<String>> starshipUids,
+                  Map<String, List<String>> vehicleUids);
 
+    /**
+     * Relacionados de un personaje (films por episodio, el resto por nombre).
+     * Vacío si el personaje no está en la base local.
+     */
+    Optional<List<Film>> findFilms(String personUid);
+    Optional<List<Starship>> findStarships(String personUid);
+    Optional<List<Vehicle>> findVehicles(String personUid);
 
+    /**
+     * Recorre todo el catálogo local en orden de id y entrega cada elemento a {@code consumer}
+     * sin acumularlos en memoria. Devuelve cuántos se entregaron.
+     */
+    long exportAll(Consumer<People> consumer);
+
+    /**
+     * Todos los enlaces de personajes con naves y vehículos: {@code consumer} recibe el uid del
+     * personaje y el del relacionado.
+     */
+    void exportStarshipLinks(BiConsumer<String, String> consumer);
+    void exportVehicleLinks(BiConsumer<String, String> consumer);
+}
@@ -0,0 +1,18 @@
+package com.starwars.domain.port.out;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+public interface SortIndex<T> {
+
+    // Campos por los que se puede ordenar
+    Set<String> fields();
+
+    /**
+     * Página del catálogo local ordenada por {@code field}; los elementos sin valor en el campo
+     * van al final en ambos sentidos.
+     */
+    Page<T> findAll(String field, boolean descending, Pageable pageable);
+}
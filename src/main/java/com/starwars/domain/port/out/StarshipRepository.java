@@ -1,21 +1,49 @@
 package com.starwars.domain.port.out;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Starship;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface StarshipRepository {
     Page<Starship> findAll(Pageable pageable);
     Optional<Starship> findById(Long id);
     Optional<Starship> findByUid(String uid);
     Page<Starship> findByNameContaining(String name, Pageable pageable);
-    Starship save(Starship starship);
-    void deleteById(Long id);
-    boolean existsByUid(String uid);
-}
 
+    /**
+     * Paginación keyset ordenada por nombre e id. {@code cursor} null o vacío pide la primera página;
+     * el conteo total solo se calcula si {@code includeTotal} es true.
+     */
+    CursorPage<Starship> findAllAfter(String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal);
+    CursorPage<Starship> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal);
 
+    /**
+     * Combina en una sola consulta los filtros de texto presentes (nombre, modelo, fabricante, clase),
+     * con la misma paginación keyset que {@link #findAllAfter}.
+     */
+    CursorPage<Starship> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal);
+    Starship save(Starship starship);
 
+    /**
+     * Inserta o actualiza por uid todos los elementos en pocas sentencias batch.
+     * Los que ya existen conservan su id.
+     */
+    int upsertAll(Collection<Starship> starships);
+    void deleteById(Long id);
+    boolean existsByUid(String uid);
 
+    /**
+     * Recorre todo el catálogo local en orden de id y entrega cada elemento a {@code consumer}
+     * sin acumularlos en memoria. Devuelve cuántos se entregaron.
+     */
+    long exportAll(Consumer<Starship> consumer);
+}
@@ -0,0 +1,35 @@
+package com.starwars.domain.port.out;
+
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+
+import java.util.List;
+import java.util.Set;
+
+public interface StatsIndex {
+
+    // Recurso del catálogo tal como lo publica CatalogSyncedEvent
+    String resource();
+
+    // Campos numéricos sobre los que se agrega y se arman rankings
+    Set<String> fields();
+
+    // Atributos por los que se puede agrupar
+    Set<String> groupings();
+
+    // Tope de 'k' en los rankings
+    int maxTop();
+
+    /**
+     * Los {@code k} elementos con mayor valor en {@code field} (o menor si {@code ascending});
+     * los desconocidos no entran.
+     */
+    List<RankedValue> top(String field, int k, boolean ascending);
+
+    /**
+     * Conteo por valor de {@code groupBy} (de mayor a menor) y, si {@code field} no es null, suma,
+     * promedio, mínimo y máximo de ese campo en cada grupo. Sin {@code groupBy} hay un solo grupo
+     * con todo el recurso.
+     */
+    List<GroupStats> aggregate(String groupBy, String field);
+}
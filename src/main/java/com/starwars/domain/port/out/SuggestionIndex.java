@@ -0,0 +1,18 @@
+package com.starwars.domain.port.out;
+
+import com.starwars.domain.model.Suggestion;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SuggestionIndex {
+
+    // Tipos de recurso indexados, en el orden en que se devuelven ante un empate
+    Set<String> types();
+
+    /**
+     * Hasta {@code limit} recursos de los tipos pedidos cuyo nombre (o alguna de sus palabras)
+     * empieza con {@code prefix}, del más popular al menos popular.
+     */
+    List<Suggestion> suggest(String prefix, Set<String> types, int limit);
+}
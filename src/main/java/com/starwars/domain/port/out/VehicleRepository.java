@@ -1,19 +1,47 @@
 package com.starwars.domain.port.out;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface VehicleRepository {
     Page<Vehicle> findAll(Pageable pageable);
     Optional<Vehicle> findById(Long id);
+    Optional<Vehicle> findByUid(String uid);
     Page<Vehicle> findByNameContaining(String name, Pageable pageable);
-
-
+    Vehicle save(Vehicle vehicle);
+
+    /**
+     * Inserta o actualiza por uid todos los elementos en pocas sentencias batch.
+     * Los que ya existen conservan su id.
+     */
+    int upsertAll(Collection<Vehicle> vehicles);
+
+    /**
+     * Paginación keyset ordenada por nombre e id. {@code cursor} null o vacío pide la primera página;
+     * el conteo total solo se calcula si {@code includeTotal} es true.
+     */
+    CursorPage<Vehicle> findAllAfter(String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal);
+    CursorPage<Vehicle> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal);
+
+    /**
+     * Combina en una sola consulta los filtros de texto presentes (nombre, modelo, fabricante, clase),
+     * con la misma paginación keyset que {@link #findAllAfter}.
+     */
+    CursorPage<Vehicle> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal);
+
+    /**
+     * Recorre todo el catálogo local en orden de id y entrega cada elemento a {@code consumer}
+     * sin acumularlos en memoria. Devuelve cuántos se entregaron.
+     */
+    long exportAll(Consumer<Vehicle> consumer);
 }
-
-
-
-
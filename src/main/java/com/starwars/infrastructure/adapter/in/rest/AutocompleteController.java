@@ -0,0 +1,42 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.dto.response.SuggestionResponse;
+import com.starwars.application.mapper.SuggestionMapper;
+import com.starwars.domain.port.in.AutocompleteUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@Tag(name = "Autocomplete", description = "Name and title suggestions from the local catalog")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteUseCase autocompleteUseCase;
+    private final SuggestionMapper suggestionMapper;
+
+    @Operation(summary = "Suggest films, people, starships and vehicles whose name (or any word of it) starts with 'q', "
+            + "most popular first. 'types' is a comma-separated subset (all by default)")
+    @GetMapping
+    public ResponseEntity<StandardResponse<List<SuggestionResponse>>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<String> types,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = autocompleteUseCase.suggest(q, types, limit).stream()
+                .map(suggestionMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(suggestions));
+    }
+}
@@ -0,0 +1,95 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.starwars.domain.exception.UnsupportedFormatException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Escribe colecciones completas del catálogo local como NDJSON (un objeto por línea) o como un array JSON.
+ * <p>
+ * Cada elemento se serializa apenas sale de la base y el generador se vacía cada {@value #FLUSH_EVERY}
+ * elementos, así que la memoria no depende del tamaño de la colección: no hay lista intermedia ni
+ * {@code StandardResponse} envolviendo el resultado.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CollectionExporter {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param resource nombre del recurso, usado en el nombre del archivo descargado
+     * @param format   {@code ndjson} o {@code json}
+     * @param source   recorre la colección entregando cada elemento (p. ej. {@code starshipUseCase::exportAll})
+     * @param mapper   conversión de cada elemento a su DTO de respuesta
+     * @throws UnsupportedFormatException si {@code format} no es ninguno de los dos
+     */
+    public <D, R> ResponseEntity<StreamingResponseBody> export(String resource, String format, ToLongFunction<Consumer<D>> source,
+                                           Function<D, R> mapper) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"json".equalsIgnoreCase(format)) {
+            throw new UnsupportedFormatException(format, "'ndjson' o 'json'");
+        }
+        // Sin FLUSH_AFTER_WRITE_VALUE: se vacía por bloques y no en cada elemento
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            long start = System.currentTimeMillis();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                long[] written = {0};
+                if (ndjson) {
+                    // Jackson separa los valores raíz con este separador: una línea por elemento
+                    generator.setRootValueSeparator(new SerializedString("\n"));
+                } else {
+                    generator.writeStartArray();
+                }
+                long exported = source.applyAsLong(item -> {
+                    try {
+                        writer.writeValue(generator, mapper.apply(item));
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (ndjson) {
+                    if (exported > 0) {
+                        generator.writeRaw('\n');
+                    }
+                } else {
+                    generator.writeEndArray();
+                }
+                log.debug("Exported {} {} as {} in {} ms", exported, resource, ndjson ? "NDJSON" : "JSON",
+                        System.currentTimeMillis() - start);
+            } catch (UncheckedIOException e) {
+                // Normalmente el cliente cerró la conexión a mitad de la descarga
+                throw e.getCause();
+            }
+        };
+        String extension = ndjson ? "ndjson" : "json";
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource + "." + extension + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,32 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.starwars.application.mapper.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Interpreta {@code fields=} una vez por petición para los controladores que declaran un parámetro
+ * {@link FieldSelection}, y la deja en la petición para que {@link FieldSelectionResponseAdvice}
+ * filtre la serialización con la misma selección.
+ */
+public class FieldSelectionArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String ATTRIBUTE = FieldSelection.class.getName();
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return FieldSelection.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        FieldSelection selection = FieldSelection.parse(webRequest.getParameter(FieldSelection.PARAMETER));
+        webRequest.setAttribute(ATTRIBUTE, selection, RequestAttributes.SCOPE_REQUEST);
+        return selection;
+    }
+}
@@ -0,0 +1,73 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.starwars.application.mapper.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Con {@code fields=} serializa de los DTOs de recursos solo los campos pedidos, con la selección que
+ * dejó en la petición {@link FieldSelectionArgumentResolver}. El filtro de cada conjunto de campos se
+ * arma una vez y se reutiliza; Jackson conserva en caché los serializadores de cada DTO, así que por
+ * petición no hay reflexión, solo una búsqueda en un set por propiedad.
+ */
+@RestControllerAdvice
+public class FieldSelectionResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    // Tope de conjuntos distintos guardados: los siguientes se arman en cada petición
+    private static final int MAX_CACHED = 512;
+
+    private final Map<String, FilterProvider> filters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        FieldSelection selection = selection(request);
+        if (body == null || selection == null || selection.isAll()) {
+            return body;
+        }
+        MappingJacksonValue value = body instanceof MappingJacksonValue wrapped ? wrapped : new MappingJacksonValue(body);
+        value.setFilters(filter(selection));
+        return value;
+    }
+
+    // La que interpretó FieldSelectionArgumentResolver; null si el endpoint no recibe 'fields'
+    private static FieldSelection selection(ServerHttpRequest request) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            return (FieldSelection) servletRequest.getServletRequest().getAttribute(FieldSelectionArgumentResolver.ATTRIBUTE);
+        }
+        return null;
+    }
+
+    private FilterProvider filter(FieldSelection selection) {
+        FilterProvider cached = filters.get(selection.key());
+        if (cached != null) {
+            return cached;
+        }
+        FilterProvider provider = new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(selection.fields()));
+        if (filters.size() < MAX_CACHED) {
+            filters.putIfAbsent(selection.key(), provider);
+        }
+        return provider;
+    }
+}
@@ -2,10 +2,19 @@ package com.starwars.infrastructure.adapter.in.rest;
 
 import com.starwars.application.dto.response.FilmResponse;
 import com.starwars.application.dto.response.PageResponse;
+import com.starwars.application.dto.response.PeopleResponse;
+import com.starwars.application.dto.response.SearchHitResponse;
 import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.dto.response.StarshipResponse;
+import com.starwars.application.dto.response.VehicleResponse;
+import com.starwars.application.mapper.FieldSelection;
 import com.starwars.application.mapper.FilmMapper;
+import com.starwars.application.mapper.PeopleMapper;
+import com.starwars.application.mapper.StarshipMapper;
+import com.starwars.application.mapper.VehicleMapper;
 import com.starwars.domain.exception.ResourceNotFoundException;
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.SearchHit;
 import com.starwars.domain.port.in.FilmUseCase;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
@@ -19,6 +28,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,22 +42,31 @@ public class FilmController {
     
     private final FilmUseCase filmUseCase;
     private final FilmMapper filmMapper;
+    private final CollectionExporter collectionExporter;
+    private final PeopleMapper peopleMapper;
+    private final StarshipMapper starshipMapper;
+    private final VehicleMapper vehicleMapper;
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
     
-    @Operation(summary = "Get films paginated (page is 1-based)")
+    @Operation(summary = "Get films paginated (page is 1-based). "
+            + "sort=title|releaseDate|episodeId[,asc|desc] pages over the local catalog in that order")
     @GetMapping
     public ResponseEntity<StandardResponse<PageResponse<FilmResponse>>> getAllFilms(
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            FieldSelection fields) {
+        filmMapper.requireKnown(fields);
         int requestedPage = (page == null || page < 1) ? 1 : page;
         int requestedSize = (size == null || size < 1) ? 10 : size;
         Pageable pageable = PageRequest.of(requestedPage - 1, requestedSize);
-        Page<Film> filmPage = filmUseCase.findAll(pageable);
+        // Con sort se pagina sobre el orden precalculado del catálogo local
+        Page<Film> filmPage = sort == null ? filmUseCase.findAll(pageable) : filmUseCase.findAllSorted(sort, pageable);
         
         PageResponse<FilmResponse> pageData = PageResponse.<FilmResponse>builder()
                 .content(filmPage.getContent().stream()
-                        .map(filmMapper::toResponse)
+                        .map(film -> filmMapper.toResponse(film, fields))
                         .toList())
                 .pageNumber(requestedPage)
                 .pageSize(filmPage.getSize())
@@ -61,21 +80,56 @@ public class FilmController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Search films by id and/or title (page is 1-based)")
+    @Operation(summary = "Export every film of the local catalog, streamed as NDJSON (default) or as a JSON array")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportFilms(@RequestParam(required = false, defaultValue = "ndjson") String format) {
+        return collectionExporter.export("films", format, filmUseCase::exportAll, filmMapper::toResponse);
+    }
+
+    @Operation(summary = "Search films by id and/or title (page is 1-based). "
+            + "With fuzzy=true the title tolerates typos (bounded edit distance, closest and most popular first); "
+            + "fuzzy requires 'title' and cannot be combined with 'text'. "
+            + "'text' runs a BM25-ranked full-text search over title, director, producer and opening crawl, with highlighted snippets")
     @GetMapping("/search")
     public ResponseEntity<StandardResponse<?>> searchFilms(
             @RequestParam(required = false) String id,
             @RequestParam(required = false, name = "title") String title,
+            @RequestParam(required = false) String text,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+            FieldSelection fields) {
+        filmMapper.requireKnown(fields);
         // Si hay ID, devolver solo ese registro
         if (id != null && !id.isEmpty()) {
             Film film = filmUseCase.findByUid(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Film", id));
-            StandardResponse<FilmResponse> response = StandardResponse.exito(filmMapper.toResponse(film));
+            StandardResponse<FilmResponse> response = StandardResponse.exito(filmMapper.toResponse(film, fields));
             return ResponseEntity.ok(response);
         }
 
+        boolean hasTitle = title != null && !title.isEmpty();
+        boolean hasText = text != null && !text.isBlank();
+
+        // Búsqueda aproximada por título sobre el índice en memoria; igual que en los demás recursos,
+        // sin título o combinada con otro filtro es un error y no se ignora
+        if (fuzzy) {
+            if (!hasTitle || hasText) {
+                StandardResponse<?> response = StandardResponse.error("La búsqueda aproximada ('fuzzy') solo admite el parámetro 'title'.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(StandardResponse.exito(searchByTitleFuzzy(title, page, size, fields)));
+        }
+
+        // Texto completo sobre el índice en memoria del catálogo local; no se combina con 'title'
+        if (hasText) {
+            if (hasTitle) {
+                StandardResponse<?> response = StandardResponse.error("'text' no se puede combinar con 'title'.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(StandardResponse.exito(searchByText(text, page, size, fields)));
+        }
+
         // Si hay título, buscar por título
         if (title != null && !title.isEmpty()) {
             Pageable pageable = null;
@@ -91,10 +145,48 @@ public class FilmController {
         }
 
         // Si no hay filtros, devolver 400
-        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id' o 'title'.");
+        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id', 'title' o 'text'.");
         return ResponseEntity.badRequest().body(response);
     }
+
+    // Relaciones: salen del catálogo local en una sola consulta, sin volver a llamar a SWAPI
+    @Operation(summary = "Get the characters of a film (local catalog)")
+    @GetMapping("/{uid}/characters")
+    public ResponseEntity<StandardResponse<List<PeopleResponse>>> getFilmCharacters(@PathVariable String uid, FieldSelection fields) {
+        peopleMapper.requireKnown(fields);
+        List<PeopleResponse> characters = filmUseCase.findCharacters(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("Film", uid))
+                .stream()
+                .map(person -> peopleMapper.toResponse(person, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(characters));
+    }
+
+    @Operation(summary = "Get the starships of a film (local catalog)")
+    @GetMapping("/{uid}/starships")
+    public ResponseEntity<StandardResponse<List<StarshipResponse>>> getFilmStarships(@PathVariable String uid, FieldSelection fields) {
+        starshipMapper.requireKnown(fields);
+        List<StarshipResponse> starships = filmUseCase.findStarships(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("Film", uid))
+                .stream()
+                .map(starship -> starshipMapper.toResponse(starship, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(starships));
+    }
+
+    @Operation(summary = "Get the vehicles of a film (local catalog)")
+    @GetMapping("/{uid}/vehicles")
+    public ResponseEntity<StandardResponse<List<VehicleResponse>>> getFilmVehicles(@PathVariable String uid, FieldSelection fields) {
+        vehicleMapper.requireKnown(fields);
+        List<VehicleResponse> vehicles = filmUseCase.findVehicles(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("Film", uid))
+                .stream()
+                .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(vehicles));
+    }
     
+    // Completas: searchByTitle filtra por el título aunque no se haya pedido; 'fields' se aplica al serializar
     private List<FilmResponse> getAll() {
         List<SwapiFilmDTO> allDtos = swapiClient.fetchAll("films", SwapiFilmDTO.class);
         return allDtos.stream()
@@ -103,6 +195,41 @@ public class FilmController {
                 .collect(Collectors.toList());
     }
     
+    private PageResponse<SearchHitResponse<FilmResponse>> searchByText(String text, Integer page, Integer size,
+                                                                    FieldSelection fields) {
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Page<SearchHit<Film>> hits = filmUseCase.searchText(text, PageRequest.of(requestedPage - 1, requestedSize));
+        return PageResponse.<SearchHitResponse<FilmResponse>>builder()
+                .content(hits.getContent().stream()
+                        .map(hit -> filmMapper.toSearchHitResponse(hit, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(hits.getTotalElements())
+                .totalPages(hits.getTotalPages())
+                .last(hits.isLast())
+                .first(hits.isFirst())
+                .build();
+    }
+
+    private PageResponse<FilmResponse> searchByTitleFuzzy(String title, Integer page, Integer size, FieldSelection fields) {
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Page<Film> matches = filmUseCase.findByTitleFuzzy(title, PageRequest.of(requestedPage - 1, requestedSize));
+        return PageResponse.<FilmResponse>builder()
+                .content(matches.getContent().stream()
+                        .map(film -> filmMapper.toResponse(film, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(matches.getTotalElements())
+                .totalPages(matches.getTotalPages())
+                .last(matches.isLast())
+                .first(matches.isFirst())
+                .build();
+    }
+
     private PageResponse<FilmResponse> searchByTitle(String title, Pageable pageable, Integer requestedPage) {
         List<FilmResponse> allFilms = getAll();
 
@@ -114,7 +241,7 @@ public class FilmController {
         if (pageable == null) {
             return PageResponse.<FilmResponse>builder()
                     .content(filteredFilms)
-                    .totalElements(filteredFilms.size())
+                    .totalElements((long) filteredFilms.size())
                     .build();
         }
         
@@ -126,7 +253,7 @@ public class FilmController {
                     .content(List.of())
                     .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                     .pageSize(pageable.getPageSize())
-                    .totalElements(filteredFilms.size())
+                    .totalElements((long) filteredFilms.size())
                     .build();
         }
         
@@ -136,7 +263,7 @@ public class FilmController {
                 .content(paginatedFilms)
                 .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                 .pageSize(pageable.getPageSize())
-                .totalElements(filteredFilms.size())
+                .totalElements((long) filteredFilms.size())
                 .totalPages((int) Math.ceil((double) filteredFilms.size() / pageable.getPageSize()))
                 .last(end >= filteredFilms.size())
                 .first(start == 0)
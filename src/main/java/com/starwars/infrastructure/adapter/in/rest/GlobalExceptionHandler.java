@@ -2,7 +2,13 @@ package com.starwars.infrastructure.adapter.in.rest;
 
 import com.starwars.application.dto.response.StandardResponse;
 import com.starwars.domain.exception.AuthenticationException;
+import com.starwars.domain.exception.InvalidCursorException;
+import com.starwars.domain.exception.InvalidStatsQueryException;
 import com.starwars.domain.exception.ResourceNotFoundException;
+import com.starwars.domain.exception.UnsupportedFieldException;
+import com.starwars.domain.exception.UnsupportedFormatException;
+import com.starwars.domain.exception.UnsupportedResourceTypeException;
+import com.starwars.domain.exception.UnsupportedSortException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -28,6 +34,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
     
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<StandardResponse<?>> handleInvalidCursor(InvalidCursorException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+    
+    @ExceptionHandler(UnsupportedFormatException.class)
+    public ResponseEntity<StandardResponse<?>> handleUnsupportedFormat(UnsupportedFormatException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+    
+    @ExceptionHandler(UnsupportedResourceTypeException.class)
+    public ResponseEntity<StandardResponse<?>> handleUnsupportedResourceType(UnsupportedResourceTypeException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+    
+    @ExceptionHandler(UnsupportedSortException.class)
+    public ResponseEntity<StandardResponse<?>> handleUnsupportedSort(UnsupportedSortException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(UnsupportedFieldException.class)
+    public ResponseEntity<StandardResponse<?>> handleUnsupportedField(UnsupportedFieldException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(InvalidStatsQueryException.class)
+    public ResponseEntity<StandardResponse<?>> handleInvalidStatsQuery(InvalidStatsQueryException ex) {
+        StandardResponse<?> response = StandardResponse.error(ex.getMessage());
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<StandardResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -0,0 +1,64 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.starwars.application.dto.response.CoAppearanceResponse;
+import com.starwars.application.dto.response.GraphNodeResponse;
+import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.mapper.GraphMapper;
+import com.starwars.domain.port.in.CharacterGraphUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@Tag(name = "Graph", description = "Character co-appearances and connections from an in-memory graph of the local catalog")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/graph")
+@RequiredArgsConstructor
+public class GraphController {
+
+    private final CharacterGraphUseCase characterGraphUseCase;
+    private final GraphMapper graphMapper;
+
+    @Operation(summary = "Characters sharing at least one film with the given one, most shared films first")
+    @GetMapping("/people/{uid}/co-appearances")
+    public ResponseEntity<StandardResponse<List<CoAppearanceResponse>>> coAppearances(
+            @PathVariable String uid,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        List<CoAppearanceResponse> coAppearances = characterGraphUseCase.coAppearances(uid, limit).stream()
+                .map(graphMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(coAppearances));
+    }
+
+    @Operation(summary = "Number of films two characters share (0 if none)")
+    @GetMapping("/people/{uid}/co-appearances/{otherUid}")
+    public ResponseEntity<StandardResponse<CoAppearanceResponse>> coAppearance(
+            @PathVariable String uid,
+            @PathVariable String otherUid) {
+        return ResponseEntity.ok(StandardResponse.exito(
+                graphMapper.toResponse(characterGraphUseCase.coAppearance(uid, otherUid))));
+    }
+
+    @Operation(summary = "Shortest connection between two characters through films, starships or vehicles. "
+            + "'via' is a comma-separated subset (all by default); an empty list means they are not connected")
+    @GetMapping("/people/path")
+    public ResponseEntity<StandardResponse<List<GraphNodeResponse>>> shortestPath(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) Set<String> via) {
+        List<GraphNodeResponse> path = characterGraphUseCase.shortestPath(from, to, via).stream()
+                .map(graphMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(path));
+    }
+}
@@ -1,9 +1,16 @@
 package com.starwars.infrastructure.adapter.in.rest;
 
+import com.starwars.application.dto.response.FilmResponse;
 import com.starwars.application.dto.response.PageResponse;
 import com.starwars.application.dto.response.PeopleResponse;
 import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.dto.response.StarshipResponse;
+import com.starwars.application.dto.response.VehicleResponse;
+import com.starwars.application.mapper.FieldSelection;
+import com.starwars.application.mapper.FilmMapper;
 import com.starwars.application.mapper.PeopleMapper;
+import com.starwars.application.mapper.StarshipMapper;
+import com.starwars.application.mapper.VehicleMapper;
 import com.starwars.domain.exception.ResourceNotFoundException;
 import com.starwars.domain.model.People;
 import com.starwars.domain.port.in.PeopleUseCase;
@@ -19,6 +26,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,21 +40,28 @@ public class PeopleController {
     
     private final PeopleUseCase peopleUseCase;
     private final PeopleMapper peopleMapper;
+    private final CollectionExporter collectionExporter;
+    private final FilmMapper filmMapper;
+    private final StarshipMapper starshipMapper;
+    private final VehicleMapper vehicleMapper;
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
     
-    @Operation(summary = "Get all people with pagination")
+    @Operation(summary = "Get all people with pagination. sort=name[,asc|desc] pages over the local catalog in that order")
     @GetMapping
     public ResponseEntity<StandardResponse<PageResponse<PeopleResponse>>> getAllPeople(
             @RequestParam(required = false, defaultValue = "0") Integer page,
-            @RequestParam(required = false, defaultValue = "10") Integer size) {
-        
+            @RequestParam(required = false, defaultValue = "10") Integer size,
+            @RequestParam(required = false) String sort,
+            FieldSelection fields) {
+        peopleMapper.requireKnown(fields);
         Pageable pageable = PageRequest.of(page, size);
-        Page<People> peoplePage = peopleUseCase.findAll(pageable);
+        // Con sort se pagina sobre el orden precalculado del catálogo local
+        Page<People> peoplePage = sort == null ? peopleUseCase.findAll(pageable) : peopleUseCase.findAllSorted(sort, pageable);
         
         PageResponse<PeopleResponse> pageData = PageResponse.<PeopleResponse>builder()
                 .content(peoplePage.getContent().stream()
-                        .map(peopleMapper::toResponse)
+                        .map(people -> peopleMapper.toResponse(people, fields))
                         .toList())
                 .pageNumber(peoplePage.getNumber())
                 .pageSize(peoplePage.getSize())
@@ -60,27 +75,48 @@ public class PeopleController {
         return ResponseEntity.ok(response);
     }
     
-    @Operation(summary = "Search people by id and/or name")
+    @Operation(summary = "Export every person of the local catalog, streamed as NDJSON (default) or as a JSON array")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPeople(@RequestParam(required = false, defaultValue = "ndjson") String format) {
+        return collectionExporter.export("people", format, peopleUseCase::exportAll, peopleMapper::toResponse);
+    }
+
+    @Operation(summary = "Search people by id and/or name. "
+            + "With fuzzy=true the name tolerates typos (bounded edit distance, closest and most popular first; page is 1-based); "
+            + "fuzzy requires 'name'")
     @GetMapping("/search")
     public ResponseEntity<StandardResponse<?>> searchPeople(
             @RequestParam(required = false) String id,
-            @RequestParam(required = false) String name) {
-        
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            FieldSelection fields) {
+        peopleMapper.requireKnown(fields);
         // Si hay ID, devolver solo ese registro
         if (id != null && !id.isEmpty()) {
             People people = peopleUseCase.findByUid(id)
                     .orElseThrow(() -> new ResourceNotFoundException("People", id));
-            StandardResponse<PeopleResponse> response = StandardResponse.exito(peopleMapper.toResponse(people));
+            StandardResponse<PeopleResponse> response = StandardResponse.exito(peopleMapper.toResponse(people, fields));
             return ResponseEntity.ok(response);
         }
         
+        // Búsqueda aproximada por nombre sobre el índice en memoria; sin nombre es un error, como en los demás recursos
+        if (fuzzy) {
+            if (name == null || name.isEmpty()) {
+                StandardResponse<?> response = StandardResponse.error("La búsqueda aproximada ('fuzzy') solo admite el parámetro 'name'.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(StandardResponse.exito(searchByNameFuzzy(name, page, size, fields)));
+        }
+
         // Si hay nombre, buscar por nombre
         if (name != null && !name.isEmpty()) {
             List<SwapiPeopleDTO> swapiResults = swapiClient.fetchByName("people", name, SwapiPeopleDTO.class);
             
             List<PeopleResponse> filteredPeople = swapiResults.stream()
                     .map(swapiMapper::toPeople)
-                    .map(peopleMapper::toResponse)
+                    .map(people -> peopleMapper.toResponse(people, fields))
                     .collect(Collectors.toList());
             
             StandardResponse<List<PeopleResponse>> response = StandardResponse.exito(filteredPeople);
@@ -91,7 +127,60 @@ public class PeopleController {
         StandardResponse<?> response = StandardResponse.error("Debe proporcionar al menos un parámetro de búsqueda (id o nombre)");
         return ResponseEntity.badRequest().body(response);
     }
-    
+
+    // Relaciones: salen del catálogo local en una sola consulta, sin volver a llamar a SWAPI
+    @Operation(summary = "Get the films of a person (local catalog)")
+    @GetMapping("/{uid}/films")
+    public ResponseEntity<StandardResponse<List<FilmResponse>>> getPersonFilms(@PathVariable String uid, FieldSelection fields) {
+        filmMapper.requireKnown(fields);
+        List<FilmResponse> films = peopleUseCase.findFilms(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("People", uid))
+                .stream()
+                .map(film -> filmMapper.toResponse(film, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(films));
+    }
+
+    @Operation(summary = "Get the starships of a person (local catalog)")
+    @GetMapping("/{uid}/starships")
+    public ResponseEntity<StandardResponse<List<StarshipResponse>>> getPersonStarships(@PathVariable String uid, FieldSelection fields) {
+        starshipMapper.requireKnown(fields);
+        List<StarshipResponse> starships = peopleUseCase.findStarships(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("People", uid))
+                .stream()
+                .map(starship -> starshipMapper.toResponse(starship, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(starships));
+    }
+
+    @Operation(summary = "Get the vehicles of a person (local catalog)")
+    @GetMapping("/{uid}/vehicles")
+    public ResponseEntity<StandardResponse<List<VehicleResponse>>> getPersonVehicles(@PathVariable String uid, FieldSelection fields) {
+        vehicleMapper.requireKnown(fields);
+        List<VehicleResponse> vehicles = peopleUseCase.findVehicles(uid)
+                .orElseThrow(() -> new ResourceNotFoundException("People", uid))
+                .stream()
+                .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(vehicles));
+    }
+
+    private PageResponse<PeopleResponse> searchByNameFuzzy(String name, Integer page, Integer size, FieldSelection fields) {
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Page<People> matches = peopleUseCase.findByNameFuzzy(name, PageRequest.of(requestedPage - 1, requestedSize));
+        return PageResponse.<PeopleResponse>builder()
+                .content(matches.getContent().stream()
+                        .map(people -> peopleMapper.toResponse(people, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(matches.getTotalElements())
+                .totalPages(matches.getTotalPages())
+                .last(matches.isLast())
+                .first(matches.isFirst())
+                .build();
+    }
 }
 
 
@@ -0,0 +1,39 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.starwars.infrastructure.adapter.out.client.cache.StaleDataContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega los headers de dato vencido cuando la respuesta se armó con datos de caché
+ * servidos mientras SWAPI no estaba disponible.
+ */
+@RestControllerAdvice
+public class StaleDataResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Long staleAge = StaleDataContext.staleAge();
+        if (staleAge != null) {
+            response.getHeaders().set(STALE_HEADER, "true");
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(staleAge / 1000));
+            response.getHeaders().set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        }
+        return body;
+    }
+}
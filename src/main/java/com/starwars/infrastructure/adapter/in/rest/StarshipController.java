@@ -1,15 +1,22 @@
 package com.starwars.infrastructure.adapter.in.rest;
 
+import com.starwars.application.dto.request.SpecRangeRequest;
 import com.starwars.application.dto.response.PageResponse;
 import com.starwars.application.dto.response.StandardResponse;
 import com.starwars.application.dto.response.StarshipResponse;
+import com.starwars.application.mapper.FieldSelection;
 import com.starwars.application.mapper.StarshipMapper;
 import com.starwars.domain.exception.ResourceNotFoundException;
+import com.starwars.domain.exception.UnsupportedSortException;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
 import com.starwars.domain.model.Starship;
 import com.starwars.domain.port.in.StarshipUseCase;
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiStarshipDTO;
+import com.starwars.infrastructure.adapter.out.facet.StarshipFacetIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,8 +26,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Tag(name = "Starships", description = "Starships management endpoints")
@@ -32,22 +44,48 @@ public class StarshipController {
     
     private final StarshipUseCase starshipUseCase;
     private final StarshipMapper starshipMapper;
+    private final CollectionExporter collectionExporter;
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
     
-    @Operation(summary = "Get starships paginated (page is 1-based, starships supports pagination)")
+    @Operation(summary = "Get starships paginated (page is 1-based, starships supports pagination). "
+            + "With 'cursor' (empty for the first page) or range filters (minLength, maxCost, minCrew...) "
+            + "pages by cursor over the local catalog. sort=name|length|cost|crew[,asc|desc] pages over the local "
+            + "catalog in that order")
     @GetMapping
     public ResponseEntity<StandardResponse<PageResponse<StarshipResponse>>> getAllStarships(
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String sort,
+            SpecRangeRequest ranges,
+            FieldSelection fields) {
+        starshipMapper.requireKnown(fields);
         int requestedPage = (page == null || page < 1) ? 1 : page;
         int requestedSize = (size == null || size < 1) ? 10 : size;
+        // El cursor y los rangos siguen el orden por nombre de la base: no se combinan con sort
+        if (sort != null && (cursor != null || (ranges != null && ranges.hasAny()))) {
+            throw new UnsupportedSortException("'sort' no se puede combinar con 'cursor' ni con filtros por rango.");
+        }
+        // Los filtros por rango se resuelven en base de datos sobre las columnas numéricas indexadas
+        if (ranges != null && ranges.hasAny()) {
+            String from = cursor == null ? "" : cursor;
+            CursorPage<Starship> cursorPage = starshipUseCase.findBySpecsAfter(ranges.toFilter(), from, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, from, requestedSize, fields)));
+        }
+        // Con cursor se usa paginación keyset sobre el catálogo local: no depende del offset ni cuenta filas
+        if (cursor != null) {
+            CursorPage<Starship> cursorPage = starshipUseCase.findAllAfter(cursor, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, cursor, requestedSize, fields)));
+        }
         Pageable pageable = PageRequest.of(requestedPage - 1, requestedSize);
-        Page<Starship> starshipPage = starshipUseCase.findAll(pageable);
+        // Con sort se pagina sobre el orden precalculado del catálogo local
+        Page<Starship> starshipPage = sort == null ? starshipUseCase.findAll(pageable) : starshipUseCase.findAllSorted(sort, pageable);
         
         PageResponse<StarshipResponse> pageData = PageResponse.<StarshipResponse>builder()
                 .content(starshipPage.getContent().stream()
-                        .map(starshipMapper::toResponse)
+                        .map(starship -> starshipMapper.toResponse(starship, fields))
                         .toList())
                 .pageNumber(requestedPage)
                 .pageSize(starshipPage.getSize())
@@ -61,29 +99,112 @@ public class StarshipController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Search starships by id and/or name or model (not both name and model at the same time, page is 1-based)")
+    @Operation(summary = "Filter starships of the local catalog by class and manufacturer and return facet counts "
+            + "(repeat a parameter to OR its values; different parameters are ANDed)")
+    @GetMapping("/facets")
+    public ResponseEntity<StandardResponse<PageResponse<StarshipResponse>>> getStarshipsByFacets(
+            @RequestParam(required = false) List<String> starshipClass,
+            @RequestParam(required = false) List<String> manufacturer,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            FieldSelection fields) {
+        starshipMapper.requireKnown(fields);
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Map<String, Set<String>> filters = new LinkedHashMap<>();
+        if (starshipClass != null) {
+            filters.put(StarshipFacetIndex.STARSHIP_CLASS, new LinkedHashSet<>(starshipClass));
+        }
+        if (manufacturer != null) {
+            filters.put(StarshipFacetIndex.MANUFACTURER, new LinkedHashSet<>(manufacturer));
+        }
+        FacetedPage<Starship> facetedPage = starshipUseCase.findByFacets(filters, (requestedPage - 1) * requestedSize, requestedSize);
+        int totalPages = (int) Math.ceil((double) facetedPage.getTotalElements() / requestedSize);
+
+        PageResponse<StarshipResponse> pageData = PageResponse.<StarshipResponse>builder()
+                .content(facetedPage.getContent().stream()
+                        .map(starship -> starshipMapper.toResponse(starship, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(facetedPage.getTotalElements())
+                .totalPages(totalPages)
+                .first(requestedPage == 1)
+                .last(requestedPage >= totalPages)
+                .facets(facetedPage.getFacets())
+                .build();
+        return ResponseEntity.ok(StandardResponse.exito(pageData));
+    }
+
+    @Operation(summary = "Export every starship of the local catalog, streamed as NDJSON (default) or as a JSON array")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStarships(@RequestParam(required = false, defaultValue = "ndjson") String format) {
+        return collectionExporter.export("starships", format, starshipUseCase::exportAll, starshipMapper::toResponse);
+    }
+
+    @Operation(summary = "Search starships by id, name, model, manufacturer or starshipClass (page is 1-based). "
+            + "Several of them at once are combined with AND in one query over the local catalog, paged by cursor. "
+            + "With fuzzy=true the name tolerates typos (bounded edit distance, closest and most popular first)")
     @GetMapping("/search")
     public ResponseEntity<StandardResponse<?>> searchStarships(
             @RequestParam(required = false) String id,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String model,
+            @RequestParam(required = false) String manufacturer,
+            @RequestParam(required = false) String starshipClass,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false, defaultValue = "contains") String match,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+            FieldSelection fields) {
+        starshipMapper.requireKnown(fields);
         // Si hay ID, devolver solo ese registro
         if (id != null && !id.isEmpty()) {
             Starship starship = starshipUseCase.findByUid(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Starship", id));
-            StandardResponse<StarshipResponse> response = StandardResponse.exito(starshipMapper.toResponse(starship));
+            StandardResponse<StarshipResponse> response = StandardResponse.exito(starshipMapper.toResponse(starship, fields));
             return ResponseEntity.ok(response);
         }
 
-        // Validar que no se use name y model a la vez
         boolean hasName = name != null && !name.isEmpty();
         boolean hasModel = model != null && !model.isEmpty();
-        
-        if (hasName && hasModel) {
-            StandardResponse<?> response = StandardResponse.error("No se puede buscar por 'name' y 'model' al mismo tiempo. Use solo uno.");
-            return ResponseEntity.badRequest().body(response);
+        SearchFilter filter = SearchFilter.builder()
+                .name(name)
+                .model(model)
+                .manufacturer(manufacturer)
+                .craftClass(starshipClass)
+                .prefix("prefix".equalsIgnoreCase(match))
+                .build();
+
+        // Búsqueda aproximada por nombre sobre el índice en memoria; no se combina con otros filtros
+        if (fuzzy) {
+            if (!hasName || filter.countPresent() > 1) {
+                StandardResponse<?> response = StandardResponse.error("La búsqueda aproximada ('fuzzy') solo admite el parámetro 'name'.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(StandardResponse.exito(searchByNameFuzzy(name, page, size, fields)));
+        }
+
+        // Varios filtros a la vez, fabricante/clase (que SWAPI no filtra) o modelo con cursor van en una sola
+        // consulta al catálogo local
+        boolean hasAttributes = (manufacturer != null && !manufacturer.isBlank()) || (starshipClass != null && !starshipClass.isBlank());
+        if (filter.countPresent() > 1 || hasAttributes || (hasModel && cursor != null)) {
+            int requestedSize = (size == null || size < 1) ? 10 : size;
+            String from = cursor == null ? "" : cursor;
+            CursorPage<Starship> cursorPage = starshipUseCase.findBySearchAfter(filter, from, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, from, requestedSize, fields)));
+        }
+
+        // Si hay nombre y cursor, buscar en el catálogo local con paginación keyset
+        if (hasName && cursor != null) {
+            int requestedSize = (size == null || size < 1) ? 10 : size;
+            // match=prefix usa el rango del índice; contains es una búsqueda infija
+            CursorPage<Starship> cursorPage = "prefix".equalsIgnoreCase(match)
+                    ? starshipUseCase.findByNamePrefixAfter(name, cursor, requestedSize, includeTotal)
+                    : starshipUseCase.findByNameContainingAfter(name, cursor, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, cursor, requestedSize, fields)));
         }
 
         // Si hay nombre, buscar por nombre
@@ -95,7 +216,7 @@ public class StarshipController {
                 int adjusted = Math.max(0, page - 1);
                 pageable = PageRequest.of(adjusted, size);
             }
-            PageResponse<StarshipResponse> searchResult = searchByName(name, pageable, requestedPage);
+            PageResponse<StarshipResponse> searchResult = searchByName(name, pageable, requestedPage, fields);
             StandardResponse<PageResponse<StarshipResponse>> response = StandardResponse.exito(searchResult);
             return ResponseEntity.ok(response);
         }
@@ -109,27 +230,59 @@ public class StarshipController {
                 int adjusted = Math.max(0, page - 1);
                 pageable = PageRequest.of(adjusted, size);
             }
-            PageResponse<StarshipResponse> searchResult = searchByModel(model, pageable, requestedPage);
+            PageResponse<StarshipResponse> searchResult = searchByModel(model, pageable, requestedPage, fields);
             StandardResponse<PageResponse<StarshipResponse>> response = StandardResponse.exito(searchResult);
             return ResponseEntity.ok(response);
         }
 
         // Si no hay filtros, devolver 400
-        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id', 'name' o 'model'.");
+        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id', 'name', 'model', 'manufacturer' o 'starshipClass'.");
         return ResponseEntity.badRequest().body(response);
     }
     
-    private PageResponse<StarshipResponse> searchByName(String name, Pageable pageable, Integer requestedPage) {
+    private PageResponse<StarshipResponse> toCursorPageResponse(CursorPage<Starship> cursorPage, String cursor, int size,
+                                                                FieldSelection fields) {
+        return PageResponse.<StarshipResponse>builder()
+                .content(cursorPage.getContent().stream()
+                        .map(starship -> starshipMapper.toResponse(starship, fields))
+                        .toList())
+                .pageSize(size)
+                .totalElements(cursorPage.getTotalElements())
+                .first(cursor.isBlank())
+                .last(cursorPage.getNextCursor() == null)
+                .nextCursor(cursorPage.getNextCursor())
+                .build();
+    }
+
+    private PageResponse<StarshipResponse> searchByNameFuzzy(String name, Integer page, Integer size, FieldSelection fields) {
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Page<Starship> matches = starshipUseCase.findByNameFuzzy(name, PageRequest.of(requestedPage - 1, requestedSize));
+        return PageResponse.<StarshipResponse>builder()
+                .content(matches.getContent().stream()
+                        .map(starship -> starshipMapper.toResponse(starship, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(matches.getTotalElements())
+                .totalPages(matches.getTotalPages())
+                .last(matches.isLast())
+                .first(matches.isFirst())
+                .build();
+    }
+
+    private PageResponse<StarshipResponse> searchByName(String name, Pageable pageable, Integer requestedPage,
+                                                        FieldSelection fields) {
         List<SwapiStarshipDTO> swapiResults = swapiClient.fetchByName("starships", name, SwapiStarshipDTO.class);
         List<StarshipResponse> filteredStarships = swapiResults.stream()
                 .map(swapiMapper::toStarship)
-                .map(starshipMapper::toResponse)
+                .map(starship -> starshipMapper.toResponse(starship, fields))
                 .collect(Collectors.toList());
         
         if (pageable == null) {
             return PageResponse.<StarshipResponse>builder()
                     .content(filteredStarships)
-                    .totalElements(filteredStarships.size())
+                    .totalElements((long) filteredStarships.size())
                     .build();
         }
         
@@ -141,7 +294,7 @@ public class StarshipController {
                     .content(List.of())
                     .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                     .pageSize(pageable.getPageSize())
-                    .totalElements(filteredStarships.size())
+                    .totalElements((long) filteredStarships.size())
                     .build();
         }
         
@@ -151,24 +304,25 @@ public class StarshipController {
                 .content(paginatedStarships)
                 .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                 .pageSize(pageable.getPageSize())
-                .totalElements(filteredStarships.size())
+                .totalElements((long) filteredStarships.size())
                 .totalPages((int) Math.ceil((double) filteredStarships.size() / pageable.getPageSize()))
                 .last(end >= filteredStarships.size())
                 .first(start == 0)
                 .build();
     }
 
-    private PageResponse<StarshipResponse> searchByModel(String model, Pageable pageable, Integer requestedPage) {
+    private PageResponse<StarshipResponse> searchByModel(String model, Pageable pageable, Integer requestedPage,
+                                                         FieldSelection fields) {
         List<SwapiStarshipDTO> swapiResults = swapiClient.fetchByModel("starships", model, SwapiStarshipDTO.class);
         List<StarshipResponse> filteredStarships = swapiResults.stream()
                 .map(swapiMapper::toStarship)
-                .map(starshipMapper::toResponse)
+                .map(starship -> starshipMapper.toResponse(starship, fields))
                 .collect(Collectors.toList());
         
         if (pageable == null) {
             return PageResponse.<StarshipResponse>builder()
                     .content(filteredStarships)
-                    .totalElements(filteredStarships.size())
+                    .totalElements((long) filteredStarships.size())
                     .build();
         }
         
@@ -180,7 +334,7 @@ public class StarshipController {
                     .content(List.of())
                     .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                     .pageSize(pageable.getPageSize())
-                    .totalElements(filteredStarships.size())
+                    .totalElements((long) filteredStarships.size())
                     .build();
         }
         
@@ -190,7 +344,7 @@ public class StarshipController {
                 .content(paginatedStarships)
                 .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                 .pageSize(pageable.getPageSize())
-                .totalElements(filteredStarships.size())
+                .totalElements((long) filteredStarships.size())
                 .totalPages((int) Math.ceil((double) filteredStarships.size() / pageable.getPageSize()))
                 .last(end >= filteredStarships.size())
                 .first(start == 0)
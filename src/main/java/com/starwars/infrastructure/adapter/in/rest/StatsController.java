@@ -0,0 +1,57 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.starwars.application.dto.response.GroupStatsResponse;
+import com.starwars.application.dto.response.RankedValueResponse;
+import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.mapper.StatsMapper;
+import com.starwars.domain.port.in.StatsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Stats", description = "Rankings and aggregates maintained incrementally over the local catalog")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsUseCase statsUseCase;
+    private final StatsMapper statsMapper;
+
+    @Operation(summary = "Top 'k' people, starships or vehicles by a numeric field (largest first, or smallest with order=asc). "
+            + "Unknown values are left out")
+    @GetMapping("/{resource}/top")
+    public ResponseEntity<StandardResponse<List<RankedValueResponse>>> top(
+            @PathVariable String resource,
+            @RequestParam String field,
+            @RequestParam(required = false, defaultValue = "10") int k,
+            @RequestParam(required = false, defaultValue = "desc") String order) {
+        List<RankedValueResponse> ranking = statsUseCase.top(resource, field, k, order).stream()
+                .map(statsMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(ranking));
+    }
+
+    @Operation(summary = "Count per value of 'groupBy' (largest group first) and, when 'field' is given, its sum, average, "
+            + "min and max in each group. Without 'groupBy' the whole resource is a single group")
+    @GetMapping("/{resource}/aggregate")
+    public ResponseEntity<StandardResponse<List<GroupStatsResponse>>> aggregate(
+            @PathVariable String resource,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String field) {
+        List<GroupStatsResponse> groups = statsUseCase.aggregate(resource, groupBy, field).stream()
+                .map(statsMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(StandardResponse.exito(groups));
+    }
+}
@@ -1,16 +1,23 @@
 package com.starwars.infrastructure.adapter.in.rest;
 
+import com.starwars.application.dto.request.SpecRangeRequest;
 import com.starwars.application.dto.response.PageResponse;
 import com.starwars.application.dto.response.StandardResponse;
 import com.starwars.application.dto.response.VehicleResponse;
+import com.starwars.application.mapper.FieldSelection;
 import com.starwars.application.mapper.VehicleMapper;
 import com.starwars.domain.exception.ResourceNotFoundException;
+import com.starwars.domain.exception.UnsupportedSortException;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.SearchFilter;
 import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.in.VehicleUseCase;
  
 import com.starwars.domain.port.out.SwapiClient;
 import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
 import com.starwars.infrastructure.adapter.out.client.dto.SwapiVehicleDTO;
+import com.starwars.infrastructure.adapter.out.facet.VehicleFacetIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -20,8 +27,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Tag(name = "Vehicles", description = "Vehicles management endpoints")
@@ -33,22 +45,48 @@ public class VehicleController {
     
     private final VehicleUseCase vehicleUseCase;
     private final VehicleMapper vehicleMapper;
+    private final CollectionExporter collectionExporter;
     private final SwapiClient swapiClient;
     private final SwapiMapper swapiMapper;
     
-    @Operation(summary = "Get vehicles paginated (page is 1-based)")
+    @Operation(summary = "Get vehicles paginated (page is 1-based). "
+            + "With 'cursor' (empty for the first page) or range filters (minLength, maxCost, minCrew...) "
+            + "pages by cursor over the local catalog. sort=name|length|cost|crew[,asc|desc] pages over the local "
+            + "catalog in that order")
     @GetMapping
     public ResponseEntity<StandardResponse<PageResponse<VehicleResponse>>> getAllVehicles(
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String sort,
+            SpecRangeRequest ranges,
+            FieldSelection fields) {
+        vehicleMapper.requireKnown(fields);
         int requestedPage = (page == null || page < 1) ? 1 : page;
         int requestedSize = (size == null || size < 1) ? 10 : size;
+        // El cursor y los rangos siguen el orden por nombre de la base: no se combinan con sort
+        if (sort != null && (cursor != null || (ranges != null && ranges.hasAny()))) {
+            throw new UnsupportedSortException("'sort' no se puede combinar con 'cursor' ni con filtros por rango.");
+        }
+        // Los filtros por rango se resuelven en base de datos sobre las columnas numéricas indexadas
+        if (ranges != null && ranges.hasAny()) {
+            String from = cursor == null ? "" : cursor;
+            CursorPage<Vehicle> cursorPage = vehicleUseCase.findBySpecsAfter(ranges.toFilter(), from, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, from, requestedSize, fields)));
+        }
+        // Con cursor se usa paginación keyset sobre el catálogo local: no depende del offset ni cuenta filas
+        if (cursor != null) {
+            CursorPage<Vehicle> cursorPage = vehicleUseCase.findAllAfter(cursor, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, cursor, requestedSize, fields)));
+        }
         Pageable pageable = PageRequest.of(requestedPage - 1, requestedSize);
-        Page<Vehicle> vehiclePage = vehicleUseCase.findAll(pageable);
+        // Con sort se pagina sobre el orden precalculado del catálogo local
+        Page<Vehicle> vehiclePage = sort == null ? vehicleUseCase.findAll(pageable) : vehicleUseCase.findAllSorted(sort, pageable);
         
         PageResponse<VehicleResponse> pageData = PageResponse.<VehicleResponse>builder()
                 .content(vehiclePage.getContent().stream()
-                        .map(vehicleMapper::toResponse)
+                        .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
                         .toList())
                 .pageNumber(requestedPage)
                 .pageSize(vehiclePage.getSize())
@@ -62,28 +100,107 @@ public class VehicleController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Search vehicles by id and/or name or model (not both name and model at the same time, page is 1-based)")
+    @Operation(summary = "Filter vehicles of the local catalog by class (repeat the parameter to OR values) and return facet counts")
+    @GetMapping("/facets")
+    public ResponseEntity<StandardResponse<PageResponse<VehicleResponse>>> getVehiclesByFacets(
+            @RequestParam(required = false) List<String> vehicleClass,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            FieldSelection fields) {
+        vehicleMapper.requireKnown(fields);
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Map<String, Set<String>> filters = new LinkedHashMap<>();
+        if (vehicleClass != null) {
+            filters.put(VehicleFacetIndex.VEHICLE_CLASS, new LinkedHashSet<>(vehicleClass));
+        }
+        FacetedPage<Vehicle> facetedPage = vehicleUseCase.findByFacets(filters, (requestedPage - 1) * requestedSize, requestedSize);
+        int totalPages = (int) Math.ceil((double) facetedPage.getTotalElements() / requestedSize);
+
+        PageResponse<VehicleResponse> pageData = PageResponse.<VehicleResponse>builder()
+                .content(facetedPage.getContent().stream()
+                        .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(facetedPage.getTotalElements())
+                .totalPages(totalPages)
+                .first(requestedPage == 1)
+                .last(requestedPage >= totalPages)
+                .facets(facetedPage.getFacets())
+                .build();
+        return ResponseEntity.ok(StandardResponse.exito(pageData));
+    }
+
+    @Operation(summary = "Export every vehicle of the local catalog, streamed as NDJSON (default) or as a JSON array")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportVehicles(@RequestParam(required = false, defaultValue = "ndjson") String format) {
+        return collectionExporter.export("vehicles", format, vehicleUseCase::exportAll, vehicleMapper::toResponse);
+    }
+
+    @Operation(summary = "Search vehicles by id, name, model, manufacturer or vehicleClass (page is 1-based). "
+            + "Several of them at once are combined with AND in one query over the local catalog, paged by cursor. "
+            + "With fuzzy=true the name tolerates typos (bounded edit distance, closest and most popular first)")
     @GetMapping("/search")
     public ResponseEntity<StandardResponse<?>> searchVehicles(
             @RequestParam(required = false) String id,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String model,
+            @RequestParam(required = false) String manufacturer,
+            @RequestParam(required = false) String vehicleClass,
             @RequestParam(required = false) Integer page,
-            @RequestParam(required = false) Integer size) {
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false, defaultValue = "contains") String match,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy,
+            FieldSelection fields) {
+        vehicleMapper.requireKnown(fields);
         // Si hay ID, devolver solo ese registro
         if (id != null && !id.isEmpty()) {
             Vehicle vehicle = vehicleUseCase.findByUid(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Vehicle", id));
-            StandardResponse<VehicleResponse> response = StandardResponse.exito(vehicleMapper.toResponse(vehicle));
+            StandardResponse<VehicleResponse> response = StandardResponse.exito(vehicleMapper.toResponse(vehicle, fields));
             return ResponseEntity.ok(response);
         }
 
         boolean hasName = name != null && !name.isEmpty();
         boolean hasModel = model != null && !model.isEmpty();
+        SearchFilter filter = SearchFilter.builder()
+                .name(name)
+                .model(model)
+                .manufacturer(manufacturer)
+                .craftClass(vehicleClass)
+                .prefix("prefix".equalsIgnoreCase(match))
+                .build();
 
-        if (hasName && hasModel) {
-            StandardResponse<?> response = StandardResponse.error("No se puede buscar por 'name' y 'model' al mismo tiempo. Use solo uno.");
-            return ResponseEntity.badRequest().body(response);
+        // Búsqueda aproximada por nombre sobre el índice en memoria; no se combina con otros filtros
+        if (fuzzy) {
+            if (!hasName || filter.countPresent() > 1) {
+                StandardResponse<?> response = StandardResponse.error("La búsqueda aproximada ('fuzzy') solo admite el parámetro 'name'.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.ok(StandardResponse.exito(searchByNameFuzzy(name, page, size, fields)));
+        }
+
+        // Varios filtros a la vez, fabricante/clase (que SWAPI no filtra) o modelo con cursor van en una sola
+        // consulta al catálogo local
+        boolean hasAttributes = (manufacturer != null && !manufacturer.isBlank()) || (vehicleClass != null && !vehicleClass.isBlank());
+        if (filter.countPresent() > 1 || hasAttributes || (hasModel && cursor != null)) {
+            int requestedSize = (size == null || size < 1) ? 10 : size;
+            String from = cursor == null ? "" : cursor;
+            CursorPage<Vehicle> cursorPage = vehicleUseCase.findBySearchAfter(filter, from, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, from, requestedSize, fields)));
+        }
+
+        // Con cursor se busca en el catálogo local con paginación keyset
+        if (hasName && cursor != null) {
+            int requestedSize = (size == null || size < 1) ? 10 : size;
+            // match=prefix usa el rango del índice; contains es una búsqueda infija
+            CursorPage<Vehicle> cursorPage = "prefix".equalsIgnoreCase(match)
+                    ? vehicleUseCase.findByNamePrefixAfter(name, cursor, requestedSize, includeTotal)
+                    : vehicleUseCase.findByNameContainingAfter(name, cursor, requestedSize, includeTotal);
+            return ResponseEntity.ok(StandardResponse.exito(toCursorPageResponse(cursorPage, cursor, requestedSize, fields)));
         }
 
         if (hasName) {
@@ -94,7 +211,7 @@ public class VehicleController {
                 int adjusted = Math.max(0, page - 1);
                 pageable = PageRequest.of(adjusted, size);
             }
-            PageResponse<VehicleResponse> searchResult = searchByName(name, pageable, requestedPage);
+            PageResponse<VehicleResponse> searchResult = searchByName(name, pageable, requestedPage, fields);
             StandardResponse<PageResponse<VehicleResponse>> response = StandardResponse.exito(searchResult);
             return ResponseEntity.ok(response);
         }
@@ -107,26 +224,58 @@ public class VehicleController {
                 int adjusted = Math.max(0, page - 1);
                 pageable = PageRequest.of(adjusted, size);
             }
-            PageResponse<VehicleResponse> searchResult = searchByModel(model, pageable, requestedPage);
+            PageResponse<VehicleResponse> searchResult = searchByModel(model, pageable, requestedPage, fields);
             StandardResponse<PageResponse<VehicleResponse>> response = StandardResponse.exito(searchResult);
             return ResponseEntity.ok(response);
         }
 
-        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id', 'name' o 'model'.");
+        StandardResponse<?> response = StandardResponse.error("Debe especificar 'id', 'name', 'model', 'manufacturer' o 'vehicleClass'.");
         return ResponseEntity.badRequest().body(response);
     }
     
-    private PageResponse<VehicleResponse> searchByName(String name, Pageable pageable, Integer requestedPage) {
+    private PageResponse<VehicleResponse> toCursorPageResponse(CursorPage<Vehicle> cursorPage, String cursor, int size,
+                                                               FieldSelection fields) {
+        return PageResponse.<VehicleResponse>builder()
+                .content(cursorPage.getContent().stream()
+                        .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
+                        .toList())
+                .pageSize(size)
+                .totalElements(cursorPage.getTotalElements())
+                .first(cursor.isBlank())
+                .last(cursorPage.getNextCursor() == null)
+                .nextCursor(cursorPage.getNextCursor())
+                .build();
+    }
+
+    private PageResponse<VehicleResponse> searchByNameFuzzy(String name, Integer page, Integer size, FieldSelection fields) {
+        int requestedPage = (page == null || page < 1) ? 1 : page;
+        int requestedSize = (size == null || size < 1) ? 10 : size;
+        Page<Vehicle> matches = vehicleUseCase.findByNameFuzzy(name, PageRequest.of(requestedPage - 1, requestedSize));
+        return PageResponse.<VehicleResponse>builder()
+                .content(matches.getContent().stream()
+                        .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
+                        .toList())
+                .pageNumber(requestedPage)
+                .pageSize(requestedSize)
+                .totalElements(matches.getTotalElements())
+                .totalPages(matches.getTotalPages())
+                .last(matches.isLast())
+                .first(matches.isFirst())
+                .build();
+    }
+
+    private PageResponse<VehicleResponse> searchByName(String name, Pageable pageable, Integer requestedPage,
+                                                       FieldSelection fields) {
         List<SwapiVehicleDTO> swapiResults = swapiClient.fetchByName("vehicles", name, SwapiVehicleDTO.class);
         List<VehicleResponse> filteredVehicles = swapiResults.stream()
                 .map(swapiMapper::toVehicle)
-                .map(vehicleMapper::toResponse)
+                .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
                 .collect(Collectors.toList());
         
         if (pageable == null) {
             return PageResponse.<VehicleResponse>builder()
                     .content(filteredVehicles)
-                    .totalElements(filteredVehicles.size())
+                    .totalElements((long) filteredVehicles.size())
                     .build();
         }
         
@@ -138,7 +287,7 @@ public class VehicleController {
                     .content(List.of())
                     .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                     .pageSize(pageable.getPageSize())
-                    .totalElements(filteredVehicles.size())
+                    .totalElements((long) filteredVehicles.size())
                     .build();
         }
         
@@ -148,24 +297,25 @@ public class VehicleController {
                 .content(paginatedVehicles)
                 .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                 .pageSize(pageable.getPageSize())
-                .totalElements(filteredVehicles.size())
+                .totalElements((long) filteredVehicles.size())
                 .totalPages((int) Math.ceil((double) filteredVehicles.size() / pageable.getPageSize()))
                 .last(end >= filteredVehicles.size())
                 .first(start == 0)
                 .build();
     }
 
-    private PageResponse<VehicleResponse> searchByModel(String model, Pageable pageable, Integer requestedPage) {
+    private PageResponse<VehicleResponse> searchByModel(String model, Pageable pageable, Integer requestedPage,
+                                                        FieldSelection fields) {
         List<SwapiVehicleDTO> swapiResults = swapiClient.fetchByModel("vehicles", model, SwapiVehicleDTO.class);
         List<VehicleResponse> filteredVehicles = swapiResults.stream()
                 .map(swapiMapper::toVehicle)
-                .map(vehicleMapper::toResponse)
+                .map(vehicle -> vehicleMapper.toResponse(vehicle, fields))
                 .collect(Collectors.toList());
 
         if (pageable == null) {
             return PageResponse.<VehicleResponse>builder()
                     .content(filteredVehicles)
-                    .totalElements(filteredVehicles.size())
+                    .totalElements((long) filteredVehicles.size())
                     .build();
         }
 
@@ -177,7 +327,7 @@ public class VehicleController {
                     .content(List.of())
                     .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                     .pageSize(pageable.getPageSize())
-                    .totalElements(filteredVehicles.size())
+                    .totalElements((long) filteredVehicles.size())
                     .build();
         }
 
@@ -187,7 +337,7 @@ public class VehicleController {
                 .content(paginatedVehicles)
                 .pageNumber(requestedPage != null ? requestedPage : (pageable.getPageNumber() + 1))
                 .pageSize(pageable.getPageSize())
-                .totalElements(filteredVehicles.size())
+                .totalElements((long) filteredVehicles.size())
                 .totalPages((int) Math.ceil((double) filteredVehicles.size() / pageable.getPageSize()))
                 .last(end >= filteredVehicles.size())
                 .first(start == 0)
@@ -0,0 +1,41 @@
+package com.starwars.infrastructure.adapter.out.client;
+
+/**
+ * Convierte las especificaciones de SWAPI, que llegan como texto libre ("1,000", "unknown", "30-165"),
+ * a números para poder filtrarlas y ordenarlas en base de datos.
+ * Devuelve null cuando el valor es desconocido.
+ */
+public final class SpecParser {
+
+    private SpecParser() {
+    }
+
+    public static Long parseLong(String raw) {
+        Double value = parseDouble(raw);
+        return value == null ? null : Math.round(value);
+    }
+
+    public static Double parseDouble(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String value = raw.trim().toLowerCase().replace(",", "");
+        if (value.isEmpty() || value.equals("unknown") || value.equals("n/a")) {
+            return null;
+        }
+        // "none" en cargo_capacity o passengers significa que no lleva nada
+        if (value.equals("none")) {
+            return 0.0;
+        }
+        // Rangos como "30-165": se guarda el máximo, que es la capacidad de la nave
+        int dash = value.lastIndexOf('-');
+        if (dash > 0) {
+            value = value.substring(dash + 1);
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
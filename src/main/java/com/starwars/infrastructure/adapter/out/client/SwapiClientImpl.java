@@ -1,12 +1,14 @@
 package com.starwars.infrastructure.adapter.out.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.domain.exception.SwapiUnavailableException;
 import com.starwars.domain.model.SwapiPageResponse;
 import com.starwars.domain.port.out.SwapiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -85,8 +87,11 @@ public class SwapiClientImpl implements SwapiClient {
             }
             
             log.info("Fetched {} items from endpoint: {}", allResults.size(), endpoint);
+        } catch (HttpClientErrorException e) {
+            log.warn("SWAPI rejected request to endpoint: {} ({})", endpoint, e.getStatusCode());
         } catch (Exception e) {
             log.error("Error fetching data from SWAPI endpoint: {}", endpoint, e);
+            throw new SwapiUnavailableException("Error fetching " + endpoint + " from SWAPI", e);
         }
         
         return allResults;
@@ -117,9 +122,13 @@ public class SwapiClientImpl implements SwapiClient {
                 return convertMapToObject(resultMap, type);
             }
             return null;
+        } catch (HttpClientErrorException e) {
+            // 4xx: el recurso no existe, SWAPI responde correctamente
+            log.debug("SWAPI returned {} for {} with id {}", e.getStatusCode(), endpoint, id);
+            return null;
         } catch (Exception e) {
             log.error("Error fetching {} with id {} from SWAPI", endpoint, id, e);
-            return null;
+            throw new SwapiUnavailableException("Error fetching " + endpoint + "/" + id + " from SWAPI", e);
         }
     }
     
@@ -158,9 +167,12 @@ public class SwapiClientImpl implements SwapiClient {
             
             log.debug("Fetched page {} from SWAPI endpoint: {} - {} results", page, endpoint, results.size());
             return pageResponse;
+        } catch (HttpClientErrorException e) {
+            log.warn("SWAPI rejected page {} of endpoint: {} ({})", page, endpoint, e.getStatusCode());
+            return new SwapiPageResponse<>("error", null, null, null, null, new ArrayList<>());
         } catch (Exception e) {
             log.error("Error fetching page {} from SWAPI endpoint: {}", page, endpoint, e);
-            return new SwapiPageResponse<>("error", null, null, null, null, new ArrayList<>());
+            throw new SwapiUnavailableException("Error fetching page " + page + " of " + endpoint + " from SWAPI", e);
         }
     }
     
@@ -209,9 +221,12 @@ public class SwapiClientImpl implements SwapiClient {
             
             log.debug("Fetched {} items from SWAPI endpoint: {} with name: {}", results.size(), endpoint, name);
             return results;
+        } catch (HttpClientErrorException e) {
+            log.debug("SWAPI returned {} for endpoint: {} with name: {}", e.getStatusCode(), endpoint, name);
+            return new ArrayList<>();
         } catch (Exception e) {
             log.error("Error fetching from SWAPI endpoint: {} with name: {}", endpoint, name, e);
-            return new ArrayList<>();
+            throw new SwapiUnavailableException("Error searching " + endpoint + " by name in SWAPI", e);
         }
     }
     
@@ -262,9 +277,12 @@ public class SwapiClientImpl implements SwapiClient {
             
             log.debug("Fetched {} items from SWAPI endpoint: {} with model: {}", results.size(), endpoint, model);
             return results;
+        } catch (HttpClientErrorException e) {
+            log.debug("SWAPI returned {} for endpoint: {} with model: {}", e.getStatusCode(), endpoint, model);
+            return new ArrayList<>();
         } catch (Exception e) {
             log.error("Error fetching from SWAPI endpoint: {} with model: {}", endpoint, model, e);
-            return new ArrayList<>();
+            throw new SwapiUnavailableException("Error searching " + endpoint + " by model in SWAPI", e);
         }
     }
     
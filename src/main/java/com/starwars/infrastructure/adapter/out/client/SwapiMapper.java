@@ -4,6 +4,9 @@ import com.starwars.domain.model.*;
 import com.starwars.infrastructure.adapter.out.client.dto.*;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+
 @Component
 public class SwapiMapper {
     
@@ -55,6 +58,11 @@ public class SwapiMapper {
                 .cargoCapacity(dto.getCargoCapacity())
                 .starshipClass(dto.getStarshipClass())
                 .url(dto.getUrl())
+                .costInCreditsValue(SpecParser.parseLong(dto.getCostInCredits()))
+                .lengthValue(SpecParser.parseDouble(dto.getLength()))
+                .crewValue(SpecParser.parseLong(dto.getCrew()))
+                .passengersValue(SpecParser.parseLong(dto.getPassengers()))
+                .cargoCapacityValue(SpecParser.parseLong(dto.getCargoCapacity()))
                 .build();
     }
     
@@ -73,7 +81,24 @@ public class SwapiMapper {
                 .cargoCapacity(dto.getCargoCapacity())
                 .vehicleClass(dto.getVehicleClass())
                 .url(dto.getUrl())
+                .costInCreditsValue(SpecParser.parseLong(dto.getCostInCredits()))
+                .lengthValue(SpecParser.parseDouble(dto.getLength()))
+                .crewValue(SpecParser.parseLong(dto.getCrew()))
+                .passengersValue(SpecParser.parseLong(dto.getPassengers()))
+                .cargoCapacityValue(SpecParser.parseLong(dto.getCargoCapacity()))
                 .build();
     }
+    
+    // SWAPI enlaza los recursos por URL (".../people/1"); el uid es el último segmento
+    public List<String> uidsOf(List<String> urls) {
+        if (urls == null) return List.of();
+        
+        return urls.stream()
+                .filter(Objects::nonNull)
+                .map(url -> url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+                .map(url -> url.substring(url.lastIndexOf('/') + 1))
+                .filter(uid -> !uid.isEmpty())
+                .distinct()
+                .toList();
+    }
 }
-
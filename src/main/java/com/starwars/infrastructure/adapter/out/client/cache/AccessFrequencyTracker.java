@@ -0,0 +1,70 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contador de accesos con decaimiento exponencial por clave de caché.
+ * Cada acceso suma 1 y el puntaje se reduce a la mitad cada {@code halfLife} ms,
+ * de modo que solo las claves populares "recientemente" quedan calientes.
+ */
+@Component
+public class AccessFrequencyTracker {
+
+    // Por debajo de este puntaje la clave se olvida para no crecer sin límite
+    private static final double MIN_SCORE = 0.01;
+
+    private final Map<String, Double> scores = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long halfLife;
+    private volatile long lastDecay;
+
+    @Autowired
+    public AccessFrequencyTracker(@Value("${swapi.cache.refresh-ahead.half-life:60000}") long halfLife) {
+        this(Clock.systemUTC(), halfLife);
+    }
+
+    AccessFrequencyTracker(Clock clock, long halfLife) {
+        this.clock = clock;
+        this.halfLife = halfLife;
+        this.lastDecay = clock.millis();
+    }
+
+    public void record(String key) {
+        scores.merge(key, 1.0, Double::sum);
+    }
+
+    public double score(String key) {
+        return scores.getOrDefault(key, 0.0);
+    }
+
+    public synchronized void decay() {
+        long now = clock.millis();
+        long elapsed = now - lastDecay;
+        if (elapsed <= 0) {
+            return;
+        }
+        double factor = Math.pow(0.5, (double) elapsed / halfLife);
+        scores.replaceAll((key, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        lastDecay = now;
+    }
+
+    /**
+     * Claves con puntaje mayor o igual al umbral, de la más caliente a la más fría.
+     */
+    public List<String> hotKeys(double minScore) {
+        return scores.entrySet().stream()
+                .filter(e -> e.getValue() >= minScore)
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,246 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiFilmDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot en disco de la caché de SWAPI para que un reinicio no arranque en frío.
+ * <p>
+ * Al apagar la aplicación (y cada {@code swapi.snapshot.interval} ms) se vuelcan las entradas,
+ * de la más pedida a la menos pedida, a un archivo binario versionado. Al arrancar se mapea
+ * el archivo en memoria, las entradas pasan a la caché y se sirven de inmediato; el refresco
+ * anticipado las recarga desde SWAPI para reconciliarlas, dentro de su presupuesto de peticiones.
+ * <p>
+ * Formato: cabecera (magic, versión, fecha, cantidad) y por cada entrada la clave, la forma
+ * del valor (objeto, lista o página), la clase del DTO, su {@code loadedAt} y el valor en JSON.
+ */
+@Slf4j
+@Component
+public class CacheSnapshotStore {
+
+    static final int MAGIC = 0x53574150; // "SWAP"
+    static final int FORMAT_VERSION = 1;
+
+    private static final byte SHAPE_OBJECT = 0;
+    private static final byte SHAPE_LIST = 1;
+    private static final byte SHAPE_PAGE = 2;
+    // La clave y la clase se escriben con su largo en 2 bytes sin signo
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    // Solo se deserializan DTOs de SWAPI, aunque alguien modifique el archivo
+    private static final String DTO_PACKAGE = SwapiFilmDTO.class.getPackageName() + ".";
+
+    private final SwapiResponseCache cache;
+    private final CachingSwapiClient cachingSwapiClient;
+    private final AccessFrequencyTracker tracker;
+    private final RefreshAheadScheduler refreshAheadScheduler;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final boolean enabled;
+
+    public CacheSnapshotStore(SwapiResponseCache cache,
+                              CachingSwapiClient cachingSwapiClient,
+                              AccessFrequencyTracker tracker,
+                              RefreshAheadScheduler refreshAheadScheduler,
+                              ObjectMapper objectMapper,
+                              @Value("${swapi.snapshot.file:${java.io.tmpdir}/starwars/swapi-cache.snapshot}") String file,
+                              @Value("${swapi.snapshot.enabled:true}") boolean enabled) {
+        this.cache = cache;
+        this.cachingSwapiClient = cachingSwapiClient;
+        this.tracker = tracker;
+        this.refreshAheadScheduler = refreshAheadScheduler;
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void restoreOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        List<String> restored = restore();
+        if (!restored.isEmpty()) {
+            // Si una recarga falla se conserva el valor del snapshot
+            refreshAheadScheduler.reconcile(restored);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${swapi.snapshot.interval:300000}",
+            initialDelayString = "${swapi.snapshot.interval:300000}")
+    public void saveSnapshot() {
+        if (enabled) {
+            save();
+        }
+    }
+
+    /**
+     * Carga el snapshot en la caché y devuelve las claves recuperadas, en el orden del archivo.
+     * Un archivo ausente, de otra versión o corrupto se ignora.
+     */
+    List<String> restore() {
+        if (!Files.isReadable(file)) {
+            return List.of();
+        }
+        long start = System.currentTimeMillis();
+        List<String> restored = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC) {
+                log.warn("Ignoring cache snapshot {}: unknown format", file);
+                return List.of();
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                log.warn("Ignoring cache snapshot {}: version {} (expected {})", file, version, FORMAT_VERSION);
+                return List.of();
+            }
+            long createdAt = buffer.getLong();
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                byte shape = buffer.get();
+                String typeName = readString(buffer);
+                long loadedAt = buffer.getLong();
+                byte[] json = new byte[buffer.getInt()];
+                buffer.get(json);
+                if (restoreEntry(key, shape, typeName, loadedAt, json)) {
+                    restored.add(key);
+                }
+            }
+            log.info("Restored {} cache entries from snapshot {} ({} ms old) in {} ms", restored.size(), file,
+                    System.currentTimeMillis() - createdAt, System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read cache snapshot {}: {}", file, e.getMessage());
+        }
+        return restored;
+    }
+
+    synchronized void save() {
+        List<byte[]> records = new ArrayList<>();
+        int size = 20;
+        for (String key : hottestFirst()) {
+            byte[] record = cache.peek(key).map(entry -> encode(key, entry)).orElse(null);
+            if (record != null) {
+                records.add(record);
+                size += record.length;
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Se escribe a un temporal y se renombra para que un apagado a medias no deje un snapshot roto
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(System.currentTimeMillis()).putInt(records.size());
+                records.forEach(buffer::put);
+                buffer.force();
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} cache entries to snapshot {}", records.size(), file);
+        } catch (IOException e) {
+            log.warn("Could not write cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private List<String> hottestFirst() {
+        return cache.keys().stream()
+                .sorted(Comparator.comparingDouble(tracker::score).reversed())
+                .toList();
+    }
+
+    private byte[] encode(String key, SwapiResponseCache.Entry entry) {
+        Object value = entry.value();
+        byte shape;
+        Object sample;
+        if (value instanceof SwapiPageResponse<?> page) {
+            shape = SHAPE_PAGE;
+            sample = page.getResults().isEmpty() ? null : page.getResults().get(0);
+        } else if (value instanceof List<?> list) {
+            shape = SHAPE_LIST;
+            sample = list.isEmpty() ? null : list.get(0);
+        } else {
+            shape = SHAPE_OBJECT;
+            sample = value;
+        }
+        if (sample == null || !sample.getClass().getName().startsWith(DTO_PACKAGE)) {
+            return null;
+        }
+        try {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] typeBytes = sample.getClass().getName().getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length > MAX_STRING_BYTES || typeBytes.length > MAX_STRING_BYTES) {
+                log.debug("Skipping cache key in snapshot: key of {} bytes is too long", keyBytes.length);
+                return null;
+            }
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            ByteBuffer record = ByteBuffer.allocate(2 + keyBytes.length + 1 + 2 + typeBytes.length + 8 + 4 + json.length);
+            record.putShort((short) keyBytes.length).put(keyBytes)
+                    .put(shape)
+                    .putShort((short) typeBytes.length).put(typeBytes)
+                    .putLong(entry.loadedAt())
+                    .putInt(json.length).put(json);
+            return record.array();
+        } catch (IOException e) {
+            log.debug("Skipping cache key {} in snapshot: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean restoreEntry(String key, byte shape, String typeName, long loadedAt, byte[] json) {
+        if (!typeName.startsWith(DTO_PACKAGE)) {
+            return false;
+        }
+        try {
+            Class<?> type = Class.forName(typeName, false, getClass().getClassLoader());
+            Supplier<Object> loader = cachingSwapiClient.loaderFor(key, type);
+            if (loader == null) {
+                return false;
+            }
+            TypeFactory types = objectMapper.getTypeFactory();
+            JavaType javaType = switch (shape) {
+                case SHAPE_LIST -> types.constructCollectionType(ArrayList.class, type);
+                case SHAPE_PAGE -> types.constructParametricType(SwapiPageResponse.class, type);
+                default -> types.constructType(type);
+            };
+            cache.restore(key, objectMapper.readValue(json, javaType), loadedAt, loader);
+            return true;
+        } catch (ClassNotFoundException | IOException e) {
+            log.debug("Skipping cache key {} from snapshot: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
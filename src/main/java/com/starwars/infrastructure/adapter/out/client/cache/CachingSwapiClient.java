@@ -0,0 +1,88 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.port.out.SwapiClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorador del puerto SwapiClient que sirve las respuestas desde {@link SwapiResponseCache}.
+ * Es el bean primario, así que servicios y controladores lo reciben sin cambios.
+ * Si SWAPI no responde y no hay dato previo, devuelve lo mismo que devolvía SwapiClientImpl
+ * ante un error (null, lista vacía o página "error").
+ */
+@Primary
+@Component
+public class CachingSwapiClient implements SwapiClient {
+
+    private final SwapiClient delegate;
+    private final SwapiResponseCache cache;
+
+    public CachingSwapiClient(@Qualifier("circuitBreakerSwapiClient") SwapiClient delegate, SwapiResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public <T> List<T> fetchAll(String endpoint, Class<T> type) {
+        return cache.get(endpoint + ":all", () -> delegate.fetchAll(endpoint, type), ArrayList::new);
+    }
+
+    @Override
+    public <T> T fetchById(String endpoint, String id, Class<T> type) {
+        return cache.get(endpoint + ":id:" + id, () -> delegate.fetchById(endpoint, id, type));
+    }
+
+    @Override
+    public <T> SwapiPageResponse<T> fetchPage(String endpoint, int page, int limit, Class<T> type) {
+        return cache.get(endpoint + ":page:" + page + ":" + limit,
+                () -> delegate.fetchPage(endpoint, page, limit, type),
+                () -> new SwapiPageResponse<>("error", null, null, null, null, new ArrayList<>()));
+    }
+
+    @Override
+    public <T> List<T> fetchByName(String endpoint, String name, Class<T> type) {
+        return cache.get(endpoint + ":name:" + name, () -> delegate.fetchByName(endpoint, name, type), ArrayList::new);
+    }
+
+    @Override
+    public <T> List<T> fetchByModel(String endpoint, String model, Class<T> type) {
+        return cache.get(endpoint + ":model:" + model, () -> delegate.fetchByModel(endpoint, model, type), ArrayList::new);
+    }
+
+    /**
+     * Reconstruye el loader de una clave de caché ("people:page:2:10") para las entradas que
+     * se recuperan de disco, donde no viaja la lambda original. Devuelve null si la clave no es válida.
+     */
+    @SuppressWarnings("unchecked")
+    Supplier<Object> loaderFor(String key, Class<?> type) {
+        String[] parts = key.split(":", 3);
+        if (parts.length < 2) {
+            return null;
+        }
+        String endpoint = parts[0];
+        Class<Object> dtoType = (Class<Object>) type;
+        try {
+            return switch (parts[1]) {
+                case "all" -> () -> delegate.fetchAll(endpoint, dtoType);
+                case "id" -> () -> delegate.fetchById(endpoint, parts[2], dtoType);
+                case "name" -> () -> delegate.fetchByName(endpoint, parts[2], dtoType);
+                case "model" -> () -> delegate.fetchByModel(endpoint, parts[2], dtoType);
+                case "page" -> {
+                    String[] pageAndLimit = parts[2].split(":");
+                    int page = Integer.parseInt(pageAndLimit[0]);
+                    int limit = Integer.parseInt(pageAndLimit[1]);
+                    yield () -> delegate.fetchPage(endpoint, page, limit, dtoType);
+                }
+                default -> null;
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Persiste en disco las claves de caché más pedidas para precargarlas en el próximo arranque.
+ * Se escribe periódicamente y al apagar la aplicación; una clave por línea, de la más caliente a la más fría.
+ */
+@Slf4j
+@Component
+public class HotKeyLog {
+
+    private final AccessFrequencyTracker tracker;
+    private final Path file;
+    private final int maxKeys;
+
+    public HotKeyLog(AccessFrequencyTracker tracker,
+                     @Value("${swapi.warmup.hot-key-log:${java.io.tmpdir}/starwars/hot-keys.log}") String file,
+                     @Value("${swapi.warmup.hot-keys:50}") int maxKeys) {
+        this.tracker = tracker;
+        this.file = Path.of(file);
+        this.maxKeys = maxKeys;
+    }
+
+    public List<String> load() {
+        if (!Files.isReadable(file)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.isBlank())
+                    .limit(maxKeys)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not read hot key log {}: {}", file, e.getMessage());
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${swapi.warmup.hot-key-log-interval:60000}")
+    public void save() {
+        List<String> keys = tracker.hotKeys(0).stream().limit(maxKeys).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Se escribe a un temporal y se renombra para no dejar un archivo a medias
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, keys, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write hot key log {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Recarga en segundo plano las entradas calientes de la caché de SWAPI antes de que expiren,
+ * para que los servicios no esperen una recarga en frío sobre los recursos más pedidos.
+ * Las recargas consumen un presupuesto global de peticiones por minuto hacia SWAPI. Una clave cuya
+ * recarga falla no se reintenta hasta que pasa su espera, que se duplica con cada fallo seguido.
+ * Con el presupuesto que sobra se reconcilian, de a poco, las entradas recuperadas del snapshot en disco.
+ */
+@Slf4j
+@Component
+public class RefreshAheadScheduler {
+
+    private final SwapiResponseCache cache;
+    private final AccessFrequencyTracker tracker;
+    private final Executor executor;
+    private final Clock clock;
+    private final boolean enabled;
+    private final double threshold;
+    private final double hotScore;
+    private final int budgetPerMinute;
+    private final long failureBackoff;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // Claves cuya última recarga falló, con la espera antes del próximo intento
+    private final Map<String, Backoff> failures = new ConcurrentHashMap<>();
+    // Claves recuperadas del snapshot que todavía no se recargaron desde SWAPI
+    private final Queue<String> pendingReconcile = new ConcurrentLinkedQueue<>();
+
+    private double tokens;
+    private long lastRefill;
+
+    @Autowired
+    public RefreshAheadScheduler(SwapiResponseCache cache,
+                                 AccessFrequencyTracker tracker,
+                                 @Value("${swapi.cache.refresh-ahead.enabled:true}") boolean enabled,
+                                 @Value("${swapi.cache.refresh-ahead.threshold:0.8}") double threshold,
+                                 @Value("${swapi.cache.refresh-ahead.hot-score:3.0}") double hotScore,
+                                 @Value("${swapi.cache.refresh-ahead.budget-per-minute:60}") int budgetPerMinute,
+                                 @Value("${swapi.cache.refresh-ahead.max-concurrent:4}") int maxConcurrent,
+                                 @Value("${swapi.cache.refresh-ahead.failure-backoff:30000}") long failureBackoff) {
+        this(cache, tracker, newRefreshPool(maxConcurrent), Clock.systemUTC(),
+                enabled, threshold, hotScore, budgetPerMinute, failureBackoff);
+    }
+
+    RefreshAheadScheduler(SwapiResponseCache cache, AccessFrequencyTracker tracker, Executor executor, Clock clock,
+                          boolean enabled, double threshold, double hotScore, int budgetPerMinute,
+                          long failureBackoff) {
+        this.cache = cache;
+        this.tracker = tracker;
+        this.executor = executor;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.hotScore = hotScore;
+        this.budgetPerMinute = budgetPerMinute;
+        this.failureBackoff = failureBackoff;
+        this.tokens = budgetPerMinute;
+        this.lastRefill = clock.millis();
+    }
+
+    @Scheduled(fixedDelayString = "${swapi.cache.refresh-ahead.interval:5000}")
+    public void refreshHotEntries() {
+        if (!enabled) {
+            return;
+        }
+        tracker.decay();
+        // Las claves que salieron de la caché ya no se recargan
+        failures.keySet().removeIf(key -> cache.peek(key).isEmpty());
+
+        // hotKeys viene ordenado por puntaje: si el presupuesto no alcanza, se refrescan primero las más pedidas
+        long now = clock.millis();
+        List<String> candidates = tracker.hotKeys(hotScore).stream()
+                .filter(key -> !refreshing.contains(key))
+                .filter(key -> !isBackingOff(key, now))
+                .filter(key -> cache.isDueForRefresh(key, threshold))
+                .toList();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!tryAcquire()) {
+                log.debug("Refresh-ahead budget exhausted, {} hot keys left for the next run", candidates.size() - i);
+                return;
+            }
+            refresh(candidates.get(i));
+        }
+
+        while (!pendingReconcile.isEmpty()) {
+            String key = pendingReconcile.peek();
+            // Las que ya se están recargando o salieron de la caché no necesitan reconciliarse
+            if (refreshing.contains(key) || cache.peek(key).isEmpty()) {
+                pendingReconcile.poll();
+                continue;
+            }
+            if (!tryAcquire()) {
+                log.debug("Refresh-ahead budget exhausted, {} restored keys left to reconcile", pendingReconcile.size());
+                return;
+            }
+            refresh(pendingReconcile.poll());
+        }
+    }
+
+    /**
+     * Encola claves recuperadas del snapshot para recargarlas desde SWAPI, en orden, con el presupuesto
+     * que no usan las claves calientes. Con el refresco anticipado desactivado se sirven hasta que expiran.
+     */
+    public void reconcile(Collection<String> keys) {
+        if (enabled) {
+            pendingReconcile.addAll(keys);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private void refresh(String key) {
+        refreshing.add(key);
+        executor.execute(() -> {
+            try {
+                log.debug("Refreshing cache key ahead of expiry: {}", key);
+                if (cache.reload(key)) {
+                    failures.remove(key);
+                } else {
+                    failures.compute(key, (ignored, previous) -> {
+                        int failed = previous == null ? 1 : previous.failures() + 1;
+                        return new Backoff(failed, clock.millis() + backoffDelay(failed));
+                    });
+                }
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private boolean isBackingOff(String key, long now) {
+        Backoff backoff = failures.get(key);
+        return backoff != null && now < backoff.retryAt();
+    }
+
+    // failureBackoff, 2x, 4x... sin pasar del TTL de la caché
+    private long backoffDelay(int failures) {
+        long delay = failureBackoff << Math.min(failures - 1, 20);
+        return Math.min(delay, Math.max(failureBackoff, cache.getTtl()));
+    }
+
+    // Token bucket: se reponen budgetPerMinute permisos por minuto, sin acumular más de un minuto
+    private synchronized boolean tryAcquire() {
+        long now = clock.millis();
+        tokens = Math.min(budgetPerMinute, tokens + (now - lastRefill) * budgetPerMinute / 60000.0);
+        lastRefill = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    private static ExecutorService newRefreshPool(int maxConcurrent) {
+        return Executors.newFixedThreadPool(maxConcurrent, runnable -> {
+            Thread thread = new Thread(runnable, "swapi-refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Backoff(int failures, long retryAt) {
+    }
+}
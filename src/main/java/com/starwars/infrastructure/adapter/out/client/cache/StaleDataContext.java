@@ -0,0 +1,39 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Marca la petición HTTP en curso cuando alguna respuesta se sirvió desde datos vencidos.
+ * Fuera de una petición (tareas programadas) no hace nada.
+ */
+public final class StaleDataContext {
+
+    private static final String STALE_AGE_ATTRIBUTE = StaleDataContext.class.getName() + ".AGE";
+
+    private StaleDataContext() {
+    }
+
+    public static void markStale(long ageMillis) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        // Si la respuesta combina varios datos vencidos, se informa la edad del más viejo
+        Long current = (Long) attributes.getAttribute(STALE_AGE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (current == null || ageMillis > current) {
+            attributes.setAttribute(STALE_AGE_ATTRIBUTE, ageMillis, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Edad en milisegundos del dato vencido más viejo servido en esta petición, o null si todo fue fresco.
+     */
+    public static Long staleAge() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Long) attributes.getAttribute(STALE_AGE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
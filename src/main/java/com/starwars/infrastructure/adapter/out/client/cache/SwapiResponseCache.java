@@ -0,0 +1,205 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import com.starwars.domain.exception.SwapiUnavailableException;
+import com.starwars.domain.model.SwapiPageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caché en memoria de las respuestas de SWAPI.
+ * Guarda junto a cada valor el loader que lo generó, así el refresco anticipado
+ * puede recargar una clave sin saber qué operación de SWAPI hay detrás.
+ * Las entradas vencidas no se borran al expirar: si SWAPI no está disponible se sirven
+ * como dato vencido (stale-while-revalidate) hasta que la caché necesita lugar.
+ */
+@Slf4j
+@Component
+public class SwapiResponseCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Cargas en curso: varios llamadores sobre la misma clave esperan una sola petición a SWAPI
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AccessFrequencyTracker tracker;
+    private final Clock clock;
+    private final long ttl;
+    private final int maxEntries;
+
+    @Autowired
+    public SwapiResponseCache(AccessFrequencyTracker tracker,
+                              @Value("${swapi.cache.ttl:600000}") long ttl,
+                              @Value("${swapi.cache.max-entries:10000}") int maxEntries) {
+        this(tracker, Clock.systemUTC(), ttl, maxEntries);
+    }
+
+    SwapiResponseCache(AccessFrequencyTracker tracker, Clock clock, long ttl, int maxEntries) {
+        this.tracker = tracker;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    public <T> T get(String key, Supplier<T> loader) {
+        return get(key, loader, () -> null);
+    }
+
+    /**
+     * Devuelve el valor cacheado o lo carga. Si SWAPI no está disponible sirve el último valor
+     * conocido aunque esté vencido y, si nunca se cargó, el valor de {@code fallback}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader, Supplier<T> fallback) {
+        tracker.record(key);
+        Entry entry = entries.get(key);
+        long now = clock.millis();
+        if (entry != null && !entry.isExpired(now)) {
+            return (T) entry.value();
+        }
+        try {
+            return (T) load(key, (Supplier<Object>) loader);
+        } catch (SwapiUnavailableException e) {
+            if (entry != null) {
+                log.warn("SWAPI unavailable, serving stale value for key {} ({} ms old)", key, now - entry.loadedAt());
+                StaleDataContext.markStale(now - entry.loadedAt());
+                return (T) entry.value();
+            }
+            log.warn("SWAPI unavailable and no cached value for key {}: {}", key, e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    public Optional<Entry> peek(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public Collection<String> keys() {
+        return entries.keySet();
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Indica si la entrada ya consumió la fracción indicada de su TTL y conviene recargarla.
+     */
+    public boolean isDueForRefresh(String key, double threshold) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        long age = clock.millis() - entry.loadedAt();
+        return age >= (long) (ttl * threshold);
+    }
+
+    /**
+     * Recarga la clave con su loader original. Si SWAPI falla se conserva el valor anterior.
+     *
+     * @return false si la recarga falló; true si se recargó o la clave ya no está en la caché
+     */
+    public boolean reload(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return true;
+        }
+        try {
+            load(key, entry.loader());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Refresh of cache key {} failed, keeping previous value: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Carga una entrada recuperada de un snapshot en disco. Conserva su {@code loadedAt} original,
+     * así la antigüedad real sigue visible, pero se sirve durante un TTL completo desde ahora
+     * mientras se reconcilia con SWAPI. No pisa valores ya cargados.
+     */
+    public void restore(String key, Object value, long loadedAt, Supplier<Object> loader) {
+        if (!isCacheable(value) || entries.size() >= maxEntries) {
+            return;
+        }
+        entries.putIfAbsent(key, new Entry(value, loadedAt, clock.millis() + ttl, loader));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private Object load(String key, Supplier<Object> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            Object value = loader.get();
+            if (isCacheable(value)) {
+                put(key, value, loader);
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void put(String key, Object value, Supplier<Object> loader) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            long now = clock.millis();
+            entries.values().removeIf(e -> e.isExpired(now));
+            if (entries.size() >= maxEntries) {
+                log.debug("SWAPI cache is full ({} entries), not caching key {}", maxEntries, key);
+                return;
+            }
+        }
+        long now = clock.millis();
+        entries.put(key, new Entry(value, now, now + ttl, loader));
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Respuestas vacías (404, búsquedas sin resultados, páginas rechazadas) no se cachean
+    private boolean isCacheable(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+        if (value instanceof SwapiPageResponse<?> page) {
+            return page.getResults() != null && !"error".equals(page.getMessage());
+        }
+        return true;
+    }
+
+    public record Entry(Object value, long loadedAt, long expiresAt, Supplier<Object> loader) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 @Builder
@@ -32,5 +33,10 @@ public class SwapiFilmDTO {
     
     @JsonProperty("_id")
     private String internalId;
+    
+    // URLs de los recursos relacionados; se usan para llenar las tablas de relaciones locales
+    private List<String> characters;
+    private List<String> starships;
+    private List<String> vehicles;
 }
 
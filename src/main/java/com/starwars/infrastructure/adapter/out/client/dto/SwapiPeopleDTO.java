@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,5 +36,9 @@ public class SwapiPeopleDTO {
     
     @JsonProperty("_id")
     private String internalId;
+    
+    // URLs de los recursos relacionados; se usan para llenar las tablas de relaciones locales
+    private List<String> starships;
+    private List<String> vehicles;
 }
 
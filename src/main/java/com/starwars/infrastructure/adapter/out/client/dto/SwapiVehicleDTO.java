@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,5 +35,8 @@ public class SwapiVehicleDTO {
     
     @JsonProperty("_id")
     private String internalId;
+    
+    // URLs de los recursos relacionados; se usan para llenar las tablas de relaciones locales
+    private List<String> pilots;
 }
 
@@ -0,0 +1,67 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import com.starwars.domain.exception.SwapiUnavailableException;
+import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.port.out.SwapiClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorador del puerto SwapiClient que pasa cada llamada por {@link SwapiCircuitBreaker}.
+ * Con el circuito abierto falla de inmediato con {@link SwapiUnavailableException}
+ * y la caché decide qué dato servir en su lugar.
+ */
+@Component
+public class CircuitBreakerSwapiClient implements SwapiClient {
+
+    private final SwapiClient delegate;
+    private final SwapiCircuitBreaker circuitBreaker;
+
+    public CircuitBreakerSwapiClient(@Qualifier("hedgingSwapiClient") SwapiClient delegate,
+                                     SwapiCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public <T> List<T> fetchAll(String endpoint, Class<T> type) {
+        return call(endpoint, () -> delegate.fetchAll(endpoint, type));
+    }
+
+    @Override
+    public <T> T fetchById(String endpoint, String id, Class<T> type) {
+        return call(endpoint, () -> delegate.fetchById(endpoint, id, type));
+    }
+
+    @Override
+    public <T> SwapiPageResponse<T> fetchPage(String endpoint, int page, int limit, Class<T> type) {
+        return call(endpoint, () -> delegate.fetchPage(endpoint, page, limit, type));
+    }
+
+    @Override
+    public <T> List<T> fetchByName(String endpoint, String name, Class<T> type) {
+        return call(endpoint, () -> delegate.fetchByName(endpoint, name, type));
+    }
+
+    @Override
+    public <T> List<T> fetchByModel(String endpoint, String model, Class<T> type) {
+        return call(endpoint, () -> delegate.fetchByModel(endpoint, model, type));
+    }
+
+    private <T> T call(String endpoint, Supplier<T> request) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new SwapiUnavailableException("Circuit breaker open, skipping SWAPI call to " + endpoint);
+        }
+        try {
+            T result = request.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+}
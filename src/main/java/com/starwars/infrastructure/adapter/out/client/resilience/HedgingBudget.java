@@ -0,0 +1,30 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+/**
+ * Presupuesto de peticiones duplicadas: cada petición original aporta {@code percent}/100 de permiso
+ * y cada petición de cobertura consume uno, así las duplicadas nunca superan ese porcentaje del tráfico.
+ */
+public class HedgingBudget {
+
+    // Permite acumular algo de margen tras un período tranquilo, sin ráfagas grandes
+    private static final double MAX_TOKENS = 10;
+
+    private final double ratio;
+    private double tokens;
+
+    public HedgingBudget(double percent) {
+        this.ratio = percent / 100.0;
+    }
+
+    public synchronized void onRequest() {
+        tokens = Math.min(MAX_TOKENS, tokens + ratio);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import com.starwars.domain.exception.SwapiUnavailableException;
+import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.port.out.SwapiClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorador del puerto SwapiClient que cubre la cola de latencia de {@code fetchById}.
+ * Si la primera petición no responde dentro del p95 observado se lanza una segunda idéntica;
+ * gana la primera respuesta correcta y la otra se cancela. Las peticiones duplicadas
+ * están limitadas por {@link HedgingBudget}. El resto de operaciones pasan directo.
+ */
+@Slf4j
+@Component
+public class HedgingSwapiClient implements SwapiClient {
+
+    private final SwapiClient delegate;
+    private final LatencyTracker latencyTracker;
+    private final HedgingBudget budget;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+
+    @Autowired
+    public HedgingSwapiClient(@Qualifier("swapiClientImpl") SwapiClient delegate,
+                              MeterRegistry meterRegistry,
+                              @Value("${swapi.hedging.enabled:false}") boolean enabled,
+                              @Value("${swapi.hedging.budget-percent:10}") double budgetPercent,
+                              @Value("${swapi.hedging.window-size:500}") int windowSize,
+                              @Value("${swapi.hedging.min-samples:20}") int minSamples) {
+        this(delegate, meterRegistry, new LatencyTracker(windowSize, minSamples), new HedgingBudget(budgetPercent),
+                enabled);
+    }
+
+    HedgingSwapiClient(SwapiClient delegate, MeterRegistry meterRegistry, LatencyTracker latencyTracker,
+                       HedgingBudget budget, boolean enabled) {
+        this.delegate = delegate;
+        this.latencyTracker = latencyTracker;
+        this.budget = budget;
+        this.enabled = enabled;
+        // Hilos virtuales: las peticiones bloqueantes son baratas y se pueden interrumpir al cancelar
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.hedgesSent = meterRegistry.counter("swapi.hedging.sent");
+        this.hedgesWon = meterRegistry.counter("swapi.hedging.won");
+    }
+
+    @Override
+    public <T> List<T> fetchAll(String endpoint, Class<T> type) {
+        return delegate.fetchAll(endpoint, type);
+    }
+
+    @Override
+    public <T> T fetchById(String endpoint, String id, Class<T> type) {
+        if (!enabled) {
+            return delegate.fetchById(endpoint, id, type);
+        }
+        budget.onRequest();
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        long start = System.currentTimeMillis();
+        Future<T> primary = completion.submit(() -> delegate.fetchById(endpoint, id, type));
+        Future<T> hedge = null;
+        try {
+            long hedgeDelay = latencyTracker.p95();
+            Future<T> first = hedgeDelay < 0 ? completion.take() : completion.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                if (!budget.tryAcquire()) {
+                    return record(start, completion.take().get());
+                }
+                log.debug("Hedging {}/{} after {} ms", endpoint, id, hedgeDelay);
+                hedgesSent.increment();
+                hedge = completion.submit(() -> delegate.fetchById(endpoint, id, type));
+                first = completion.take();
+            }
+            T result;
+            try {
+                result = first.get();
+            } catch (ExecutionException e) {
+                // Si la primera en terminar falló y hay otra en curso, se espera a la otra
+                if (hedge == null) {
+                    throw e;
+                }
+                first = completion.take();
+                result = first.get();
+            }
+            if (first == hedge) {
+                hedgesWon.increment();
+            }
+            return record(start, result);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SwapiUnavailableException("Error fetching " + endpoint + "/" + id + " from SWAPI", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SwapiUnavailableException("Interrupted while fetching " + endpoint + "/" + id + " from SWAPI", e);
+        } finally {
+            // La petición perdedora se interrumpe para liberar la conexión
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public <T> SwapiPageResponse<T> fetchPage(String endpoint, int page, int limit, Class<T> type) {
+        return delegate.fetchPage(endpoint, page, limit, type);
+    }
+
+    @Override
+    public <T> List<T> fetchByName(String endpoint, String name, Class<T> type) {
+        return delegate.fetchByName(endpoint, name, type);
+    }
+
+    @Override
+    public <T> List<T> fetchByModel(String endpoint, String model, Class<T> type) {
+        return delegate.fetchByModel(endpoint, model, type);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T record(long start, T result) {
+        latencyTracker.record(System.currentTimeMillis() - start);
+        return result;
+    }
+}
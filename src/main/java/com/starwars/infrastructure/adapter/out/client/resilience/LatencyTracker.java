@@ -0,0 +1,51 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Ventana deslizante de las últimas latencias de SWAPI con su percentil 95.
+ * El percentil se recalcula cada {@code RECOMPUTE_EVERY} muestras para no ordenar en cada petición.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_EVERY = 20;
+
+    private final long[] samples;
+    private final int minSamples;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private volatile long p95 = -1;
+
+    public LatencyTracker(int windowSize, int minSamples) {
+        this.samples = new long[windowSize];
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_EVERY || p95 < 0) {
+            recompute();
+        }
+    }
+
+    /**
+     * Percentil 95 en milisegundos, o -1 si todavía no hay muestras suficientes.
+     */
+    public long p95() {
+        return p95;
+    }
+
+    private void recompute() {
+        sinceRecompute = 0;
+        if (count < minSamples) {
+            p95 = -1;
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+    }
+}
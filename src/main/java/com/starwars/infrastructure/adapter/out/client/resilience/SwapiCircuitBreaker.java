@@ -0,0 +1,97 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Circuit breaker de las llamadas a SWAPI.
+ * <p>
+ * CLOSED: las llamadas pasan y se cuentan los fallos consecutivos.
+ * OPEN: se rechazan sin tocar la red hasta que pasa {@code openDuration}.
+ * HALF_OPEN: se deja pasar una única llamada de prueba; si funciona se cierra, si falla se vuelve a abrir.
+ */
+@Slf4j
+@Component
+public class SwapiCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final Clock clock;
+    private final int failureThreshold;
+    private final long openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    @Autowired
+    public SwapiCircuitBreaker(MeterRegistry meterRegistry,
+                               @Value("${swapi.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${swapi.circuit-breaker.open-duration:30000}") long openDuration) {
+        this(meterRegistry, Clock.systemUTC(), failureThreshold, openDuration);
+    }
+
+    SwapiCircuitBreaker(MeterRegistry meterRegistry, Clock clock, int failureThreshold, long openDuration) {
+        this.clock = clock;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        // 0 = cerrado, 1 = semiabierto, 2 = abierto
+        Gauge.builder("swapi.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Estado del circuit breaker hacia SWAPI (0 closed, 1 half-open, 2 open)")
+                .register(meterRegistry);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.millis() - openedAt < openDuration) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+                probeInFlight = true;
+                return true;
+            default:
+                // HALF_OPEN: solo una llamada de prueba a la vez
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = clock.millis();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("SWAPI circuit breaker {} -> {}", state, newState);
+        state = newState;
+    }
+}
@@ -0,0 +1,149 @@
+package com.starwars.infrastructure.adapter.out.facet;
+
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Índice de facetas inmutable: cada elemento recibe un ordinal (su posición en la lista) y cada
+ * valor distinto de cada atributo guarda el conjunto de ordinales que lo tienen en un bitmap comprimido.
+ * <p>
+ * Un filtro se resuelve con OR de los bitmaps de los valores de cada atributo y AND entre atributos.
+ * El conteo de una faceta es la cardinalidad de su bitmap intersecada con los filtros de los demás
+ * atributos, así que un valor ya elegido no deja a cero a sus alternativas.
+ */
+final class BitmapFacetIndex<T> {
+
+    private final List<T> items;
+    private final RoaringBitmap all;
+    // atributo -> valor normalizado -> faceta, en el orden en que se declararon los atributos
+    private final Map<String, Map<String, Facet>> facets;
+
+    private record Facet(String label, RoaringBitmap items) {
+    }
+
+    private BitmapFacetIndex(List<T> items, Map<String, Map<String, Facet>> facets) {
+        this.items = items;
+        this.all = new RoaringBitmap();
+        this.all.add(0L, items.size());
+        this.facets = facets;
+    }
+
+    /**
+     * Construye el índice. {@code items} ya debe venir en el orden en que se paginan los resultados;
+     * un atributo puede devolver varios valores por elemento (o ninguno).
+     */
+    static <T> BitmapFacetIndex<T> build(List<T> items, Map<String, Function<T, Collection<String>>> attributes) {
+        Map<String, Map<String, Facet>> facets = new LinkedHashMap<>();
+        attributes.forEach((attribute, values) -> {
+            Map<String, Facet> byValue = new LinkedHashMap<>();
+            for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+                Collection<String> itemValues = values.apply(items.get(ordinal));
+                if (itemValues == null) {
+                    continue;
+                }
+                for (String value : itemValues) {
+                    if (value != null && !value.isBlank()) {
+                        byValue.computeIfAbsent(normalize(value), key -> new Facet(value.trim(), new RoaringBitmap()))
+                                .items().add(ordinal);
+                    }
+                }
+            }
+            byValue.values().forEach(facet -> facet.items().runOptimize());
+            facets.put(attribute, byValue);
+        });
+        return new BitmapFacetIndex<>(List.copyOf(items), facets);
+    }
+
+    static <T> BitmapFacetIndex<T> empty(Set<String> attributes) {
+        Map<String, Function<T, Collection<String>>> none = new LinkedHashMap<>();
+        attributes.forEach(attribute -> none.put(attribute, item -> List.of()));
+        return build(List.of(), none);
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    int distinctValues() {
+        return facets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    FacetedPage<T> search(Map<String, Set<String>> filters, int offset, int size) {
+        // Por atributo filtrado, la unión de los valores pedidos
+        Map<String, RoaringBitmap> selected = new LinkedHashMap<>();
+        filters.forEach((attribute, values) -> {
+            Map<String, Facet> byValue = facets.get(attribute);
+            if (byValue == null) {
+                throw new IllegalArgumentException("Atributo de faceta desconocido: " + attribute);
+            }
+            if (values != null && !values.isEmpty()) {
+                RoaringBitmap[] bitmaps = values.stream()
+                        .map(value -> byValue.get(normalize(value)))
+                        .filter(Objects::nonNull)
+                        .map(Facet::items)
+                        .toArray(RoaringBitmap[]::new);
+                selected.put(attribute, bitmaps.length == 0 ? new RoaringBitmap() : FastAggregation.or(bitmaps));
+            }
+        });
+
+        RoaringBitmap matches = intersect(selected.values());
+        List<T> content = new ArrayList<>();
+        long total = matches.getLongCardinality();
+        for (long rank = Math.max(0, offset); rank < Math.min(total, (long) offset + size); rank++) {
+            content.add(items.get(matches.select((int) rank)));
+        }
+
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        facets.forEach((attribute, byValue) -> {
+            List<RoaringBitmap> others = selected.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(attribute))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            RoaringBitmap scope = intersect(others);
+            counts.put(attribute, count(byValue.values(), scope));
+        });
+
+        return FacetedPage.<T>builder()
+                .content(content)
+                .totalElements(total)
+                .facets(counts)
+                .build();
+    }
+
+    private RoaringBitmap intersect(Collection<RoaringBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return all;
+        }
+        return FastAggregation.and(bitmaps.toArray(RoaringBitmap[]::new));
+    }
+
+    // Solo valores con algún elemento, de más a menos frecuente
+    private Map<String, Long> count(Collection<Facet> values, RoaringBitmap scope) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        values.stream()
+                .map(facet -> Map.entry(facet.label(), scope == all
+                        ? facet.items().getLongCardinality()
+                        : RoaringBitmap.andCardinality(facet.items(), scope)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry::getKey, String.CASE_INSENSITIVE_ORDER))
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    // Igual que search_manufacturer y search_class: sin mayúsculas ni acentos
+    private static String normalize(String value) {
+        return SearchNormalizer.normalize(value);
+    }
+}
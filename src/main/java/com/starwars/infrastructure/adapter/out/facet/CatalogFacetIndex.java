@@ -0,0 +1,77 @@
+package com.starwars.infrastructure.adapter.out.facet;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.port.out.FacetIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Índice de facetas de un recurso del catálogo local. Se construye al arrancar y tras cada
+ * sincronización; las búsquedas leen la última versión sin bloquear mientras se reconstruye.
+ */
+@Slf4j
+public abstract class CatalogFacetIndex<T> implements FacetIndex<T> {
+
+    // Null hasta la primera construcción
+    private volatile BitmapFacetIndex<T> index;
+
+    // Nombre del recurso tal como lo publica CatalogSyncedEvent
+    protected abstract String resource();
+
+    // Recorre el catálogo local entregando cada elemento
+    protected abstract void load(Consumer<T> consumer);
+
+    // Orden de los resultados (el mismo que la paginación del catálogo)
+    protected abstract Comparator<T> order();
+
+    // Atributo -> valores del elemento, en el orden en que se devuelven las facetas
+    protected abstract Map<String, Function<T, Collection<String>>> attributes();
+
+    @Override
+    public FacetedPage<T> search(Map<String, Set<String>> filters, int offset, int size) {
+        BitmapFacetIndex<T> current = index;
+        if (current == null) {
+            current = BitmapFacetIndex.empty(attributes().keySet());
+        }
+        return current.search(filters, offset, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (event.includes(resource())) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<T> items = new ArrayList<>();
+            load(items::add);
+            items.sort(order());
+            BitmapFacetIndex<T> rebuilt = BitmapFacetIndex.build(items, attributes());
+            index = rebuilt;
+            log.info("Rebuilt {} facet index: {} items, {} distinct values in {} ms", resource(),
+                    rebuilt.size(), rebuilt.distinctValues(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el índice anterior
+            log.warn("Could not rebuild {} facet index: {}", resource(), e.getMessage());
+        }
+    }
+}
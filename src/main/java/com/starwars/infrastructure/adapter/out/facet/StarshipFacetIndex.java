@@ -0,0 +1,55 @@
+package com.starwars.infrastructure.adapter.out.facet;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Facetas de naves por clase y fabricante. Un fabricante de SWAPI con varios separados por comas
+ * cuenta en cada uno (ver {@link SearchNormalizer#manufacturers}).
+ */
+@Component
+public class StarshipFacetIndex extends CatalogFacetIndex<Starship> {
+
+    public static final String STARSHIP_CLASS = "starshipClass";
+    public static final String MANUFACTURER = "manufacturer";
+
+    private final StarshipRepository starshipRepository;
+
+    public StarshipFacetIndex(StarshipRepository starshipRepository) {
+        this.starshipRepository = starshipRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "starships";
+    }
+
+    @Override
+    protected void load(Consumer<Starship> consumer) {
+        starshipRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected Comparator<Starship> order() {
+        return Comparator.comparing(Starship::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Starship::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+    }
+
+    @Override
+    protected Map<String, Function<Starship, Collection<String>>> attributes() {
+        Map<String, Function<Starship, Collection<String>>> attributes = new LinkedHashMap<>();
+        attributes.put(STARSHIP_CLASS, starship -> starship.getStarshipClass() == null ? List.of() : List.of(starship.getStarshipClass()));
+        attributes.put(MANUFACTURER, starship -> SearchNormalizer.manufacturers(starship.getManufacturer()));
+        return attributes;
+    }
+}
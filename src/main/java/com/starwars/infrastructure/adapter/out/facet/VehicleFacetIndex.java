@@ -0,0 +1,48 @@
+package com.starwars.infrastructure.adapter.out.facet;
+
+import com.starwars.domain.model.Vehicle;
+import com.starwars.domain.port.out.VehicleRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Facetas de vehículos por clase.
+ */
+@Component
+public class VehicleFacetIndex extends CatalogFacetIndex<Vehicle> {
+
+    public static final String VEHICLE_CLASS = "vehicleClass";
+
+    private final VehicleRepository vehicleRepository;
+
+    public VehicleFacetIndex(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "vehicles";
+    }
+
+    @Override
+    protected void load(Consumer<Vehicle> consumer) {
+        vehicleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected Comparator<Vehicle> order() {
+        return Comparator.comparing(Vehicle::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Vehicle::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+    }
+
+    @Override
+    protected Map<String, Function<Vehicle, Collection<String>>> attributes() {
+        return Map.of(VEHICLE_CLASS, vehicle -> vehicle.getVehicleClass() == null ? List.of() : List.of(vehicle.getVehicleClass()));
+    }
+}
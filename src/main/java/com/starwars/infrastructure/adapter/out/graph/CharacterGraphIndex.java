@@ -0,0 +1,139 @@
+package com.starwars.infrastructure.adapter.out.graph;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.GraphNode;
+import com.starwars.domain.port.out.CharacterGraph;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Grafo de apariciones construido con el catálogo local: personajes enlazados con sus films (lado
+ * del film), naves y vehículos (lado del personaje). Se reconstruye al arrancar y tras cada
+ * sincronización de cualquiera de los cuatro recursos; las consultas leen la última versión sin
+ * bloquear mientras se reconstruye.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CharacterGraphIndex implements CharacterGraph {
+
+    private static final Set<String> LINK_TYPES = new LinkedHashSet<>(
+            List.of(CsrGraph.FILMS, CsrGraph.STARSHIPS, CsrGraph.VEHICLES));
+
+    private final PeopleRepository peopleRepository;
+    private final FilmRepository filmRepository;
+    private final StarshipRepository starshipRepository;
+    private final VehicleRepository vehicleRepository;
+
+    // Null hasta la primera construcción
+    private volatile CsrGraph graph;
+
+    @Override
+    public Set<String> linkTypes() {
+        return LINK_TYPES;
+    }
+
+    @Override
+    public Optional<List<CoAppearance>> coAppearances(String personUid, int limit) {
+        CsrGraph current = graph;
+        int person = person(current, personUid);
+        if (person < 0) {
+            return Optional.empty();
+        }
+        int[][] coAppearances = current.coAppearances(person, limit);
+        List<CoAppearance> result = new ArrayList<>(coAppearances[0].length);
+        for (int i = 0; i < coAppearances[0].length; i++) {
+            result.add(coAppearance(current, coAppearances[0][i], coAppearances[1][i]));
+        }
+        return Optional.of(result);
+    }
+
+    @Override
+    public Optional<CoAppearance> coAppearance(String personUid, String otherUid) {
+        CsrGraph current = graph;
+        int person = person(current, personUid);
+        int other = person(current, otherUid);
+        if (person < 0 || other < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(coAppearance(current, other, current.sharedFilms(person, other)));
+    }
+
+    @Override
+    public Optional<List<GraphNode>> shortestPath(String fromUid, String toUid, Set<String> via) {
+        CsrGraph current = graph;
+        int from = person(current, fromUid);
+        int to = person(current, toUid);
+        if (from < 0 || to < 0) {
+            return Optional.empty();
+        }
+        int[] path = current.shortestPath(from, to, List.copyOf(via));
+        return Optional.of(Arrays.stream(path)
+                .mapToObj(node -> GraphNode.builder()
+                        .type(current.type(node))
+                        .uid(current.uid(node))
+                        .name(current.name(node))
+                        .build())
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (CsrGraph.TYPES.stream().anyMatch(event::includes)) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            CsrGraph.Builder builder = CsrGraph.builder();
+            peopleRepository.exportAll(person -> builder.node(CsrGraph.PEOPLE, person.getUid(), person.getName()));
+            filmRepository.exportAll(film -> builder.node(CsrGraph.FILMS, film.getUid(), film.getTitle()));
+            starshipRepository.exportAll(starship -> builder.node(CsrGraph.STARSHIPS, starship.getUid(), starship.getName()));
+            vehicleRepository.exportAll(vehicle -> builder.node(CsrGraph.VEHICLES, vehicle.getUid(), vehicle.getName()));
+            filmRepository.exportCharacterLinks((filmUid, personUid) -> builder.link(personUid, CsrGraph.FILMS, filmUid));
+            peopleRepository.exportStarshipLinks((personUid, starshipUid) -> builder.link(personUid, CsrGraph.STARSHIPS, starshipUid));
+            peopleRepository.exportVehicleLinks((personUid, vehicleUid) -> builder.link(personUid, CsrGraph.VEHICLES, vehicleUid));
+            CsrGraph rebuilt = builder.build();
+            graph = rebuilt;
+            log.info("Rebuilt character graph: {} nodes, {} links, {} co-appearances in {} ms", rebuilt.nodeCount(),
+                    rebuilt.linkCount(), rebuilt.coAppearanceCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el grafo anterior
+            log.warn("Could not rebuild character graph: {}", e.getMessage());
+        }
+    }
+
+    private static int person(CsrGraph current, String uid) {
+        return current == null ? -1 : current.node(CsrGraph.PEOPLE, uid);
+    }
+
+    private static CoAppearance coAppearance(CsrGraph current, int person, int sharedFilms) {
+        return CoAppearance.builder()
+                .uid(current.uid(person))
+                .name(current.name(person))
+                .sharedFilms(sharedFilms)
+                .build();
+    }
+}
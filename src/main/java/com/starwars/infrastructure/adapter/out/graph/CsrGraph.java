@@ -0,0 +1,264 @@
+package com.starwars.infrastructure.adapter.out.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grafo inmutable de personajes y de los films, naves y vehículos en los que aparecen, con la
+ * adyacencia en formato CSR: los vecinos del nodo {@code n} son {@code targets[offsets[n]]} hasta
+ * {@code targets[offsets[n + 1] - 1]}. Todo son arrays de {@code int}, sin un objeto por arista.
+ * <p>
+ * Las aristas van siempre de un personaje a un film, nave o vehículo (grafo bipartito), así que un
+ * camino entre dos personajes alterna personaje y enlace. Aparte se precalculan en otro CSR las
+ * coapariciones: por personaje, los que comparten films con él y cuántos, de más a menos.
+ */
+final class CsrGraph {
+
+    static final String PEOPLE = "people";
+    static final String FILMS = "films";
+    static final String STARSHIPS = "starships";
+    static final String VEHICLES = "vehicles";
+
+    // El índice de cada tipo es el valor que se guarda en types[]
+    static final List<String> TYPES = List.of(PEOPLE, FILMS, STARSHIPS, VEHICLES);
+    private static final byte PERSON = 0;
+    private static final byte FILM = 1;
+
+    private final byte[] types;
+    private final String[] uids;
+    private final String[] names;
+    // Por tipo: uid -> nodo
+    private final List<Map<String, Integer>> nodes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] coOffsets;
+    private final int[] coTargets;
+    private final int[] coCounts;
+
+    private CsrGraph(byte[] types, String[] uids, String[] names, List<Map<String, Integer>> nodes,
+                     int[] offsets, int[] targets, int[] coOffsets, int[] coTargets, int[] coCounts) {
+        this.types = types;
+        this.uids = uids;
+        this.names = names;
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.coOffsets = coOffsets;
+        this.coTargets = coTargets;
+        this.coCounts = coCounts;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int nodeCount() {
+        return uids.length;
+    }
+
+    // Cada enlace está dos veces en targets, una por extremo
+    int linkCount() {
+        return targets.length / 2;
+    }
+
+    int coAppearanceCount() {
+        return coTargets.length / 2;
+    }
+
+    /**
+     * Nodo de un recurso, o -1 si no está en el grafo.
+     */
+    int node(String type, String uid) {
+        int index = TYPES.indexOf(type);
+        Integer node = index < 0 || uid == null ? null : nodes.get(index).get(uid);
+        return node == null ? -1 : node;
+    }
+
+    String type(int node) {
+        return TYPES.get(types[node]);
+    }
+
+    String uid(int node) {
+        return uids[node];
+    }
+
+    String name(int node) {
+        return names[node];
+    }
+
+    /**
+     * Personajes que comparten films con {@code person} (como nodos) y cuántos, de más a menos.
+     */
+    int[][] coAppearances(int person, int limit) {
+        int from = coOffsets[person];
+        int to = Math.min(coOffsets[person + 1], from + Math.max(0, limit));
+        return new int[][]{Arrays.copyOfRange(coTargets, from, to), Arrays.copyOfRange(coCounts, from, to)};
+    }
+
+    int sharedFilms(int person, int other) {
+        for (int i = coOffsets[person]; i < coOffsets[person + 1]; i++) {
+            if (coTargets[i] == other) {
+                return coCounts[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Búsqueda en anchura de {@code from} a {@code to} pasando solo por personajes y por los tipos de
+     * enlace de {@code via}. Devuelve los nodos del camino con los extremos incluidos, o un array
+     * vacío si no hay conexión.
+     */
+    int[] shortestPath(int from, int to, List<String> via) {
+        if (from == to) {
+            return new int[]{from};
+        }
+        boolean[] allowed = new boolean[TYPES.size()];
+        allowed[PERSON] = true;
+        via.forEach(type -> allowed[TYPES.indexOf(type)] = true);
+
+        int[] parent = new int[uids.length];
+        Arrays.fill(parent, -1);
+        parent[from] = from;
+        int[] queue = new int[uids.length];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                int next = targets[i];
+                if (parent[next] != -1 || !allowed[types[next]]) {
+                    continue;
+                }
+                parent[next] = node;
+                if (next == to) {
+                    return path(parent, to);
+                }
+                queue[tail++] = next;
+            }
+        }
+        return new int[0];
+    }
+
+    private static int[] path(int[] parent, int to) {
+        int length = 1;
+        for (int node = to; parent[node] != node; node = parent[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int node = to, i = length - 1; i >= 0; node = parent[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+
+    static final class Builder {
+
+        private final List<Byte> types = new ArrayList<>();
+        private final List<String> uids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Map<String, Integer>> nodes = new ArrayList<>();
+        // Pares (personaje, enlace) en el orden en que llegan
+        private final List<int[]> links = new ArrayList<>();
+
+        private Builder() {
+            TYPES.forEach(type -> nodes.add(new HashMap<>()));
+        }
+
+        Builder node(String type, String uid, String name) {
+            int index = TYPES.indexOf(type);
+            if (uid != null && !nodes.get(index).containsKey(uid)) {
+                nodes.get(index).put(uid, uids.size());
+                types.add((byte) index);
+                uids.add(uid);
+                names.add(name);
+            }
+            return this;
+        }
+
+        /**
+         * Los enlaces con uids que no se agregaron como nodos se ignoran.
+         */
+        Builder link(String personUid, String type, String targetUid) {
+            Integer person = personUid == null ? null : nodes.get(PERSON).get(personUid);
+            Integer target = targetUid == null ? null : nodes.get(TYPES.indexOf(type)).get(targetUid);
+            if (person != null && target != null) {
+                links.add(new int[]{person, target});
+            }
+            return this;
+        }
+
+        CsrGraph build() {
+            int size = uids.size();
+            byte[] nodeTypes = new byte[size];
+            for (int node = 0; node < size; node++) {
+                nodeTypes[node] = types.get(node);
+            }
+
+            int[] offsets = new int[size + 1];
+            for (int[] link : links) {
+                offsets[link[0] + 1]++;
+                offsets[link[1] + 1]++;
+            }
+            for (int node = 0; node < size; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+            int[] targets = new int[offsets[size]];
+            int[] next = Arrays.copyOf(offsets, size);
+            for (int[] link : links) {
+                targets[next[link[0]]++] = link[1];
+                targets[next[link[1]]++] = link[0];
+            }
+
+            String[] nodeUids = uids.toArray(String[]::new);
+            String[] nodeNames = names.toArray(String[]::new);
+            int[][] coAppearances = coAppearances(nodeTypes, nodeNames, offsets, targets);
+            return new CsrGraph(nodeTypes, nodeUids, nodeNames, nodes.stream().map(Map::copyOf).toList(),
+                    offsets, targets, coAppearances[0], coAppearances[1], coAppearances[2]);
+        }
+
+        // Personaje -> film -> personaje, contando en un array por nodo que se limpia tras cada personaje
+        private static int[][] coAppearances(byte[] types, String[] names, int[] offsets, int[] targets) {
+            int size = types.length;
+            int[] coOffsets = new int[size + 1];
+            List<Integer> coTargets = new ArrayList<>();
+            List<Integer> coCounts = new ArrayList<>();
+            int[] counts = new int[size];
+            Comparator<Integer> order = Comparator.<Integer>comparingInt(node -> counts[node]).reversed()
+                    .thenComparing(node -> names[node], Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparingInt(node -> node);
+            for (int person = 0; person < size; person++) {
+                List<Integer> touched = new ArrayList<>();
+                if (types[person] == PERSON) {
+                    for (int i = offsets[person]; i < offsets[person + 1]; i++) {
+                        int film = targets[i];
+                        if (types[film] != FILM) {
+                            continue;
+                        }
+                        for (int j = offsets[film]; j < offsets[film + 1]; j++) {
+                            int other = targets[j];
+                            if (other != person && counts[other]++ == 0) {
+                                touched.add(other);
+                            }
+                        }
+                    }
+                    touched.sort(order);
+                    for (int other : touched) {
+                        coTargets.add(other);
+                        coCounts.add(counts[other]);
+                        counts[other] = 0;
+                    }
+                }
+                coOffsets[person + 1] = coOffsets[person] + touched.size();
+            }
+            return new int[][]{coOffsets,
+                    coTargets.stream().mapToInt(Integer::intValue).toArray(),
+                    coCounts.stream().mapToInt(Integer::intValue).toArray()};
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications compartidas por naves y vehículos, que usan los mismos nombres de atributo.
+ * Solo se agregan los predicados de los límites presentes, así cada consulta puede usar
+ * el índice de la columna que filtra.
+ */
+final class CatalogSpecifications {
+
+    static final Sort KEYSET_ORDER = Sort.by("name", "id");
+
+    private CatalogSpecifications() {
+    }
+
+    static <E> Specification<E> withinRanges(SpecFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addRange(predicates, cb, root.get("lengthValue"), filter.getMinLength(), filter.getMaxLength());
+            addRange(predicates, cb, root.get("costInCreditsValue"), filter.getMinCost(), filter.getMaxCost());
+            addRange(predicates, cb, root.get("crewValue"), filter.getMinCrew(), filter.getMaxCrew());
+            addRange(predicates, cb, root.get("passengersValue"), filter.getMinPassengers(), filter.getMaxPassengers());
+            addRange(predicates, cb, root.get("cargoCapacityValue"), filter.getMinCargoCapacity(), filter.getMaxCargoCapacity());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Un predicado por cada texto presente, cada uno sobre su columna normalizada. La base combina los
+     * índices de esas columnas (en PostgreSQL, BitmapAnd de los trigram) y pagina la intersección.
+     * Nombre y modelo se buscan como texto; fabricante y clase, enteros y con las reglas de las facetas.
+     */
+    static <E> Specification<E> matching(SearchFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addLike(predicates, cb, root.get("searchName"), filter.getName(), filter.isPrefix());
+            addLike(predicates, cb, root.get("searchModel"), filter.getModel(), filter.isPrefix());
+            if (isPresent(filter.getManufacturer())) {
+                predicates.add(cb.like(root.get("searchManufacturer"),
+                        SearchNormalizer.toManufacturerPattern(filter.getManufacturer()), '\\'));
+            }
+            if (isPresent(filter.getCraftClass())) {
+                predicates.add(cb.equal(root.get("searchClass"), SearchNormalizer.normalize(filter.getCraftClass())));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // (name, id) > (cursor.name, cursor.id), igual que las consultas keyset de los repositorios
+    static <E> Specification<E> after(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("name"), cursor.name()),
+                cb.and(cb.equal(root.get("name"), cursor.name()), cb.greaterThan(root.get("id"), cursor.id())));
+    }
+
+    private static void addLike(List<Predicate> predicates, CriteriaBuilder cb, Path<String> path,
+                                String text, boolean prefix) {
+        if (isPresent(text)) {
+            String literal = SearchNormalizer.toLikeLiteral(text);
+            predicates.add(cb.like(path, prefix ? literal + "%" : "%" + literal + "%", '\\'));
+        }
+    }
+
+    private static boolean isPresent(String text) {
+        return text != null && !text.isBlank();
+    }
+
+    private static <N extends Number & Comparable<N>> void addRange(List<Predicate> predicates, CriteriaBuilder cb,
+                                                                    Path<N> path, N min, N max) {
+        if (min != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, min));
+        }
+        if (max != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, max));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Inserta o actualiza filas del catálogo por uid con el upsert nativo de cada motor,
+ * en batches JDBC: cargar miles de filas cuesta unos pocos round-trips.
+ * <p>
+ * - H2: MERGE INTO ... USING (VALUES ...) ON uid
+ * - PostgreSQL: INSERT ... ON CONFLICT (uid) DO UPDATE
+ * <p>
+ * Las filas existentes conservan su id; las nuevas lo toman de la secuencia de la entidad.
+ * Con el pooled optimizer cada valor de la secuencia reserva un bloque distinto, así que
+ * estos ids no chocan con los que asigna Hibernate.
+ * <p>
+ * Como la escritura no pasa por Hibernate, al terminar se invalidan la región de la entidad en la
+ * caché de segundo nivel y las consultas cacheadas: enseguida y otra vez tras el commit, para que
+ * ninguna lectura concurrente deje en caché las filas anteriores.
+ */
+@Slf4j
+@Component
+public class CatalogUpsertWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+    private volatile Boolean postgres;
+
+    public CatalogUpsertWriter(JdbcTemplate jdbcTemplate,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param entityType entidad mapeada a {@code table}, cuya región de caché se invalida
+     * @param columns    columnas a escribir sin el id; la primera debe ser {@code uid}
+     * @param values     valores de cada fila en el mismo orden que {@code columns}
+     */
+    public <T> int upsert(Class<?> entityType, String table, String sequence, List<String> columns,
+                          Collection<T> rows, Function<T, Object[]> values) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String sql = isPostgres() ? postgresUpsert(table, sequence, columns) : mergeUpsert(table, sequence, columns);
+        long start = System.currentTimeMillis();
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (statement, row) -> {
+            Object[] rowValues = values.apply(row);
+            for (int i = 0; i < rowValues.length; i++) {
+                statement.setObject(i + 1, rowValues[i]);
+            }
+        });
+        log.debug("Upserted {} rows into {} in {} ms", rows.size(), table, System.currentTimeMillis() - start);
+        evictCaches(entityType);
+        return rows.size();
+    }
+
+    /**
+     * Reemplaza los enlaces de cada dueño en una tabla de relación ({@code film_characters}, ...).
+     * Dueños y destinos se identifican por uid; los uids que todavía no están en la base se ignoran.
+     * Un dueño sin uids de destino queda sin enlaces.
+     *
+     * @return cantidad de enlaces enviados
+     */
+    public <T> int replaceLinks(String linkTable, String ownerTable, String ownerColumn, String targetTable,
+                                String targetColumn, Collection<T> owners, Function<T, String> ownerUid,
+                                Function<T, ? extends Collection<String>> targetUids) {
+        if (owners.isEmpty()) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        jdbcTemplate.batchUpdate("DELETE FROM " + linkTable + " WHERE " + ownerColumn
+                        + " = (SELECT id FROM " + ownerTable + " WHERE uid = ?)",
+                owners, batchSize, (statement, owner) -> statement.setString(1, ownerUid.apply(owner)));
+        List<String[]> links = owners.stream()
+                .filter(owner -> targetUids.apply(owner) != null)
+                .flatMap(owner -> targetUids.apply(owner).stream().distinct()
+                        .map(targetUid -> new String[]{ownerUid.apply(owner), targetUid}))
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO " + linkTable + " (" + ownerColumn + ", " + targetColumn + ")"
+                        + " SELECT o.id, t.id FROM " + ownerTable + " o, " + targetTable + " t WHERE o.uid = ? AND t.uid = ?",
+                links, batchSize, (statement, link) -> {
+                    statement.setString(1, link[0]);
+                    statement.setString(2, link[1]);
+                });
+        log.debug("Replaced links of {} owners in {} ({} links) in {} ms", owners.size(), linkTable,
+                links.size(), System.currentTimeMillis() - start);
+        evictCaches(null);
+        return links.size();
+    }
+
+    // Sin entityType solo se invalidan las consultas cacheadas
+    private void evictCaches(Class<?> entityType) {
+        Runnable evict = () -> {
+            if (entityType != null) {
+                entityManagerFactory.getCache().evict(entityType);
+            }
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    private String mergeUpsert(String table, String sequence, List<String> columns) {
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        String updates = columns.stream().skip(1)
+                .map(column -> column + " = s." + column)
+                .collect(Collectors.joining(", "));
+        return "MERGE INTO " + table + " t USING (VALUES (" + placeholders + ")) s(" + String.join(", ", columns) + ")"
+                + " ON t.uid = s.uid"
+                + " WHEN MATCHED THEN UPDATE SET " + updates
+                + " WHEN NOT MATCHED THEN INSERT (id, " + String.join(", ", columns) + ")"
+                + " VALUES (NEXT VALUE FOR " + sequence + ", "
+                + columns.stream().map(column -> "s." + column).collect(Collectors.joining(", ")) + ")";
+    }
+
+    private String postgresUpsert(String table, String sequence, List<String> columns) {
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        String updates = columns.stream().skip(1)
+                .map(column -> column + " = EXCLUDED." + column)
+                .collect(Collectors.joining(", "));
+        return "INSERT INTO " + table + " (id, " + String.join(", ", columns) + ")"
+                + " VALUES (nextval('" + sequence + "'), " + placeholders + ")"
+                + " ON CONFLICT (uid) DO UPDATE SET " + updates;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        metaData -> metaData.getDatabaseProductName());
+                postgres = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (Exception e) {
+                log.warn("Could not detect database product, using MERGE: {}", e.getMessage());
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+}
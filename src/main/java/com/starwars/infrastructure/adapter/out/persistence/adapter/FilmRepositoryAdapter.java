@@ -1,36 +1,126 @@
 package com.starwars.infrastructure.adapter.out.persistence.adapter;
 
 import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.out.FilmRepository;
 import com.starwars.infrastructure.adapter.out.persistence.entity.FilmEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink;
+import com.starwars.infrastructure.adapter.out.persistence.projection.FilmSummary;
 import com.starwars.infrastructure.adapter.out.persistence.repository.FilmJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Solo lectura: Hibernate no guarda snapshots para dirty checking ni hace flush al terminar
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class FilmRepositoryAdapter implements FilmRepository {
 
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "uid", "title", "search_title", "episode_id", "opening_crawl", "director", "producer", "release_date", "url");
+
     private final FilmJpaRepository jpaRepository;
+    private final CatalogUpsertWriter upsertWriter;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Film> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable).map(this::toDomain);
+        return jpaRepository.findAllProjectedBy(pageable).map(FilmRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<Film> findById(Long id) {
-        return jpaRepository.findById(id).map(this::toDomain);
+        return jpaRepository.findById(id).map(FilmRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Page<Film> findByTitleContaining(String title, Pageable pageable) {
+        return jpaRepository.findBySearchTitleContaining(SearchNormalizer.normalize(title), pageable)
+                .map(FilmRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public int upsertAll(Collection<Film> films, Map<String, List<String>> characterUids,
+                         Map<String, List<String>> starshipUids, Map<String, List<String>> vehicleUids) {
+        // JDBC directo: no pasa por los callbacks de la entidad, así que search_title se calcula aquí
+        int written = upsertWriter.upsert(FilmEntity.class, "films", "films_seq", UPSERT_COLUMNS, films,
+                film -> new Object[]{
+                        film.getUid(), film.getTitle(), SearchNormalizer.normalize(film.getTitle()), film.getEpisodeId(),
+                        film.getOpeningCrawl(), film.getDirector(), film.getProducer(), film.getReleaseDate(), film.getUrl()
+                });
+        upsertWriter.replaceLinks("film_characters", "films", "film_id", "people", "people_id",
+                films, Film::getUid, film -> characterUids.get(film.getUid()));
+        upsertWriter.replaceLinks("film_starships", "films", "film_id", "starships", "starship_id",
+                films, Film::getUid, film -> starshipUids.get(film.getUid()));
+        upsertWriter.replaceLinks("film_vehicles", "films", "film_id", "vehicles", "vehicle_id",
+                films, Film::getUid, film -> vehicleUids.get(film.getUid()));
+        return written;
+    }
+
+    @Override
+    public Optional<List<People>> findCharacters(String filmUid) {
+        return jpaRepository.findWithCharactersByUid(filmUid)
+                .map(film -> film.getCharacters().stream().map(PeopleRepositoryAdapter::toDomain).toList());
+    }
+
+    @Override
+    public Optional<List<Starship>> findStarships(String filmUid) {
+        return jpaRepository.findWithStarshipsByUid(filmUid)
+                .map(film -> film.getStarships().stream().map(StarshipRepositoryAdapter::toDomain).toList());
+    }
+
+    @Override
+    public Optional<List<Vehicle>> findVehicles(String filmUid) {
+        return jpaRepository.findWithVehiclesByUid(filmUid)
+                .map(film -> film.getVehicles().stream().map(VehicleRepositoryAdapter::toDomain).toList());
+    }
+
+
+    @Override
+    public long exportAll(Consumer<Film> consumer) {
+        long exported = 0;
+        try (Stream<FilmEntity> rows = jpaRepository.streamAllByOrderByIdAsc()) {
+            Iterator<FilmEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                FilmEntity entity = iterator.next();
+                consumer.accept(toDomain(entity));
+                // Sin detach el contexto de persistencia acabaría reteniendo la tabla entera
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    @Override
+    public void exportCharacterLinks(BiConsumer<String, String> consumer) {
+        exportLinks(jpaRepository.findCharacterLinks(), consumer);
     }
 
+    private static void exportLinks(List<CatalogLink> links, BiConsumer<String, String> consumer) {
+        links.forEach(link -> consumer.accept(link.ownerUid(), link.targetUid()));
+    }
 
     // Métodos de conversión privados
 
-    private Film toDomain(FilmEntity entity) {
+    static Film toDomain(FilmEntity entity) {
         return Film.builder()
                 .id(entity.getId())
                 .uid(entity.getUid())
@@ -44,6 +134,19 @@ public class FilmRepositoryAdapter implements FilmRepository {
                 .build();
     }
 
+    static Film toDomain(FilmSummary view) {
+        return Film.builder()
+                .id(view.id())
+                .uid(view.uid())
+                .title(view.title())
+                .episodeId(view.episodeId())
+                .director(view.director())
+                .producer(view.producer())
+                .releaseDate(view.releaseDate())
+                .url(view.url())
+                .build();
+    }
+
     private FilmEntity toEntity(Film domain) {
         return FilmEntity.builder()
                 .id(domain.getId())
@@ -0,0 +1,57 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.domain.exception.InvalidCursorException;
+import com.starwars.domain.model.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Posición de la paginación keyset: último (name, id) devuelto.
+ * Viaja al cliente como Base64 URL-safe de "id:name", así que es opaco y no expone SQL.
+ */
+record KeysetCursor(String name, long id) {
+
+    // Antes de cualquier fila: ningún nombre es menor que "" y los ids empiezan en 1
+    static final KeysetCursor START = new KeysetCursor("", 0L);
+
+    static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Arma la página a partir de una consulta que pidió {@code size + 1} filas:
+     * la fila extra solo indica que existe una página siguiente.
+     */
+    static <E, T> CursorPage<T> toPage(List<E> rows, int size, Function<E, String> name, Function<E, Long> id,
+                                       Function<E, T> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(name.apply(last), id.apply(last)).encode();
+        }
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -1,33 +1,134 @@
 package com.starwars.infrastructure.adapter.out.persistence.adapter;
 
+import com.starwars.domain.model.Film;
 import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.out.PeopleRepository;
 import com.starwars.infrastructure.adapter.out.persistence.entity.PeopleEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink;
+import com.starwars.infrastructure.adapter.out.persistence.projection.PeopleSummary;
+import com.starwars.infrastructure.adapter.out.persistence.repository.FilmJpaRepository;
 import com.starwars.infrastructure.adapter.out.persistence.repository.PeopleJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Solo lectura: Hibernate no guarda snapshots para dirty checking ni hace flush al terminar
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class PeopleRepositoryAdapter implements PeopleRepository {
 
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "uid", "name", "search_name", "height", "mass", "hair_color", "skin_color", "eye_color", "birth_year",
+            "gender", "homeworld", "url");
+
     private final PeopleJpaRepository jpaRepository;
+    private final FilmJpaRepository filmJpaRepository;
+    private final CatalogUpsertWriter upsertWriter;
+    private final EntityManager entityManager;
 
     @Override
     public Page<People> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable).map(this::toDomain);
+        return jpaRepository.findAllProjectedBy(pageable).map(PeopleRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<People> findById(Long id) {
-        return jpaRepository.findById(id).map(this::toDomain);
+        return jpaRepository.findById(id).map(PeopleRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Page<People> findByNameContaining(String name, Pageable pageable) {
+        return jpaRepository.findBySearchNameContaining(SearchNormalizer.normalize(name), pageable)
+                .map(PeopleRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public int upsertAll(Collection<People> people, Map<String, List<String>> starshipUids,
+                         Map<String, List<String>> vehicleUids) {
+        // JDBC directo: no pasa por los callbacks de la entidad, así que search_name se calcula aquí
+        int written = upsertWriter.upsert(PeopleEntity.class, "people", "people_seq", UPSERT_COLUMNS, people,
+                person -> new Object[]{
+                        person.getUid(), person.getName(), SearchNormalizer.normalize(person.getName()), person.getHeight(),
+                        person.getMass(), person.getHairColor(), person.getSkinColor(), person.getEyeColor(),
+                        person.getBirthYear(), person.getGender(), person.getHomeworld(), person.getUrl()
+                });
+        upsertWriter.replaceLinks("person_starships", "people", "people_id", "starships", "starship_id",
+                people, People::getUid, person -> starshipUids.get(person.getUid()));
+        upsertWriter.replaceLinks("person_vehicles", "people", "people_id", "vehicles", "vehicle_id",
+                people, People::getUid, person -> vehicleUids.get(person.getUid()));
+        return written;
+    }
+
+    @Override
+    public Optional<List<Film>> findFilms(String personUid) {
+        if (!jpaRepository.existsByUid(personUid)) {
+            return Optional.empty();
+        }
+        return Optional.of(filmJpaRepository.findSummariesByCharacterUid(personUid).stream()
+                .map(FilmRepositoryAdapter::toDomain)
+                .toList());
+    }
+
+    @Override
+    public Optional<List<Starship>> findStarships(String personUid) {
+        return jpaRepository.findWithStarshipsByUid(personUid)
+                .map(person -> person.getStarships().stream().map(StarshipRepositoryAdapter::toDomain).toList());
+    }
+
+    @Override
+    public Optional<List<Vehicle>> findVehicles(String personUid) {
+        return jpaRepository.findWithVehiclesByUid(personUid)
+                .map(person -> person.getVehicles().stream().map(VehicleRepositoryAdapter::toDomain).toList());
     }
 
-    private People toDomain(PeopleEntity entity) {
+    @Override
+    public long exportAll(Consumer<People> consumer) {
+        long exported = 0;
+        try (Stream<PeopleEntity> rows = jpaRepository.streamAllByOrderByIdAsc()) {
+            Iterator<PeopleEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                PeopleEntity entity = iterator.next();
+                consumer.accept(toDomain(entity));
+                // Sin detach el contexto de persistencia acabaría reteniendo la tabla entera
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    @Override
+    public void exportStarshipLinks(BiConsumer<String, String> consumer) {
+        exportLinks(jpaRepository.findStarshipLinks(), consumer);
+    }
+
+    @Override
+    public void exportVehicleLinks(BiConsumer<String, String> consumer) {
+        exportLinks(jpaRepository.findVehicleLinks(), consumer);
+    }
+
+    private static void exportLinks(List<CatalogLink> links, BiConsumer<String, String> consumer) {
+        links.forEach(link -> consumer.accept(link.ownerUid(), link.targetUid()));
+    }
+
+    static People toDomain(PeopleEntity entity) {
         return People.builder()
                 .id(entity.getId())
                 .uid(entity.getUid())
@@ -44,6 +145,23 @@ public class PeopleRepositoryAdapter implements PeopleRepository {
                 .build();
     }
 
+    static People toDomain(PeopleSummary view) {
+        return People.builder()
+                .id(view.id())
+                .uid(view.uid())
+                .name(view.name())
+                .height(view.height())
+                .mass(view.mass())
+                .hairColor(view.hairColor())
+                .skinColor(view.skinColor())
+                .eyeColor(view.eyeColor())
+                .birthYear(view.birthYear())
+                .gender(view.gender())
+                .homeworld(view.homeworld())
+                .url(view.url())
+                .build();
+    }
+
     private PeopleEntity toEntity(People domain) {
         return PeopleEntity.builder()
                 .id(domain.getId())
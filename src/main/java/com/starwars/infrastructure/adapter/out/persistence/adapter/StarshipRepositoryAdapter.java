@@ -1,44 +1,133 @@
 package com.starwars.infrastructure.adapter.out.persistence.adapter;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Starship;
 import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
 import com.starwars.infrastructure.adapter.out.persistence.entity.StarshipEntity;
 import com.starwars.infrastructure.adapter.out.persistence.repository.StarshipJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Lecturas en transacciones de solo lectura: las entidades se cargan sin snapshot para dirty checking
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class StarshipRepositoryAdapter implements StarshipRepository {
 
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "uid", "name", "search_name", "model", "search_model", "manufacturer", "search_manufacturer",
+            "cost_in_credits", "length", "crew", "passengers", "cargo_capacity", "starship_class", "search_class", "url",
+            "cost_in_credits_value", "length_value", "crew_value", "passengers_value", "cargo_capacity_value");
+
     private final StarshipJpaRepository jpaRepository;
+    private final CatalogUpsertWriter upsertWriter;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Starship> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable).map(this::toDomain);
+        return jpaRepository.findAll(pageable).map(StarshipRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<Starship> findById(Long id) {
-        return jpaRepository.findById(id).map(this::toDomain);
+        return jpaRepository.findById(id).map(StarshipRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<Starship> findByUid(String uid) {
-        return jpaRepository.findByUid(uid).map(this::toDomain);
+        return jpaRepository.findByUid(uid).map(StarshipRepositoryAdapter::toDomain);
     }
 
     @Override
     public Page<Starship> findByNameContaining(String name, Pageable pageable) {
-        return jpaRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(this::toDomain);
+        return jpaRepository.findBySearchNameContaining(SearchNormalizer.normalize(name), pageable)
+                .map(StarshipRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public CursorPage<Starship> findAllAfter(String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<StarshipEntity> rows = jpaRepository.findKeysetPage(after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, StarshipEntity::getName, StarshipEntity::getId,
+                StarshipRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count() : null);
+    }
+
+    @Override
+    public CursorPage<Starship> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String query = SearchNormalizer.toLikeLiteral(name);
+        List<StarshipEntity> rows = jpaRepository.findKeysetPageByName(query, after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, StarshipEntity::getName, StarshipEntity::getId,
+                StarshipRepositoryAdapter::toDomain, includeTotal ? jpaRepository.countByName(query) : null);
+    }
+
+    @Override
+    public CursorPage<Starship> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String query = SearchNormalizer.toLikeLiteral(prefix);
+        List<StarshipEntity> rows = jpaRepository.findKeysetPageByNamePrefix(query, after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, StarshipEntity::getName, StarshipEntity::getId,
+                StarshipRepositoryAdapter::toDomain, includeTotal ? jpaRepository.countByNamePrefix(query) : null);
+    }
+
+    @Override
+    public CursorPage<Starship> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal) {
+        Specification<StarshipEntity> ranges = CatalogSpecifications.withinRanges(filter);
+        Specification<StarshipEntity> page = ranges.and(CatalogSpecifications.after(KeysetCursor.decode(cursor)));
+        List<StarshipEntity> rows = jpaRepository.findBy(page, query -> query
+                .sortBy(CatalogSpecifications.KEYSET_ORDER)
+                .limit(size + 1)
+                .all());
+        return KeysetCursor.toPage(rows, size, StarshipEntity::getName, StarshipEntity::getId,
+                StarshipRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count(ranges) : null);
+    }
+
+    @Override
+    public CursorPage<Starship> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal) {
+        Specification<StarshipEntity> matching = CatalogSpecifications.matching(filter);
+        Specification<StarshipEntity> page = matching.and(CatalogSpecifications.after(KeysetCursor.decode(cursor)));
+        List<StarshipEntity> rows = jpaRepository.findBy(page, query -> query
+                .sortBy(CatalogSpecifications.KEYSET_ORDER)
+                .limit(size + 1)
+                .all());
+        return KeysetCursor.toPage(rows, size, StarshipEntity::getName, StarshipEntity::getId,
+                StarshipRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count(matching) : null);
     }
 
     @Override
+    @Transactional
+    public int upsertAll(Collection<Starship> starships) {
+        // JDBC directo: no pasa por los callbacks de la entidad, así que las columnas search_* se calculan aquí
+        return upsertWriter.upsert(StarshipEntity.class, "starships", "starships_seq", UPSERT_COLUMNS, starships,
+                starship -> new Object[]{
+                starship.getUid(), starship.getName(), SearchNormalizer.normalize(starship.getName()), starship.getModel(),
+                SearchNormalizer.normalize(starship.getModel()), starship.getManufacturer(),
+                SearchNormalizer.toManufacturerKey(starship.getManufacturer()), starship.getCostInCredits(), starship.getLength(),
+                starship.getCrew(), starship.getPassengers(), starship.getCargoCapacity(), starship.getStarshipClass(),
+                SearchNormalizer.normalize(starship.getStarshipClass()), starship.getUrl(),
+                starship.getCostInCreditsValue(), starship.getLengthValue(), starship.getCrewValue(),
+                starship.getPassengersValue(), starship.getCargoCapacityValue()
+        });
+    }
+
+    @Override
+    @Transactional
     public Starship save(Starship starship) {
         StarshipEntity entity = toEntity(starship);
         StarshipEntity saved = jpaRepository.save(entity);
@@ -46,6 +135,7 @@ public class StarshipRepositoryAdapter implements StarshipRepository {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
@@ -55,9 +145,25 @@ public class StarshipRepositoryAdapter implements StarshipRepository {
         return jpaRepository.existsByUid(uid);
     }
 
+    @Override
+    public long exportAll(Consumer<Starship> consumer) {
+        long exported = 0;
+        try (Stream<StarshipEntity> rows = jpaRepository.streamAllByOrderByIdAsc()) {
+            Iterator<StarshipEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StarshipEntity entity = iterator.next();
+                consumer.accept(toDomain(entity));
+                // Sin detach el contexto de persistencia acabaría reteniendo la tabla entera
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
     // Métodos de conversión privados
 
-    private Starship toDomain(StarshipEntity entity) {
+    static Starship toDomain(StarshipEntity entity) {
         return Starship.builder()
                 .id(entity.getId())
                 .uid(entity.getUid())
@@ -71,6 +177,11 @@ public class StarshipRepositoryAdapter implements StarshipRepository {
                 .cargoCapacity(entity.getCargoCapacity())
                 .starshipClass(entity.getStarshipClass())
                 .url(entity.getUrl())
+                .costInCreditsValue(entity.getCostInCreditsValue())
+                .lengthValue(entity.getLengthValue())
+                .crewValue(entity.getCrewValue())
+                .passengersValue(entity.getPassengersValue())
+                .cargoCapacityValue(entity.getCargoCapacityValue())
                 .build();
     }
 
@@ -88,6 +199,11 @@ public class StarshipRepositoryAdapter implements StarshipRepository {
                 .cargoCapacity(domain.getCargoCapacity())
                 .starshipClass(domain.getStarshipClass())
                 .url(domain.getUrl())
+                .costInCreditsValue(domain.getCostInCreditsValue())
+                .lengthValue(domain.getLengthValue())
+                .crewValue(domain.getCrewValue())
+                .passengersValue(domain.getPassengersValue())
+                .cargoCapacityValue(domain.getCargoCapacityValue())
                 .build();
     }
 }
@@ -1,42 +1,159 @@
 package com.starwars.infrastructure.adapter.out.persistence.adapter;
 
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
 import com.starwars.domain.model.Vehicle;
 import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
 import com.starwars.infrastructure.adapter.out.persistence.entity.VehicleEntity;
 import com.starwars.infrastructure.adapter.out.persistence.repository.VehicleJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+// Lecturas en transacciones de solo lectura: las entidades se cargan sin snapshot para dirty checking
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class VehicleRepositoryAdapter implements VehicleRepository {
 
+    private static final List<String> UPSERT_COLUMNS = List.of(
+            "uid", "name", "search_name", "model", "search_model", "manufacturer", "search_manufacturer",
+            "cost_in_credits", "length", "crew", "passengers", "cargo_capacity", "vehicle_class", "search_class", "url",
+            "cost_in_credits_value", "length_value", "crew_value", "passengers_value", "cargo_capacity_value");
+
     private final VehicleJpaRepository jpaRepository;
+    private final CatalogUpsertWriter upsertWriter;
+    private final EntityManager entityManager;
 
     @Override
     public Page<Vehicle> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable).map(this::toDomain);
+        return jpaRepository.findAll(pageable).map(VehicleRepositoryAdapter::toDomain);
     }
 
     @Override
     public Optional<Vehicle> findById(Long id) {
-        return jpaRepository.findById(id).map(this::toDomain);
+        return jpaRepository.findById(id).map(VehicleRepositoryAdapter::toDomain);
     }
 
 
+    @Override
+    public Optional<Vehicle> findByUid(String uid) {
+        return jpaRepository.findByUid(uid).map(VehicleRepositoryAdapter::toDomain);
+    }
+
     @Override
     public Page<Vehicle> findByNameContaining(String name, Pageable pageable) {
-        return jpaRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(this::toDomain);
+        return jpaRepository.findBySearchNameContaining(SearchNormalizer.normalize(name), pageable)
+                .map(VehicleRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public CursorPage<Vehicle> findAllAfter(String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<VehicleEntity> rows = jpaRepository.findKeysetPage(after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, VehicleEntity::getName, VehicleEntity::getId,
+                VehicleRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count() : null);
     }
 
+    @Override
+    public CursorPage<Vehicle> findByNameContainingAfter(String name, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String query = SearchNormalizer.toLikeLiteral(name);
+        List<VehicleEntity> rows = jpaRepository.findKeysetPageByName(query, after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, VehicleEntity::getName, VehicleEntity::getId,
+                VehicleRepositoryAdapter::toDomain, includeTotal ? jpaRepository.countByName(query) : null);
+    }
+
+    @Override
+    public CursorPage<Vehicle> findByNamePrefixAfter(String prefix, String cursor, int size, boolean includeTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String query = SearchNormalizer.toLikeLiteral(prefix);
+        List<VehicleEntity> rows = jpaRepository.findKeysetPageByNamePrefix(query, after.name(), after.id(), Limit.of(size + 1));
+        return KeysetCursor.toPage(rows, size, VehicleEntity::getName, VehicleEntity::getId,
+                VehicleRepositoryAdapter::toDomain, includeTotal ? jpaRepository.countByNamePrefix(query) : null);
+    }
+
+    @Override
+    public CursorPage<Vehicle> findBySpecsAfter(SpecFilter filter, String cursor, int size, boolean includeTotal) {
+        Specification<VehicleEntity> ranges = CatalogSpecifications.withinRanges(filter);
+        Specification<VehicleEntity> page = ranges.and(CatalogSpecifications.after(KeysetCursor.decode(cursor)));
+        List<VehicleEntity> rows = jpaRepository.findBy(page, query -> query
+                .sortBy(CatalogSpecifications.KEYSET_ORDER)
+                .limit(size + 1)
+                .all());
+        return KeysetCursor.toPage(rows, size, VehicleEntity::getName, VehicleEntity::getId,
+                VehicleRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count(ranges) : null);
+    }
+
+    @Override
+    public CursorPage<Vehicle> findBySearchAfter(SearchFilter filter, String cursor, int size, boolean includeTotal) {
+        Specification<VehicleEntity> matching = CatalogSpecifications.matching(filter);
+        Specification<VehicleEntity> page = matching.and(CatalogSpecifications.after(KeysetCursor.decode(cursor)));
+        List<VehicleEntity> rows = jpaRepository.findBy(page, query -> query
+                .sortBy(CatalogSpecifications.KEYSET_ORDER)
+                .limit(size + 1)
+                .all());
+        return KeysetCursor.toPage(rows, size, VehicleEntity::getName, VehicleEntity::getId,
+                VehicleRepositoryAdapter::toDomain, includeTotal ? jpaRepository.count(matching) : null);
+    }
+
+    @Override
+    @Transactional
+    public int upsertAll(Collection<Vehicle> vehicles) {
+        // JDBC directo: no pasa por los callbacks de la entidad, así que las columnas search_* se calculan aquí
+        return upsertWriter.upsert(VehicleEntity.class, "vehicles", "vehicles_seq", UPSERT_COLUMNS, vehicles,
+                vehicle -> new Object[]{
+                vehicle.getUid(), vehicle.getName(), SearchNormalizer.normalize(vehicle.getName()), vehicle.getModel(),
+                SearchNormalizer.normalize(vehicle.getModel()), vehicle.getManufacturer(),
+                SearchNormalizer.toManufacturerKey(vehicle.getManufacturer()), vehicle.getCostInCredits(), vehicle.getLength(),
+                vehicle.getCrew(), vehicle.getPassengers(), vehicle.getCargoCapacity(), vehicle.getVehicleClass(),
+                SearchNormalizer.normalize(vehicle.getVehicleClass()), vehicle.getUrl(),
+                vehicle.getCostInCreditsValue(), vehicle.getLengthValue(), vehicle.getCrewValue(),
+                vehicle.getPassengersValue(), vehicle.getCargoCapacityValue()
+        });
+    }
+
+    @Override
+    @Transactional
+    public Vehicle save(Vehicle vehicle) {
+        VehicleEntity entity = toEntity(vehicle);
+        VehicleEntity saved = jpaRepository.save(entity);
+        return toDomain(saved);
+    }
+
+    @Override
+    public long exportAll(Consumer<Vehicle> consumer) {
+        long exported = 0;
+        try (Stream<VehicleEntity> rows = jpaRepository.streamAllByOrderByIdAsc()) {
+            Iterator<VehicleEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                VehicleEntity entity = iterator.next();
+                consumer.accept(toDomain(entity));
+                // Sin detach el contexto de persistencia acabaría reteniendo la tabla entera
+                entityManager.detach(entity);
+                exported++;
+            }
+        }
+        return exported;
+    }
 
+    // Métodos de conversión privados
 
-    private Vehicle toDomain(VehicleEntity entity) {
+    static Vehicle toDomain(VehicleEntity entity) {
         return Vehicle.builder()
                 .id(entity.getId())
                 .uid(entity.getUid())
@@ -50,6 +167,11 @@ public class VehicleRepositoryAdapter implements VehicleRepository {
                 .cargoCapacity(entity.getCargoCapacity())
                 .vehicleClass(entity.getVehicleClass())
                 .url(entity.getUrl())
+                .costInCreditsValue(entity.getCostInCreditsValue())
+                .lengthValue(entity.getLengthValue())
+                .crewValue(entity.getCrewValue())
+                .passengersValue(entity.getPassengersValue())
+                .cargoCapacityValue(entity.getCargoCapacityValue())
                 .build();
     }
 
@@ -67,6 +189,11 @@ public class VehicleRepositoryAdapter implements VehicleRepository {
                 .cargoCapacity(domain.getCargoCapacity())
                 .vehicleClass(domain.getVehicleClass())
                 .url(domain.getUrl())
+                .costInCreditsValue(domain.getCostInCreditsValue())
+                .lengthValue(domain.getLengthValue())
+                .crewValue(domain.getCrewValue())
+                .passengersValue(domain.getPassengersValue())
+                .cargoCapacityValue(domain.getCargoCapacityValue())
                 .build();
     }
 }
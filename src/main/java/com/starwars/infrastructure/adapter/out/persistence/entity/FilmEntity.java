@@ -4,20 +4,33 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "films")
+@Table(name = "films", indexes = @Index(name = "idx_films_search_title", columnList = "search_title"))
+// Caché de segundo nivel: el catálogo casi no cambia; CatalogUpsertWriter invalida la región al sincronizar
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = FilmEntity.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class FilmEntity {
     
+    public static final String CACHE_REGION = "catalog.films";
+    
+    // Secuencia con pooled optimizer: Hibernate reserva 50 ids por consulta y puede agrupar los INSERT en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "films_seq")
+    @SequenceGenerator(name = "films_seq", sequenceName = "films_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -39,8 +52,49 @@ public class FilmEntity {
     private LocalDate releaseDate;
     
     private String url;
+    
+    // title normalizado (minúsculas, sin acentos) para búsquedas por índice; ver SearchNormalizer
+    @Column(name = "search_title")
+    private String searchTitle;
+    
+    // Relaciones que escribe la sincronización (CatalogUpsertWriter.replaceLinks). Son LAZY y cada
+    // consulta que las necesita las trae con fetch join; no se cachean en la caché de segundo nivel
+    @ManyToMany
+    @JoinTable(name = "film_characters",
+            joinColumns = @JoinColumn(name = "film_id"),
+            inverseJoinColumns = @JoinColumn(name = "people_id"),
+            indexes = @Index(name = "idx_film_characters_people_id", columnList = "people_id"))
+    @OrderBy("name ASC, id ASC")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<PeopleEntity> characters = new LinkedHashSet<>();
+    
+    @ManyToMany
+    @JoinTable(name = "film_starships",
+            joinColumns = @JoinColumn(name = "film_id"),
+            inverseJoinColumns = @JoinColumn(name = "starship_id"),
+            indexes = @Index(name = "idx_film_starships_starship_id", columnList = "starship_id"))
+    @OrderBy("name ASC, id ASC")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<StarshipEntity> starships = new LinkedHashSet<>();
+    
+    @ManyToMany
+    @JoinTable(name = "film_vehicles",
+            joinColumns = @JoinColumn(name = "film_id"),
+            inverseJoinColumns = @JoinColumn(name = "vehicle_id"),
+            indexes = @Index(name = "idx_film_vehicles_vehicle_id", columnList = "vehicle_id"))
+    @OrderBy("name ASC, id ASC")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<VehicleEntity> vehicles = new LinkedHashSet<>();
+    
+    @PrePersist
+    @PreUpdate
+    void updateSearchTitle() {
+        this.searchTitle = SearchNormalizer.normalize(title);
+    }
 }
-
-
-
-
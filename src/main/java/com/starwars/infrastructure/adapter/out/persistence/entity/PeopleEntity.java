@@ -4,18 +4,32 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "people")
+@Table(name = "people", indexes = @Index(name = "idx_people_search_name", columnList = "search_name"))
+// Caché de segundo nivel: el catálogo casi no cambia; CatalogUpsertWriter invalida la región al sincronizar
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PeopleEntity.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class PeopleEntity {
     
+    public static final String CACHE_REGION = "catalog.people";
+    
+    // Secuencia con pooled optimizer: Hibernate reserva 50 ids por consulta y puede agrupar los INSERT en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "people_seq")
+    @SequenceGenerator(name = "people_seq", sequenceName = "people_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -42,8 +56,38 @@ public class PeopleEntity {
     private String gender;
     private String homeworld;
     private String url;
+    
+    // name normalizado (minúsculas, sin acentos) para búsquedas por índice; ver SearchNormalizer
+    @Column(name = "search_name")
+    private String searchName;
+    
+    // Relaciones que escribe la sincronización (CatalogUpsertWriter.replaceLinks). Son LAZY y cada
+    // consulta que las necesita las trae con fetch join; no se cachean en la caché de segundo nivel
+    @ManyToMany
+    @JoinTable(name = "person_starships",
+            joinColumns = @JoinColumn(name = "people_id"),
+            inverseJoinColumns = @JoinColumn(name = "starship_id"),
+            indexes = @Index(name = "idx_person_starships_starship_id", columnList = "starship_id"))
+    @OrderBy("name ASC, id ASC")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<StarshipEntity> starships = new LinkedHashSet<>();
+    
+    @ManyToMany
+    @JoinTable(name = "person_vehicles",
+            joinColumns = @JoinColumn(name = "people_id"),
+            inverseJoinColumns = @JoinColumn(name = "vehicle_id"),
+            indexes = @Index(name = "idx_person_vehicles_vehicle_id", columnList = "vehicle_id"))
+    @OrderBy("name ASC, id ASC")
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<VehicleEntity> vehicles = new LinkedHashSet<>();
+    
+    @PrePersist
+    @PreUpdate
+    void updateSearchName() {
+        this.searchName = SearchNormalizer.normalize(name);
+    }
 }
-
-
-
-
@@ -0,0 +1,91 @@
+package com.starwars.infrastructure.adapter.out.persistence.entity;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Forma normalizada de nombres y títulos para búsquedas: minúsculas y sin acentos
+ * ("Padmé Amidala" -> "padme amidala"). Las entidades la guardan en su columna de búsqueda
+ * y las consultas normalizan el texto buscado de la misma forma, así la base compara
+ * directamente contra una columna indexada en lugar de aplicar lower() a cada fila.
+ * <p>
+ * Fabricante y clase se comparan enteros con las mismas reglas en {@code /search} y en las facetas.
+ */
+public final class SearchNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    // "Gallofree Yards, Inc." es un solo fabricante: las formas societarias no se separan
+    private static final Pattern LEGAL_SUFFIX = Pattern.compile("(?i)(inc|incorporated|ltd|llc|corp)\\.?");
+
+    // Delimita cada fabricante en search_manufacturer
+    private static final String VALUE_SEPARATOR = "|";
+
+    private SearchNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * SWAPI junta varios fabricantes separados por comas ("Kuat Drive Yards, Fondor Shipyards");
+     * cada uno es un valor de la faceta y un fabricante que {@code /search} puede pedir.
+     */
+    public static List<String> manufacturers(String manufacturer) {
+        List<String> result = new ArrayList<>();
+        if (manufacturer == null) {
+            return result;
+        }
+        for (String part : manufacturer.split(",")) {
+            String name = part.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (LEGAL_SUFFIX.matcher(name).matches() && !result.isEmpty()) {
+                result.set(result.size() - 1, result.get(result.size() - 1) + ", " + name);
+            } else {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Valor de search_manufacturer: cada fabricante normalizado entre '|'
+     * ("Kuat Drive Yards, Fondor Shipyards" -> "|kuat drive yards|fondor shipyards|"), así
+     * {@link #toManufacturerPattern} encuentra un fabricante entero y no un trozo de otro.
+     */
+    public static String toManufacturerKey(String manufacturer) {
+        List<String> manufacturers = manufacturers(manufacturer);
+        if (manufacturers.isEmpty()) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(VALUE_SEPARATOR);
+        manufacturers.forEach(name -> key.append(normalize(name)).append(VALUE_SEPARATOR));
+        return key.toString();
+    }
+
+    // Patrón LIKE (escape '\') de un fabricante entero sobre search_manufacturer
+    public static String toManufacturerPattern(String manufacturer) {
+        return "%" + VALUE_SEPARATOR + toLikeLiteral(manufacturer) + VALUE_SEPARATOR + "%";
+    }
+
+    /**
+     * Normaliza el texto buscado y escapa los comodines de LIKE ('%', '_') con '\'
+     * para que se busquen literalmente.
+     */
+    public static String toLikeLiteral(String text) {
+        return normalize(text)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
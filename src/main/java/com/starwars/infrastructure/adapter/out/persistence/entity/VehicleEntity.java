@@ -5,17 +5,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", indexes = {
+        @Index(name = "idx_vehicles_name_id", columnList = "name, id"),
+        @Index(name = "idx_vehicles_search_name", columnList = "search_name"),
+        @Index(name = "idx_vehicles_search_model", columnList = "search_model"),
+        @Index(name = "idx_vehicles_search_manufacturer", columnList = "search_manufacturer"),
+        @Index(name = "idx_vehicles_search_class", columnList = "search_class"),
+        @Index(name = "idx_vehicles_cost", columnList = "cost_in_credits_value"),
+        @Index(name = "idx_vehicles_length", columnList = "length_value"),
+        @Index(name = "idx_vehicles_crew", columnList = "crew_value"),
+        @Index(name = "idx_vehicles_passengers", columnList = "passengers_value"),
+        @Index(name = "idx_vehicles_cargo", columnList = "cargo_capacity_value")
+})
+// Caché de segundo nivel: el catálogo casi no cambia; CatalogUpsertWriter invalida la región al sincronizar
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = VehicleEntity.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class VehicleEntity {
     
+    public static final String CACHE_REGION = "catalog.vehicles";
+    
+    // Secuencia con pooled optimizer: Hibernate reserva 50 ids por consulta y puede agrupar los INSERT en batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicles_seq")
+    @SequenceGenerator(name = "vehicles_seq", sequenceName = "vehicles_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -41,8 +61,43 @@ public class VehicleEntity {
     private String vehicleClass;
     
     private String url;
+    
+    // Columnas numéricas para filtrar por rango en base de datos
+    @Column(name = "cost_in_credits_value")
+    private Long costInCreditsValue;
+    
+    @Column(name = "length_value")
+    private Double lengthValue;
+    
+    @Column(name = "crew_value")
+    private Long crewValue;
+    
+    @Column(name = "passengers_value")
+    private Long passengersValue;
+    
+    @Column(name = "cargo_capacity_value")
+    private Long cargoCapacityValue;
+    
+    // name normalizado (minúsculas, sin acentos) para búsquedas por índice; ver SearchNormalizer
+    @Column(name = "search_name")
+    private String searchName;
+    
+    // model, manufacturer y vehicleClass normalizados para combinar filtros de texto en una consulta
+    @Column(name = "search_model")
+    private String searchModel;
+    
+    @Column(name = "search_manufacturer")
+    private String searchManufacturer;
+    
+    @Column(name = "search_class")
+    private String searchClass;
+    
+    @PrePersist
+    @PreUpdate
+    void updateSearchColumns() {
+        this.searchName = SearchNormalizer.normalize(name);
+        this.searchModel = SearchNormalizer.normalize(model);
+        this.searchManufacturer = SearchNormalizer.toManufacturerKey(manufacturer);
+        this.searchClass = SearchNormalizer.normalize(vehicleClass);
+    }
 }
-
-
-
-
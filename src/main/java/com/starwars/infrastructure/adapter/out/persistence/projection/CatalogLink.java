@@ -0,0 +1,8 @@
+package com.starwars.infrastructure.adapter.out.persistence.projection;
+
+/**
+ * Fila de una tabla de relación ({@code film_characters}, {@code person_starships}, ...) por uid,
+ * construida con {@code select new ...}: solo se leen los dos uids, sin hidratar entidades.
+ */
+public record CatalogLink(String ownerUid, String targetUid) {
+}
@@ -0,0 +1,19 @@
+package com.starwars.infrastructure.adapter.out.persistence.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Proyección de films para listados y búsquedas: todas las columnas menos {@code opening_crawl},
+ * que solo se carga en el detalle. Spring Data la construye con {@code select new ...}, así que
+ * se leen únicamente estas columnas y no se hidratan entidades ni se usa el contexto de persistencia.
+ */
+public record FilmSummary(
+        Long id,
+        String uid,
+        String title,
+        Integer episodeId,
+        String director,
+        String producer,
+        LocalDate releaseDate,
+        String url) {
+}
@@ -0,0 +1,20 @@
+package com.starwars.infrastructure.adapter.out.persistence.projection;
+
+/**
+ * Proyección de personajes para listados y búsquedas. Spring Data la construye con
+ * {@code select new ...}: no se hidratan entidades ni se usa el contexto de persistencia.
+ */
+public record PeopleSummary(
+        Long id,
+        String uid,
+        String name,
+        String height,
+        String mass,
+        String hairColor,
+        String skinColor,
+        String eyeColor,
+        String birthYear,
+        String gender,
+        String homeworld,
+        String url) {
+}
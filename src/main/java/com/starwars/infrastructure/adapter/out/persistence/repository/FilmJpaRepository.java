@@ -1,18 +1,59 @@
 package com.starwars.infrastructure.adapter.out.persistence.repository;
 
 import com.starwars.infrastructure.adapter.out.persistence.entity.FilmEntity;
+import com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink;
+import com.starwars.infrastructure.adapter.out.persistence.projection.FilmSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FilmJpaRepository extends JpaRepository<FilmEntity, Long> {
+    // Caché de consultas: repetir la búsqueda por uid no va a la base hasta que cambie la tabla
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<FilmEntity> findByUid(String uid);
-    Page<FilmEntity> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    // Listados con proyección: no traen opening_crawl ni hidratan entidades
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<FilmSummary> findAllProjectedBy(Pageable pageable);
+    // searchTitle ya está normalizado: el texto buscado se pasa por SearchNormalizer
+    Page<FilmSummary> findBySearchTitleContaining(String normalizedTitle, Pageable pageable);
     boolean existsByUid(String uid);
-}
 
+    // Film y relacionados en una sola consulta (fetch join); vacío si el film no existe
+    @EntityGraph(attributePaths = "characters")
+    Optional<FilmEntity> findWithCharactersByUid(String uid);
+
+    @EntityGraph(attributePaths = "starships")
+    Optional<FilmEntity> findWithStarshipsByUid(String uid);
 
+    @EntityGraph(attributePaths = "vehicles")
+    Optional<FilmEntity> findWithVehiclesByUid(String uid);
 
+    // Lado inverso de film_characters, con la proyección sin opening_crawl
+    @Query("select new com.starwars.infrastructure.adapter.out.persistence.projection.FilmSummary("
+            + "f.id, f.uid, f.title, f.episodeId, f.director, f.producer, f.releaseDate, f.url)"
+            + " from FilmEntity f join f.characters p where p.uid = :uid order by f.episodeId")
+    List<FilmSummary> findSummariesByCharacterUid(@Param("uid") String uid);
 
+    // Enlaces por uid para el grafo en memoria, sin hidratar films ni relacionados
+    @Query("select new com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink(f.uid, p.uid)"
+            + " from FilmEntity f join f.characters p")
+    List<CatalogLink> findCharacterLinks();
+
+    // Exportación completa: el driver trae las filas de a 500 (fetch size) y no pasan por la caché de segundo nivel
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<FilmEntity> streamAllByOrderByIdAsc();
+}
@@ -1,16 +1,53 @@
 package com.starwars.infrastructure.adapter.out.persistence.repository;
 
 import com.starwars.infrastructure.adapter.out.persistence.entity.PeopleEntity;
+import com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink;
+import com.starwars.infrastructure.adapter.out.persistence.projection.PeopleSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PeopleJpaRepository extends JpaRepository<PeopleEntity, Long> {
+    // Caché de consultas: repetir la búsqueda por uid no va a la base hasta que cambie la tabla
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PeopleEntity> findByUid(String uid);
-    Page<PeopleEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // Listados con proyección: no hidratan entidades
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<PeopleSummary> findAllProjectedBy(Pageable pageable);
+    // searchName ya está normalizado: el texto buscado se pasa por SearchNormalizer
+    Page<PeopleSummary> findBySearchNameContaining(String normalizedName, Pageable pageable);
     boolean existsByUid(String uid);
-}
 
+    // Personaje y relacionados en una sola consulta (fetch join); vacío si el personaje no existe
+    @EntityGraph(attributePaths = "starships")
+    Optional<PeopleEntity> findWithStarshipsByUid(String uid);
+
+    @EntityGraph(attributePaths = "vehicles")
+    Optional<PeopleEntity> findWithVehiclesByUid(String uid);
+
+    // Enlaces por uid para el grafo en memoria, sin hidratar personajes ni relacionados
+    @Query("select new com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink(p.uid, s.uid)"
+            + " from PeopleEntity p join p.starships s")
+    List<CatalogLink> findStarshipLinks();
 
+    @Query("select new com.starwars.infrastructure.adapter.out.persistence.projection.CatalogLink(p.uid, v.uid)"
+            + " from PeopleEntity p join p.vehicles v")
+    List<CatalogLink> findVehicleLinks();
+
+    // Exportación completa: el driver trae las filas de a 500 (fetch size) y no pasan por la caché de segundo nivel
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<PeopleEntity> streamAllByOrderByIdAsc();
+}
@@ -1,18 +1,62 @@
 package com.starwars.infrastructure.adapter.out.persistence.repository;
 
 import com.starwars.infrastructure.adapter.out.persistence.entity.VehicleEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface VehicleJpaRepository extends JpaRepository<VehicleEntity, Long> {
+public interface VehicleJpaRepository extends JpaRepository<VehicleEntity, Long>, JpaSpecificationExecutor<VehicleEntity> {
+    // Caché de consultas: repetir la búsqueda por uid no va a la base hasta que cambie la tabla
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<VehicleEntity> findByUid(String uid);
-    Page<VehicleEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // searchName ya está normalizado: el texto buscado se pasa por SearchNormalizer
+    Page<VehicleEntity> findBySearchNameContaining(String normalizedName, Pageable pageable);
     boolean existsByUid(String uid);
-}
 
+    // Keyset: (name, id) > (:name, :id) escrito como OR para que lo entiendan todos los dialectos
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    @Query("select v from VehicleEntity v where v.name > :name or (v.name = :name and v.id > :id) order by v.name, v.id")
+    List<VehicleEntity> findKeysetPage(@Param("name") String name, @Param("id") Long id, Limit limit);
+
+    // Infijo: en PostgreSQL lo resuelve el índice trigram de search_name, en H2 recorre la tabla
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select v from VehicleEntity v where v.searchName like concat('%', :query, '%') escape '\\'"
+            + " and (v.name > :name or (v.name = :name and v.id > :id)) order by v.name, v.id")
+    List<VehicleEntity> findKeysetPageByName(@Param("query") String query, @Param("name") String name,
+                                           @Param("id") Long id, Limit limit);
 
+    // Prefijo: LIKE 'abc%' se resuelve como rango sobre el índice de search_name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select v from VehicleEntity v where v.searchName like concat(:prefix, '%') escape '\\'"
+            + " and (v.name > :name or (v.name = :name and v.id > :id)) order by v.name, v.id")
+    List<VehicleEntity> findKeysetPageByNamePrefix(@Param("prefix") String prefix, @Param("name") String name,
+                                                 @Param("id") Long id, Limit limit);
 
+    @Query("select count(v) from VehicleEntity v where v.searchName like concat('%', :query, '%') escape '\\'")
+    long countByName(@Param("query") String query);
 
+    @Query("select count(v) from VehicleEntity v where v.searchName like concat(:prefix, '%') escape '\\'")
+    long countByNamePrefix(@Param("prefix") String prefix);
+
+    // Exportación completa: el driver trae las filas de a 500 (fetch size) y no pasan por la caché de segundo nivel
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<VehicleEntity> streamAllByOrderByIdAsc();
+}
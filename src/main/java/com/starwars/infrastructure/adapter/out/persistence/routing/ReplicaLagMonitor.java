@@ -0,0 +1,94 @@
+package com.starwars.infrastructure.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mide el lag de cada réplica con una fila de heartbeat: escribe la hora actual en el primario
+ * y lee la que ya llegó a cada réplica; la diferencia es el retraso de replicación.
+ * No depende de funciones propias de cada motor, así que sirve igual en PostgreSQL y en H2.
+ * <p>
+ * La tabla {@code replica_heartbeat} la crea la migración V5. Si no se puede escribir el heartbeat
+ * o leerlo de una réplica, esa réplica queda fuera hasta la siguiente medición correcta.
+ * Publica {@code datasource.replica.lag{replica}} y {@code datasource.routing.fallbacks}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replica_heartbeat";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(routingDataSource.primary());
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.replicas()) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis() < 0 ? Double.NaN : r.lagMillis())
+                    .description("Retraso de replicación medido por heartbeat (ms)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("datasource.routing.fallbacks", routingDataSource, ReplicaRoutingDataSource::fallbackCount)
+                .description("Lecturas de solo lectura atendidas por el primario")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1000}")
+    public synchronized void checkLag() {
+        long beat = System.currentTimeMillis();
+        String writeFailure = null;
+        try {
+            // La tabla y su fila las crea la migración V5
+            if (primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1", beat) == 0) {
+                writeFailure = "heartbeat row missing on primary";
+            }
+        } catch (DataAccessException e) {
+            writeFailure = e.getMessage();
+        }
+        if (writeFailure != null) {
+            log.warn("Could not write replication heartbeat to primary: {}", writeFailure);
+        }
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.replicas()) {
+            boolean wasUsable = replica.isUsable(routingDataSource.maxLagMillis());
+            // Sin heartbeat nuevo el lag no se puede medir: la réplica queda fuera hasta la próxima medición
+            String failure = writeFailure != null ? "no heartbeat written" : measure(replica, beat);
+            if (failure != null) {
+                replica.markUnavailable();
+            }
+            // Solo se registran los cambios de estado, no cada medición
+            boolean usable = replica.isUsable(routingDataSource.maxLagMillis());
+            if (usable != wasUsable) {
+                log.info("Replica {} {} read routing ({})", replica.name(), usable ? "joined" : "left",
+                        failure != null ? failure : "lag " + replica.lagMillis() + " ms");
+            }
+        }
+    }
+
+    // Devuelve el motivo si no se pudo medir
+    private static String measure(ReplicaRoutingDataSource.Replica replica, long beat) {
+        try {
+            List<Long> beats = new JdbcTemplate(replica.dataSource())
+                    .queryForList("SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+            if (beats.isEmpty() || beats.get(0) <= 0) {
+                return "no heartbeat yet";
+            }
+            replica.updateLag(Math.max(0, beat - beats.get(0)), beats.get(0));
+            return null;
+        } catch (DataAccessException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.starwars.infrastructure.adapter.out.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que envía las transacciones {@code @Transactional(readOnly = true)} a las réplicas de lectura
+ * y todo lo demás al primario.
+ * <p>
+ * Solo se usa una réplica cuyo lag (medido por {@link ReplicaLagMonitor}) no supere {@code maxLagMillis}
+ * y a la que ya llegó la última escritura confirmada en el primario; entre las que cumplen se reparte en
+ * round-robin. Si ninguna cumple, o la elegida no entrega conexión, la lectura va al primario. Así, tras una
+ * escritura, la caché de segundo nivel recién invalidada no se vuelve a llenar con datos viejos de una réplica.
+ * <p>
+ * Debe ir envuelto en un {@code LazyConnectionDataSourceProxy}: la conexión se pide recién en la primera
+ * sentencia, cuando Spring ya marcó la transacción como de solo lectura.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+    // Hora (epoch ms) del último commit de una transacción de escritura en el primario
+    private volatile long lastWriteAt;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return primary.getConnection();
+        }
+        Replica replica = pickReplica();
+        if (replica == null) {
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            log.warn("Replica {} refused a connection, falling back to primary: {}", replica.name(), e.getMessage());
+            replica.markUnavailable();
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    // Con credenciales explícitas no se enruta: las réplicas se configuran con las suyas
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Toda transacción que no es de solo lectura cuenta como escritura al confirmarse. Las conexiones fuera
+    // de una transacción (la sonda de LazyConnectionDataSourceProxy, Flyway al arrancar) no se cuentan
+    private void recordWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastWriteAt = System.currentTimeMillis();
+                }
+            });
+        }
+    }
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isUsable(maxLagMillis) && replica.replicatedUpTo() > lastWriteAt) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    DataSource primary() {
+        return primary;
+    }
+
+    List<Replica> replicas() {
+        return replicas;
+    }
+
+    long maxLagMillis() {
+        return maxLagMillis;
+    }
+
+    // Lecturas de solo lectura que terminaron en el primario (sin réplica disponible o sin la última escritura)
+    long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource()));
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("Could not close datasource: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Estado de una réplica. El lag es -1 mientras no se haya medido o si la última medición falló;
+     * {@code replicatedUpTo} es el último heartbeat del primario que llegó a la réplica.
+     */
+    static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long lagMillis = -1;
+        private volatile long replicatedUpTo = -1;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        long lagMillis() {
+            return lagMillis;
+        }
+
+        long replicatedUpTo() {
+            return replicatedUpTo;
+        }
+
+        void updateLag(long lagMillis, long replicatedUpTo) {
+            this.replicatedUpTo = replicatedUpTo;
+            this.lagMillis = lagMillis;
+        }
+
+        void markUnavailable() {
+            this.lagMillis = -1;
+        }
+
+        boolean isUsable(long maxLagMillis) {
+            long lag = lagMillis;
+            return lag >= 0 && lag <= maxLagMillis;
+        }
+    }
+}
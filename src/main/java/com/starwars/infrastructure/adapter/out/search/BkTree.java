@@ -0,0 +1,138 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * BK-tree inmutable sobre la distancia de Levenshtein: cada hijo cuelga de su padre en la posición
+ * de la distancia entre ambos términos.
+ * <p>
+ * Por la desigualdad triangular, si la consulta está a distancia {@code d} de un nodo, los términos a
+ * distancia {@code <= k} de la consulta solo pueden estar en los hijos {@code d - k .. d + k}; el resto
+ * del árbol no se visita. Cada término guarda los ids de los elementos que lo contienen.
+ */
+final class BkTree {
+
+    private static final int[] NONE = new int[0];
+
+    private final Node root;
+    private final int size;
+
+    @FunctionalInterface
+    interface Hit {
+        void accept(int[] elements, int distance);
+    }
+
+    private BkTree(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param postings término ya normalizado -> ids de los elementos que lo contienen
+     */
+    static BkTree build(Map<String, int[]> postings) {
+        Node root = null;
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            Node node = new Node(entry.getKey(), entry.getValue());
+            if (root == null) {
+                root = node;
+                continue;
+            }
+            Node parent = root;
+            while (true) {
+                // Las claves del mapa son distintas: la distancia es al menos 1
+                int distance = distance(node.term, parent.term);
+                Node child = parent.child(distance);
+                if (child == null) {
+                    parent.attach(distance, node);
+                    break;
+                }
+                parent = child;
+            }
+        }
+        return new BkTree(root, postings.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Entrega cada término a distancia {@code <= maxDistance} de {@code query} con sus elementos;
+     * el orden de las llamadas no está definido.
+     */
+    void search(String query, int maxDistance, Hit hit) {
+        if (root == null) {
+            return;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.term);
+            if (distance <= maxDistance) {
+                hit.accept(node.elements, distance);
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int d = from; d <= to; d++) {
+                if (node.children[d] != null) {
+                    pending.push(node.children[d]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Distancia de Levenshtein con dos filas: inserciones, borrados y sustituciones cuestan 1.
+     */
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        final String term;
+        final int[] elements;
+        // Hijo a distancia d en children[d]; la posición 0 no se usa
+        Node[] children = new Node[0];
+
+        Node(String term, int[] elements) {
+            this.term = term;
+            this.elements = elements == null ? NONE : elements;
+        }
+
+        Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void attach(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
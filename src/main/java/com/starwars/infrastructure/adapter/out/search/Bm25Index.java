@@ -0,0 +1,222 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.SearchHit;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Índice invertido inmutable con ranking BM25 por campo.
+ * <p>
+ * Cada campo tiene su propio largo promedio y un peso ({@code boost}); el puntaje de un documento
+ * es la suma, por término de la consulta y campo, de {@code boost * idf * tf * (k1 + 1) / (tf + k1 * (1 - b + b * largo / promedio))}.
+ * El idf cuenta los documentos que tienen el término en cualquier campo.
+ */
+final class Bm25Index<T> {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    // Largo aproximado de los fragmentos de los campos largos
+    static final int SNIPPET_LENGTH = 160;
+
+    private final List<T> items;
+    private final List<Field<T>> fields;
+    // término -> apariciones (documento, campo, frecuencia)
+    private final Map<String, List<Posting>> postings;
+    private final int[][] lengths;
+    private final double[] averageLengths;
+
+    record Field<T>(String name, double boost, Function<T, String> text) {
+    }
+
+    /**
+     * Términos de cada campo de un documento con su frecuencia y el texto del que salieron; se
+     * reutiliza entre reconstrucciones si el texto no cambió.
+     */
+    record Document(List<String> sources, List<Map<String, Integer>> frequencies, int[] lengths) {
+    }
+
+    private record Posting(int document, int field, int frequency) {
+    }
+
+    private Bm25Index(List<T> items, List<Field<T>> fields, Map<String, List<Posting>> postings,
+                      int[][] lengths, double[] averageLengths) {
+        this.items = items;
+        this.fields = fields;
+        this.postings = postings;
+        this.lengths = lengths;
+        this.averageLengths = averageLengths;
+    }
+
+    static <T> Document analyze(T item, List<Field<T>> fields) {
+        List<String> sources = new ArrayList<>(fields.size());
+        List<Map<String, Integer>> frequencies = new ArrayList<>(fields.size());
+        int[] lengths = new int[fields.size()];
+        for (int f = 0; f < fields.size(); f++) {
+            String text = fields.get(f).text().apply(item);
+            List<String> terms = TextAnalyzer.terms(text);
+            Map<String, Integer> counts = new HashMap<>();
+            terms.forEach(term -> counts.merge(term, 1, Integer::sum));
+            sources.add(text);
+            frequencies.add(counts);
+            lengths[f] = terms.size();
+        }
+        return new Document(sources, frequencies, lengths);
+    }
+
+    /**
+     * @param documents análisis de cada elemento, en el mismo orden que {@code items}
+     */
+    static <T> Bm25Index<T> build(List<T> items, List<Document> documents, List<Field<T>> fields) {
+        Map<String, List<Posting>> postings = new HashMap<>();
+        int[][] lengths = new int[items.size()][];
+        double[] averageLengths = new double[fields.size()];
+        for (int d = 0; d < documents.size(); d++) {
+            Document document = documents.get(d);
+            lengths[d] = document.lengths();
+            for (int f = 0; f < fields.size(); f++) {
+                averageLengths[f] += document.lengths()[f];
+                int field = f;
+                int doc = d;
+                document.frequencies().get(f).forEach((term, frequency) ->
+                        postings.computeIfAbsent(term, t -> new ArrayList<>()).add(new Posting(doc, field, frequency)));
+            }
+        }
+        for (int f = 0; f < fields.size(); f++) {
+            averageLengths[f] = items.isEmpty() ? 0 : averageLengths[f] / items.size();
+        }
+        return new Bm25Index<>(List.copyOf(items), List.copyOf(fields), postings, lengths, averageLengths);
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    List<SearchHit<T>> search(String text, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextAnalyzer.terms(text));
+        double[] scores = new double[items.size()];
+        boolean[] matched = new boolean[items.size()];
+        for (String term : queryTerms) {
+            List<Posting> termPostings = postings.getOrDefault(term, List.of());
+            double idf = Math.log(1 + (items.size() - documentFrequency(termPostings) + 0.5)
+                    / (documentFrequency(termPostings) + 0.5));
+            for (Posting posting : termPostings) {
+                int f = posting.field();
+                double norm = averageLengths[f] == 0 ? 1 : lengths[posting.document()][f] / averageLengths[f];
+                double tf = posting.frequency();
+                scores[posting.document()] += fields.get(f).boost() * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * norm));
+                matched[posting.document()] = true;
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>();
+        for (int d = 0; d < items.size(); d++) {
+            if (matched[d]) {
+                ranked.add(d);
+            }
+        }
+        ranked.sort(Comparator.<Integer>comparingDouble(d -> scores[d]).reversed().thenComparingInt(d -> d));
+        return ranked.stream()
+                .limit(limit)
+                .map(d -> SearchHit.<T>builder()
+                        .item(items.get(d))
+                        .score(scores[d])
+                        .highlights(highlights(items.get(d), queryTerms))
+                        .build())
+                .toList();
+    }
+
+    private static int documentFrequency(List<Posting> termPostings) {
+        // Un documento aparece una vez por campo: se cuentan documentos distintos
+        return (int) termPostings.stream().mapToInt(Posting::document).distinct().count();
+    }
+
+    private Map<String, String> highlights(T item, Set<String> queryTerms) {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        for (Field<T> field : fields) {
+            String snippet = snippet(field.text().apply(item), queryTerms, SNIPPET_LENGTH);
+            if (snippet != null) {
+                highlights.put(field.name(), snippet);
+            }
+        }
+        return highlights;
+    }
+
+    /**
+     * Fragmento de hasta ~{@code maxLength} caracteres alrededor de la zona con más coincidencias, con
+     * los términos encontrados entre {@code <em>} y {@code </em>}, el resto del texto escapado como HTML
+     * y los saltos de línea reducidos a un espacio. Null si el texto no tiene ningún término.
+     */
+    static String snippet(String text, Set<String> queryTerms, int maxLength) {
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.tokens(text);
+        List<TextAnalyzer.Token> matches = tokens.stream().filter(token -> queryTerms.contains(token.term())).toList();
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        // Ventana que empieza en una coincidencia y abarca la mayor cantidad de coincidencias
+        int bestFirst = 0;
+        int bestCount = 0;
+        for (int first = 0, last = 0; first < matches.size(); first++) {
+            while (last < matches.size() && matches.get(last).end() - matches.get(first).start() <= maxLength) {
+                last++;
+            }
+            if (last - first > bestCount) {
+                bestCount = last - first;
+                bestFirst = first;
+            }
+        }
+
+        // Algo de contexto antes de la primera coincidencia, cortando en el inicio de una palabra
+        int anchor = matches.get(bestFirst).start();
+        int start = 0;
+        int end = text.length();
+        if (text.length() > maxLength) {
+            // Los cortes caen en espacios del texto original, no a mitad de palabra
+            start = Math.max(0, anchor - maxLength / 4);
+            while (start > 0 && start < anchor && !Character.isWhitespace(text.charAt(start - 1))) {
+                start++;
+            }
+            end = Math.min(text.length(), start + maxLength);
+            while (end < text.length() && end > matches.get(bestFirst).end() && !Character.isWhitespace(text.charAt(end))) {
+                end--;
+            }
+        }
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("… ");
+        }
+        int position = start;
+        for (TextAnalyzer.Token match : matches) {
+            if (match.start() < start || match.end() > end) {
+                continue;
+            }
+            snippet.append(plain(text.substring(position, match.start())))
+                    .append("<em>").append(plain(text.substring(match.start(), match.end()))).append("</em>");
+            position = match.end();
+        }
+        snippet.append(plain(text.substring(position, end)));
+        if (end < text.length()) {
+            snippet.append(" …");
+        }
+        return snippet.toString().strip();
+    }
+
+    private static String plain(String text) {
+        return HtmlUtils.htmlEscape(text.replaceAll("\\s+", " "));
+    }
+}
@@ -0,0 +1,164 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.port.out.FuzzyIndex;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Búsqueda de nombres tolerante a errores de tipeo sobre un {@link BkTree} por recurso.
+ * <p>
+ * Cada elemento se indexa por su nombre normalizado completo y por cada palabra, así "skywaler"
+ * encuentra a "Luke Skywalker" y "millenium falcon" a "Millennium Falcon". La distancia máxima
+ * depende del largo de la consulta ({@link #maxDistance(int)}): una consulta corta con dos errores
+ * coincide con casi cualquier palabra. El árbol se reconstruye al arrancar y tras cada sincronización;
+ * la popularidad se lee del {@link AccessFrequencyTracker} en cada consulta.
+ */
+@Slf4j
+public abstract class CatalogFuzzyIndex<T> implements FuzzyIndex<T> {
+
+    private final AccessFrequencyTracker tracker;
+    private final int maxDistanceCap;
+    private final int maxResults;
+
+    // Null hasta la primera construcción
+    private volatile Snapshot<T> snapshot;
+
+    private record Snapshot<T>(List<T> items, BkTree tree) {
+    }
+
+    private record Match<T>(T item, int element, int distance, double popularity, String name) {
+    }
+
+    protected CatalogFuzzyIndex(AccessFrequencyTracker tracker, int maxDistanceCap, int maxResults) {
+        this.tracker = tracker;
+        this.maxDistanceCap = maxDistanceCap;
+        this.maxResults = maxResults;
+    }
+
+    // Nombre del recurso tal como lo publica CatalogSyncedEvent y lo usa la clave de caché
+    protected abstract String resource();
+
+    // Recorre el catálogo local entregando cada elemento
+    protected abstract void load(Consumer<T> consumer);
+
+    protected abstract String uid(T item);
+
+    // Nombre (o título) por el que se busca
+    protected abstract String name(T item);
+
+    @Override
+    public List<T> search(String query) {
+        Snapshot<T> current = snapshot;
+        String key = query == null ? "" : SearchNormalizer.normalize(query);
+        if (current == null || key.isEmpty()) {
+            return List.of();
+        }
+        // Menor distancia de cada elemento entre todos sus términos; solo de los que coinciden,
+        // así el costo de una consulta no crece con el tamaño del catálogo
+        Map<Integer, Integer> best = new HashMap<>();
+        current.tree().search(key, maxDistance(key.length()), (elements, distance) -> {
+            for (int element : elements) {
+                best.merge(element, distance, Math::min);
+            }
+        });
+
+        List<Match<T>> matches = new ArrayList<>(best.size());
+        best.forEach((element, distance) -> {
+            T item = current.items().get(element);
+            matches.add(new Match<>(item, element, distance, tracker.score(resource() + ":id:" + uid(item)), name(item)));
+        });
+        return matches.stream()
+                .sorted(Comparator.<Match<T>>comparingInt(Match::distance)
+                        .thenComparing(Comparator.<Match<T>>comparingDouble(Match::popularity).reversed())
+                        .thenComparingInt(match -> match.name().length())
+                        .thenComparing(Match::name)
+                        .thenComparingInt(Match::element))
+                .limit(maxResults)
+                .map(Match::item)
+                .toList();
+    }
+
+    /**
+     * Errores admitidos según el largo de la consulta normalizada: ninguno hasta 3 caracteres,
+     * uno hasta 5 y dos desde 6, sin pasar de {@code search.fuzzy.max-distance}.
+     */
+    int maxDistance(int length) {
+        int distance = length <= 3 ? 0 : length <= 5 ? 1 : 2;
+        return Math.min(distance, maxDistanceCap);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (event.includes(resource())) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<T> items = new ArrayList<>();
+            load(item -> {
+                String name = name(item);
+                if (name != null && !name.isBlank()) {
+                    items.add(item);
+                }
+            });
+            Map<String, List<Integer>> postings = new LinkedHashMap<>();
+            for (int element = 0; element < items.size(); element++) {
+                for (String term : terms(name(items.get(element)))) {
+                    postings.computeIfAbsent(term, t -> new ArrayList<>(1)).add(element);
+                }
+            }
+            Map<String, int[]> terms = new LinkedHashMap<>();
+            postings.forEach((term, elements) -> terms.put(term, elements.stream().mapToInt(Integer::intValue).toArray()));
+            BkTree tree = BkTree.build(terms);
+            snapshot = new Snapshot<>(List.copyOf(items), tree);
+            log.info("Rebuilt {} fuzzy index: {} items, {} terms in {} ms", resource(),
+                    items.size(), tree.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el índice anterior
+            log.warn("Could not rebuild {} fuzzy index: {}", resource(), e.getMessage());
+        }
+    }
+
+    /**
+     * El nombre normalizado y cada una de sus palabras:
+     * "Millennium Falcon" -> "millennium falcon", "millennium", "falcon".
+     */
+    static Set<String> terms(String name) {
+        String normalized = SearchNormalizer.normalize(name);
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalized);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean separator = i == normalized.length() || CatalogSuggestionIndex.isSeparator(normalized.charAt(i));
+            if (separator && wordStart >= 0) {
+                terms.add(normalized.substring(wordStart, i));
+                wordStart = -1;
+            } else if (!separator && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,195 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.model.Suggestion;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.SuggestionIndex;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Autocompletado sobre todos los nombres y títulos del catálogo local, con un {@link PrefixTrie} por recurso.
+ * <p>
+ * Cada elemento se indexa por su nombre completo y por el resto del nombre desde cada palabra
+ * ("sky" encuentra a "Luke Skywalker"). La popularidad es el puntaje de acceso de su clave de caché
+ * ({@code people:id:1}) al construir el índice, así que el orden se actualiza en cada reconstrucción:
+ * al arrancar, tras cada sincronización y cada {@code search.autocomplete.refresh-interval} ms.
+ */
+@Slf4j
+@Component
+public class CatalogSuggestionIndex implements SuggestionIndex {
+
+    private static final Set<String> TYPES = new LinkedHashSet<>(List.of("films", "people", "starships", "vehicles"));
+
+    private final FilmRepository filmRepository;
+    private final PeopleRepository peopleRepository;
+    private final StarshipRepository starshipRepository;
+    private final VehicleRepository vehicleRepository;
+    private final AccessFrequencyTracker tracker;
+    private final int maxSuggestions;
+
+    private volatile Map<String, TypeIndex> indexes = Map.of();
+
+    public CatalogSuggestionIndex(FilmRepository filmRepository,
+                                  PeopleRepository peopleRepository,
+                                  StarshipRepository starshipRepository,
+                                  VehicleRepository vehicleRepository,
+                                  AccessFrequencyTracker tracker,
+                                  @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.filmRepository = filmRepository;
+        this.peopleRepository = peopleRepository;
+        this.starshipRepository = starshipRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.tracker = tracker;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    // Elementos de un recurso ordenados de más a menos popular; el id en el trie es la posición
+    private record TypeIndex(List<Suggestion> elements, double[] scores, PrefixTrie trie) {
+    }
+
+    private record Candidate(Suggestion suggestion, double score, int typeOrder) {
+    }
+
+    @Override
+    public Set<String> types() {
+        return TYPES;
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, Set<String> types, int limit) {
+        String key = SearchNormalizer.normalize(prefix);
+        int wanted = Math.min(limit, maxSuggestions);
+        Map<String, TypeIndex> current = indexes;
+        List<Candidate> candidates = new ArrayList<>();
+        int typeOrder = 0;
+        for (String type : TYPES) {
+            TypeIndex index = current.get(type);
+            if (index != null && types.contains(type)) {
+                for (int element : index.trie().complete(key, wanted)) {
+                    candidates.add(new Candidate(index.elements().get(element), index.scores()[element], typeOrder));
+                }
+            }
+            typeOrder++;
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                        .thenComparingInt(candidate -> candidate.suggestion().getLabel().length())
+                        .thenComparingInt(Candidate::typeOrder)
+                        .thenComparing(candidate -> candidate.suggestion().getLabel()))
+                .limit(wanted)
+                .map(Candidate::suggestion)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        rebuild();
+    }
+
+    // Reordena por popularidad aunque el catálogo no haya cambiado
+    @Scheduled(initialDelayString = "${search.autocomplete.refresh-interval:300000}",
+            fixedDelayString = "${search.autocomplete.refresh-interval:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, List<Suggestion>> byType = new LinkedHashMap<>();
+            byType.put("films", new ArrayList<>());
+            byType.put("people", new ArrayList<>());
+            byType.put("starships", new ArrayList<>());
+            byType.put("vehicles", new ArrayList<>());
+            filmRepository.exportAll(film -> byType.get("films").add(suggestion("films", film.getUid(), film.getTitle())));
+            peopleRepository.exportAll(person -> byType.get("people").add(suggestion("people", person.getUid(), person.getName())));
+            starshipRepository.exportAll(starship -> byType.get("starships").add(suggestion("starships", starship.getUid(), starship.getName())));
+            vehicleRepository.exportAll(vehicle -> byType.get("vehicles").add(suggestion("vehicles", vehicle.getUid(), vehicle.getName())));
+
+            Map<String, TypeIndex> rebuilt = new LinkedHashMap<>();
+            int nodes = 0;
+            for (Map.Entry<String, List<Suggestion>> entry : byType.entrySet()) {
+                TypeIndex index = build(entry.getValue());
+                rebuilt.put(entry.getKey(), index);
+                nodes += index.trie().nodeCount();
+            }
+            indexes = rebuilt;
+            log.info("Rebuilt autocomplete index: {} names, {} trie nodes in {} ms",
+                    byType.values().stream().mapToInt(List::size).sum(), nodes, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el índice anterior
+            log.warn("Could not rebuild autocomplete index: {}", e.getMessage());
+        }
+    }
+
+    private TypeIndex build(List<Suggestion> suggestions) {
+        // La popularidad se lee una sola vez: el tracker sigue cambiando mientras se construye
+        List<Candidate> ranked = suggestions.stream()
+                .filter(suggestion -> suggestion.getLabel() != null && !suggestion.getLabel().isBlank())
+                .map(suggestion -> new Candidate(suggestion, popularity(suggestion), 0))
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                        .thenComparingInt(candidate -> candidate.suggestion().getLabel().length())
+                        .thenComparing(candidate -> candidate.suggestion().getLabel()))
+                .toList();
+        List<Suggestion> elements = new ArrayList<>(ranked.size());
+        double[] scores = new double[ranked.size()];
+        List<List<String>> keys = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            elements.add(ranked.get(i).suggestion());
+            scores[i] = ranked.get(i).score();
+            keys.add(keys(elements.get(i).getLabel()));
+        }
+        return new TypeIndex(elements, scores, PrefixTrie.build(keys, maxSuggestions));
+    }
+
+    private double popularity(Suggestion suggestion) {
+        return tracker.score(suggestion.getType() + ":id:" + suggestion.getUid());
+    }
+
+    /**
+     * El nombre normalizado y lo que sigue a cada separador:
+     * "TIE Advanced x1" -> "tie advanced x1", "advanced x1", "x1".
+     */
+    static List<String> keys(String label) {
+        String normalized = SearchNormalizer.normalize(label);
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (isSeparator(normalized.charAt(i - 1)) && !isSeparator(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == '-' || c == '/' || c == '(';
+    }
+
+    private static Suggestion suggestion(String type, String uid, String label) {
+        return Suggestion.builder().type(type).uid(uid).label(label).build();
+    }
+}
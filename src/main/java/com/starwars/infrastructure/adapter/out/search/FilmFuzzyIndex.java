@@ -0,0 +1,46 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.Film;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Búsqueda aproximada de films por título.
+ */
+@Component
+public class FilmFuzzyIndex extends CatalogFuzzyIndex<Film> {
+
+    private final FilmRepository filmRepository;
+
+    public FilmFuzzyIndex(FilmRepository filmRepository,
+                          AccessFrequencyTracker tracker,
+                          @Value("${search.fuzzy.max-distance:2}") int maxDistance,
+                          @Value("${search.fuzzy.max-results:50}") int maxResults) {
+        super(tracker, maxDistance, maxResults);
+        this.filmRepository = filmRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "films";
+    }
+
+    @Override
+    protected void load(Consumer<Film> consumer) {
+        filmRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Film item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(Film item) {
+        return item.getTitle();
+    }
+}
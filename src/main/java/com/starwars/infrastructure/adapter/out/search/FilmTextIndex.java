@@ -0,0 +1,108 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.model.Film;
+import com.starwars.domain.model.SearchHit;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.FullTextIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Búsqueda de texto completo sobre título, director, productores y texto de apertura de los films
+ * del catálogo local, con ranking BM25 ({@link Bm25Index}).
+ * <p>
+ * Se reconstruye al arrancar y tras cada sincronización de films. La reconstrucción es incremental:
+ * solo se vuelven a analizar los films nuevos o cuyo texto cambió; el resto reutiliza sus términos
+ * y solo se recalculan las estadísticas globales (documentos por término, largos promedio).
+ */
+@Slf4j
+@Component
+public class FilmTextIndex implements FullTextIndex<Film> {
+
+    // El título pesa más que el crawl: una coincidencia ahí es casi siempre lo que se busca
+    private static final List<Bm25Index.Field<Film>> FIELDS = List.of(
+            new Bm25Index.Field<>("title", 3.0, Film::getTitle),
+            new Bm25Index.Field<>("director", 2.0, Film::getDirector),
+            new Bm25Index.Field<>("producer", 1.5, Film::getProducer),
+            new Bm25Index.Field<>("openingCrawl", 1.0, Film::getOpeningCrawl));
+
+    private final FilmRepository filmRepository;
+    private final int maxResults;
+
+    // Null hasta la primera construcción
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Bm25Index<Film> index, Map<String, Bm25Index.Document> documents) {
+    }
+
+    public FilmTextIndex(FilmRepository filmRepository,
+                         @Value("${search.text.max-results:50}") int maxResults) {
+        this.filmRepository = filmRepository;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public List<SearchHit<Film>> search(String text) {
+        Snapshot current = snapshot;
+        if (current == null || text == null || text.isBlank()) {
+            return List.of();
+        }
+        return current.index().search(text, maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (event.includes("films")) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, Bm25Index.Document> previous = snapshot == null ? Map.of() : snapshot.documents();
+            List<Film> films = new ArrayList<>();
+            filmRepository.exportAll(films::add);
+
+            List<Bm25Index.Document> documents = new ArrayList<>(films.size());
+            Map<String, Bm25Index.Document> byUid = new HashMap<>();
+            int analyzed = 0;
+            for (Film film : films) {
+                Bm25Index.Document document = previous.get(film.getUid());
+                if (document == null || !document.sources().equals(sources(film))) {
+                    document = Bm25Index.analyze(film, FIELDS);
+                    analyzed++;
+                }
+                documents.add(document);
+                byUid.put(film.getUid(), document);
+            }
+            Bm25Index<Film> index = Bm25Index.build(films, documents, FIELDS);
+            snapshot = new Snapshot(index, byUid);
+            log.info("Rebuilt films text index: {} films ({} analyzed), {} terms in {} ms",
+                    index.size(), analyzed, index.termCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el índice anterior
+            log.warn("Could not rebuild films text index: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> sources(Film film) {
+        List<String> sources = new ArrayList<>(FIELDS.size());
+        FIELDS.forEach(field -> sources.add(field.text().apply(film)));
+        return sources;
+    }
+}
@@ -0,0 +1,46 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.People;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Búsqueda aproximada de personajes por nombre.
+ */
+@Component
+public class PeopleFuzzyIndex extends CatalogFuzzyIndex<People> {
+
+    private final PeopleRepository peopleRepository;
+
+    public PeopleFuzzyIndex(PeopleRepository peopleRepository,
+                            AccessFrequencyTracker tracker,
+                            @Value("${search.fuzzy.max-distance:2}") int maxDistance,
+                            @Value("${search.fuzzy.max-results:50}") int maxResults) {
+        super(tracker, maxDistance, maxResults);
+        this.peopleRepository = peopleRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "people";
+    }
+
+    @Override
+    protected void load(Consumer<People> consumer) {
+        peopleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(People item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(People item) {
+        return item.getName();
+    }
+}
@@ -0,0 +1,169 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Trie inmutable de prefijos guardado en arrays planos, sin un objeto por nodo.
+ * <p>
+ * Los nodos se numeran en anchura, así los hijos de cada nodo quedan contiguos y ordenados
+ * por carácter: bajar un nivel es una búsqueda binaria en {@code labels}. Cada nodo guarda
+ * además los {@code k} mejores elementos de su subárbol, así que una consulta cuesta el
+ * largo del prefijo y no depende de cuántas claves empiezan con él.
+ * <p>
+ * Los elementos se identifican por su posición en la lista de construcción, que debe venir
+ * ordenada de mejor a peor: los mejores de un subárbol son los de id más bajo.
+ */
+final class PrefixTrie {
+
+    private static final int[] NONE = new int[0];
+
+    // Carácter de la arista que llega a cada nodo (el de la raíz no se usa)
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    // Mejores elementos del nodo n: top[topOffset[n] .. topOffset[n + 1])
+    private final int[] topOffset;
+    private final int[] top;
+
+    private PrefixTrie(char[] labels, int[] firstChild, int[] childCount, int[] topOffset, int[] top) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffset = topOffset;
+        this.top = top;
+    }
+
+    /**
+     * @param keysByElement claves de cada elemento, ya normalizadas; el índice de la lista es el id
+     * @param k             cuántos elementos se guardan por nodo
+     */
+    static PrefixTrie build(List<List<String>> keysByElement, int k) {
+        Node root = new Node();
+        for (int element = 0; element < keysByElement.size(); element++) {
+            for (String key : keysByElement.get(element)) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                }
+                node.elements.add(element);
+            }
+        }
+
+        // Numeración en anchura: los hijos de un nodo reciben números consecutivos
+        List<Node> nodes = new ArrayList<>();
+        List<Character> nodeLabels = new ArrayList<>();
+        int[] first = new int[16];
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        nodes.add(root);
+        nodeLabels.add('\0');
+        queue.add(root);
+        int index = 0;
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            if (index == first.length) {
+                first = Arrays.copyOf(first, first.length * 2);
+            }
+            first[index++] = nodes.size();
+            node.children.forEach((label, child) -> {
+                nodes.add(child);
+                nodeLabels.add(label);
+                queue.add(child);
+            });
+        }
+
+        int size = nodes.size();
+        char[] labels = new char[size];
+        int[] childCount = new int[size];
+        for (int n = 0; n < size; n++) {
+            labels[n] = nodeLabels.get(n);
+            childCount[n] = nodes.get(n).children.size();
+        }
+
+        // Los hijos tienen números mayores que el padre: recorriendo al revés ya están calculados
+        int[][] best = new int[size][];
+        for (int n = size - 1; n >= 0; n--) {
+            int[] merged = nodes.get(n).elements.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+            for (int c = first[n]; c < first[n] + childCount[n]; c++) {
+                merged = mergeSmallest(merged, best[c], k);
+            }
+            best[n] = merged.length > k ? Arrays.copyOf(merged, k) : merged;
+        }
+        int[] topOffset = new int[size + 1];
+        for (int n = 0; n < size; n++) {
+            topOffset[n + 1] = topOffset[n] + best[n].length;
+        }
+        int[] top = new int[topOffset[size]];
+        for (int n = 0; n < size; n++) {
+            System.arraycopy(best[n], 0, top, topOffset[n], best[n].length);
+        }
+        return new PrefixTrie(labels, Arrays.copyOf(first, size), childCount, topOffset, top);
+    }
+
+    /**
+     * Los mejores elementos (hasta {@code limit}) con alguna clave que empieza con {@code prefix},
+     * de mejor a peor.
+     */
+    int[] complete(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, prefix.charAt(i));
+            if (node < 0) {
+                return NONE;
+            }
+        }
+        int from = topOffset[node];
+        return Arrays.copyOfRange(top, from, from + Math.min(limit, topOffset[node + 1] - from));
+    }
+
+    int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Unión de dos listas ordenadas sin repetidos, cortada en k
+    private static int[] mergeSmallest(int[] a, int[] b, int k) {
+        int[] out = new int[Math.min(k, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (n < out.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+                if (j < b.length && b[j] == next) {
+                    j++;
+                }
+            } else {
+                next = b[j++];
+            }
+            if (n == 0 || out[n - 1] != next) {
+                out[n++] = next;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        final List<Integer> elements = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Búsqueda aproximada de naves por nombre.
+ */
+@Component
+public class StarshipFuzzyIndex extends CatalogFuzzyIndex<Starship> {
+
+    private final StarshipRepository starshipRepository;
+
+    public StarshipFuzzyIndex(StarshipRepository starshipRepository,
+                              AccessFrequencyTracker tracker,
+                              @Value("${search.fuzzy.max-distance:2}") int maxDistance,
+                              @Value("${search.fuzzy.max-results:50}") int maxResults) {
+        super(tracker, maxDistance, maxResults);
+        this.starshipRepository = starshipRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "starships";
+    }
+
+    @Override
+    protected void load(Consumer<Starship> consumer) {
+        starshipRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Starship item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(Starship item) {
+        return item.getName();
+    }
+}
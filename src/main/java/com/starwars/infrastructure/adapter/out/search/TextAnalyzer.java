@@ -0,0 +1,178 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Análisis de texto en inglés para la búsqueda de texto completo: separa palabras, las normaliza
+ * (minúsculas, sin acentos, sin posesivo), descarta palabras vacías y las reduce a su raíz con el
+ * paso 1 del algoritmo de Porter (plurales, -ed, -ing, -y final). Es la misma función para
+ * documentos y consultas, así "rebels" y "rebel" dan el mismo término.
+ * <p>
+ * Cada token conserva su posición en el texto original para poder resaltarlo.
+ */
+final class TextAnalyzer {
+
+    // Las palabras vacías de Lucene para inglés
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "will", "with");
+
+    record Token(String term, int start, int end) {
+    }
+
+    private TextAnalyzer() {
+    }
+
+    static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            // El apóstrofo solo es parte de la palabra entre dos letras ("Empire's")
+            while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i))
+                    || (isApostrophe(text.charAt(i)) && i + 1 < text.length() && Character.isLetter(text.charAt(i + 1))))) {
+                i++;
+            }
+            String term = term(text.substring(start, i));
+            if (term != null) {
+                tokens.add(new Token(term, start, i));
+            }
+        }
+        return tokens;
+    }
+
+    static List<String> terms(String text) {
+        return tokens(text).stream().map(Token::term).toList();
+    }
+
+    private static String term(String word) {
+        String normalized = SearchNormalizer.normalize(word);
+        if (normalized.endsWith("'s") || normalized.endsWith("’s")) {
+            normalized = normalized.substring(0, normalized.length() - 2);
+        }
+        normalized = normalized.replace("'", "").replace("’", "");
+        if (normalized.isEmpty() || STOP_WORDS.contains(normalized)) {
+            return null;
+        }
+        return stem(normalized);
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’';
+    }
+
+    /**
+     * Paso 1 de Porter: "ponies" -> "poni", "attacked" -> "attack", "fleeing" -> "flee",
+     * "hoping" -> "hope", "galaxy" -> "galaxi". Las palabras de hasta 2 letras no se tocan.
+     */
+    static String stem(String word) {
+        if (word.length() <= 2) {
+            return word;
+        }
+        StringBuilder w = new StringBuilder(word);
+
+        // 1a: plurales
+        if (endsWith(w, "sses") || endsWith(w, "ies")) {
+            w.setLength(w.length() - 2);
+        } else if (endsWith(w, "s") && !endsWith(w, "ss")) {
+            w.setLength(w.length() - 1);
+        }
+
+        // 1b: -eed, -ed, -ing
+        if (endsWith(w, "eed")) {
+            if (measure(w, w.length() - 3) > 0) {
+                w.setLength(w.length() - 1);
+            }
+        } else {
+            int suffix = endsWith(w, "ed") ? 2 : endsWith(w, "ing") ? 3 : 0;
+            if (suffix > 0 && hasVowel(w, w.length() - suffix)) {
+                w.setLength(w.length() - suffix);
+                if (endsWith(w, "at") || endsWith(w, "bl") || endsWith(w, "iz")) {
+                    w.append('e');
+                } else if (endsWithDoubleConsonant(w) && !endsWith(w, "l") && !endsWith(w, "s") && !endsWith(w, "z")) {
+                    w.setLength(w.length() - 1);
+                } else if (measure(w, w.length()) == 1 && endsWithCvc(w)) {
+                    w.append('e');
+                }
+            }
+        }
+
+        // 1c: -y final tras vocal en la raíz
+        if (endsWith(w, "y") && hasVowel(w, w.length() - 1)) {
+            w.setCharAt(w.length() - 1, 'i');
+        }
+        return w.toString();
+    }
+
+    private static boolean endsWith(StringBuilder w, String suffix) {
+        int from = w.length() - suffix.length();
+        return from >= 0 && w.indexOf(suffix, from) == from;
+    }
+
+    private static boolean isConsonant(CharSequence w, int i) {
+        char c = w.charAt(i);
+        if (c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u') {
+            return false;
+        }
+        // La y es vocal después de una consonante ("syzygy")
+        return c != 'y' || i == 0 || !isConsonant(w, i - 1);
+    }
+
+    private static boolean hasVowel(CharSequence w, int end) {
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(w, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Cantidad de secuencias vocal-consonante en w[0, end): la "m" de Porter
+    private static int measure(CharSequence w, int end) {
+        int m = 0;
+        int i = 0;
+        while (i < end && isConsonant(w, i)) {
+            i++;
+        }
+        while (i < end) {
+            while (i < end && !isConsonant(w, i)) {
+                i++;
+            }
+            if (i >= end) {
+                break;
+            }
+            while (i < end && isConsonant(w, i)) {
+                i++;
+            }
+            m++;
+        }
+        return m;
+    }
+
+    private static boolean endsWithDoubleConsonant(CharSequence w) {
+        int n = w.length();
+        return n >= 2 && w.charAt(n - 1) == w.charAt(n - 2) && isConsonant(w, n - 1);
+    }
+
+    // Consonante-vocal-consonante final, sin w, x ni y al final ("hop" -> "hope")
+    private static boolean endsWithCvc(CharSequence w) {
+        int n = w.length();
+        if (n < 3 || !isConsonant(w, n - 1) || isConsonant(w, n - 2) || !isConsonant(w, n - 3)) {
+            return false;
+        }
+        char last = w.charAt(n - 1);
+        return last != 'w' && last != 'x' && last != 'y';
+    }
+}
@@ -0,0 +1,46 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.Vehicle;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Búsqueda aproximada de vehículos por nombre.
+ */
+@Component
+public class VehicleFuzzyIndex extends CatalogFuzzyIndex<Vehicle> {
+
+    private final VehicleRepository vehicleRepository;
+
+    public VehicleFuzzyIndex(VehicleRepository vehicleRepository,
+                             AccessFrequencyTracker tracker,
+                             @Value("${search.fuzzy.max-distance:2}") int maxDistance,
+                             @Value("${search.fuzzy.max-results:50}") int maxResults) {
+        super(tracker, maxDistance, maxResults);
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "vehicles";
+    }
+
+    @Override
+    protected void load(Consumer<Vehicle> consumer) {
+        vehicleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Vehicle item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(Vehicle item) {
+        return item.getName();
+    }
+}
@@ -0,0 +1,91 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.port.out.SortIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Vistas ordenadas de un recurso del catálogo local. Se construyen al arrancar y se actualizan tras
+ * cada sincronización reordenando solo lo que cambió; las consultas leen la última versión sin
+ * bloquear mientras se actualiza.
+ */
+@Slf4j
+public abstract class CatalogSortIndex<T> implements SortIndex<T> {
+
+    // Null hasta la primera construcción
+    private volatile PermutationSortIndex<T> index;
+
+    // Nombre del recurso tal como lo publica CatalogSyncedEvent
+    protected abstract String resource();
+
+    // Recorre el catálogo local entregando cada elemento
+    protected abstract void load(Consumer<T> consumer);
+
+    protected abstract String uid(T item);
+
+    // Campo -> valor por el que se ordena (null si el elemento no lo tiene), en el orden en que se documentan
+    protected abstract Map<String, Function<T, Comparable<?>>> keys();
+
+    @Override
+    public Set<String> fields() {
+        return keys().keySet();
+    }
+
+    @Override
+    public Page<T> findAll(String field, boolean descending, Pageable pageable) {
+        PermutationSortIndex<T> current = index;
+        if (current == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        List<T> content = current.slice(field, descending, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, current.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (event.includes(resource())) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<T> items = new ArrayList<>();
+            load(items::add);
+            PermutationSortIndex<T> previous = index;
+            PermutationSortIndex<T> rebuilt = previous == null
+                    ? PermutationSortIndex.build(items, keys(), tieBreaker())
+                    : previous.update(items, this::uid, keys(), tieBreaker());
+            index = rebuilt;
+            log.info("{} {} sort index: {} items, {} fields in {} ms", previous == null ? "Built" : "Updated",
+                    resource(), rebuilt.size(), keys().size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se sigue sirviendo el índice anterior
+            log.warn("Could not rebuild {} sort index: {}", resource(), e.getMessage());
+        }
+    }
+
+    // Los empates se resuelven por uid, así el orden no depende del orden de carga
+    private Comparator<T> tieBreaker() {
+        return Comparator.comparing(this::uid, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.domain.model.Film;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Orden de films por título, fecha de estreno y episodio.
+ */
+@Component
+public class FilmSortIndex extends CatalogSortIndex<Film> {
+
+    private static final Map<String, Function<Film, Comparable<?>>> KEYS;
+
+    static {
+        Map<String, Function<Film, Comparable<?>>> keys = new LinkedHashMap<>();
+        keys.put("title", item -> SearchNormalizer.normalize(item.getTitle()));
+        keys.put("releaseDate", Film::getReleaseDate);
+        keys.put("episodeId", Film::getEpisodeId);
+        KEYS = Collections.unmodifiableMap(keys);
+    }
+
+    private final FilmRepository filmRepository;
+
+    public FilmSortIndex(FilmRepository filmRepository) {
+        this.filmRepository = filmRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "films";
+    }
+
+    @Override
+    protected void load(Consumer<Film> consumer) {
+        filmRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Film item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected Map<String, Function<Film, Comparable<?>>> keys() {
+        return KEYS;
+    }
+}
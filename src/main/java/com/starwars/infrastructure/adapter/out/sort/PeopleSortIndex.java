@@ -0,0 +1,53 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.domain.model.People;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Orden de personajes por nombre.
+ */
+@Component
+public class PeopleSortIndex extends CatalogSortIndex<People> {
+
+    private static final Map<String, Function<People, Comparable<?>>> KEYS;
+
+    static {
+        Map<String, Function<People, Comparable<?>>> keys = new LinkedHashMap<>();
+        keys.put("name", item -> SearchNormalizer.normalize(item.getName()));
+        KEYS = Collections.unmodifiableMap(keys);
+    }
+
+    private final PeopleRepository peopleRepository;
+
+    public PeopleSortIndex(PeopleRepository peopleRepository) {
+        this.peopleRepository = peopleRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "people";
+    }
+
+    @Override
+    protected void load(Consumer<People> consumer) {
+        peopleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(People item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected Map<String, Function<People, Comparable<?>>> keys() {
+        return KEYS;
+    }
+}
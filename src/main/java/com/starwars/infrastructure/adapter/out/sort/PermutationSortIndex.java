@@ -0,0 +1,178 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Vistas ordenadas precalculadas: por cada campo, un {@code int[]} con los ordinales de los elementos
+ * en orden ascendente. Una página ordenada es un tramo de ese array, sin ordenar nada por consulta.
+ * <p>
+ * Los elementos sin valor en el campo ("unknown" en SWAPI) quedan al final del array y también al final
+ * del orden descendente, que recorre al revés solo la parte con valor. Los empates se desempatan por
+ * {@code tieBreaker} en ascendente; en descendente quedan en orden inverso.
+ */
+final class PermutationSortIndex<T> {
+
+    private final List<T> items;
+    private final Map<String, int[]> permutations;
+    // Cuántos elementos tienen valor en cada campo: el prefijo de su permutación
+    private final Map<String, Integer> known;
+
+    private PermutationSortIndex(List<T> items, Map<String, int[]> permutations, Map<String, Integer> known) {
+        this.items = items;
+        this.permutations = permutations;
+        this.known = known;
+    }
+
+    /**
+     * Ordena todo desde cero.
+     *
+     * @param keys campo -> valor del elemento (null si no tiene)
+     */
+    static <T> PermutationSortIndex<T> build(List<T> items, Map<String, Function<T, Comparable<?>>> keys,
+                                             Comparator<T> tieBreaker) {
+        List<T> copy = List.copyOf(items);
+        Map<String, int[]> permutations = new LinkedHashMap<>();
+        Map<String, Integer> known = new LinkedHashMap<>();
+        keys.forEach((field, key) -> {
+            int[] permutation = sort(range(0, copy.size()), copy, comparator(key, tieBreaker));
+            permutations.put(field, permutation);
+            known.put(field, countKnown(permutation, copy, key));
+        });
+        return new PermutationSortIndex<>(copy, permutations, known);
+    }
+
+    /**
+     * Aplica un catálogo nuevo reutilizando el orden ya calculado: los elementos sin cambios conservan
+     * su posición relativa, solo se ordenan los nuevos o modificados y se intercalan con los demás.
+     * Cuesta O(n + k log k) por campo, con k elementos cambiados, en lugar de O(n log n).
+     *
+     * @param identity clave estable de cada elemento (su uid)
+     */
+    PermutationSortIndex<T> update(List<T> current, Function<T, String> identity,
+                                   Map<String, Function<T, Comparable<?>>> keys, Comparator<T> tieBreaker) {
+        Map<String, Integer> previousOrdinal = new HashMap<>();
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            previousOrdinal.put(identity.apply(items.get(ordinal)), ordinal);
+        }
+
+        // Primero los que no cambiaron, en su orden anterior; después los nuevos o modificados
+        int[] remap = new int[items.size()];
+        Arrays.fill(remap, -1);
+        List<T> unchanged = new ArrayList<>();
+        List<T> changed = new ArrayList<>();
+        List<Integer> unchangedOrdinals = new ArrayList<>();
+        for (T item : current) {
+            // remove: un uid repetido en el catálogo nuevo cuenta como elemento nuevo
+            Integer ordinal = previousOrdinal.remove(identity.apply(item));
+            if (ordinal != null && Objects.equals(items.get(ordinal), item)) {
+                unchangedOrdinals.add(ordinal);
+                unchanged.add(item);
+            } else {
+                changed.add(item);
+            }
+        }
+        for (int i = 0; i < unchangedOrdinals.size(); i++) {
+            remap[unchangedOrdinals.get(i)] = i;
+        }
+        List<T> updated = new ArrayList<>(unchanged);
+        updated.addAll(changed);
+        List<T> copy = List.copyOf(updated);
+
+        Map<String, int[]> rebuilt = new LinkedHashMap<>();
+        Map<String, Integer> rebuiltKnown = new LinkedHashMap<>();
+        keys.forEach((field, key) -> {
+            Comparator<T> comparator = comparator(key, tieBreaker);
+            int[] previous = permutations.get(field);
+            int[] kept = previous == null
+                    ? sort(range(0, unchanged.size()), copy, comparator)
+                    : Arrays.stream(previous).map(ordinal -> remap[ordinal]).filter(ordinal -> ordinal >= 0).toArray();
+            int[] added = sort(range(unchanged.size(), copy.size()), copy, comparator);
+            int[] permutation = merge(kept, added, copy, comparator);
+            rebuilt.put(field, permutation);
+            rebuiltKnown.put(field, countKnown(permutation, copy, key));
+        });
+        return new PermutationSortIndex<>(copy, rebuilt, rebuiltKnown);
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    boolean supports(String field) {
+        return permutations.containsKey(field);
+    }
+
+    /**
+     * Elementos en las posiciones [{@code offset}, {@code offset + size}) del orden pedido.
+     */
+    List<T> slice(String field, boolean descending, int offset, int size) {
+        int[] permutation = permutations.get(field);
+        if (permutation == null) {
+            throw new IllegalArgumentException("Campo de orden desconocido: " + field);
+        }
+        int withValue = known.get(field);
+        List<T> page = new ArrayList<>();
+        for (int rank = Math.max(0, offset); rank < Math.min(permutation.length, (long) offset + size); rank++) {
+            int position = descending && rank < withValue ? withValue - 1 - rank : rank;
+            page.add(items.get(permutation[position]));
+        }
+        return page;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<T> comparator(Function<T, Comparable<?>> key, Comparator<T> tieBreaker) {
+        Function<T, Comparable> raw = (Function) key;
+        return Comparator.comparing(raw, Comparator.nullsLast(Comparator.<Comparable>naturalOrder()))
+                .thenComparing(tieBreaker);
+    }
+
+    private static int[] range(int from, int to) {
+        int[] range = new int[to - from];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = from + i;
+        }
+        return range;
+    }
+
+    private static <T> int[] sort(int[] ordinals, List<T> items, Comparator<T> comparator) {
+        return Arrays.stream(ordinals)
+                .boxed()
+                .sorted((a, b) -> comparator.compare(items.get(a), items.get(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static <T> int[] merge(int[] a, int[] b, List<T> items, Comparator<T> comparator) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            merged[n++] = comparator.compare(items.get(a[i]), items.get(b[j])) <= 0 ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            merged[n++] = a[i++];
+        }
+        while (j < b.length) {
+            merged[n++] = b[j++];
+        }
+        return merged;
+    }
+
+    // Los que no tienen valor están al final: se cuentan desde el principio hasta el primero sin valor
+    private static <T> int countKnown(int[] permutation, List<T> items, Function<T, Comparable<?>> key) {
+        int count = 0;
+        while (count < permutation.length && key.apply(items.get(permutation[count])) != null) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Orden de naves por nombre, largo, costo y tripulación.
+ */
+@Component
+public class StarshipSortIndex extends CatalogSortIndex<Starship> {
+
+    private static final Map<String, Function<Starship, Comparable<?>>> KEYS;
+
+    static {
+        Map<String, Function<Starship, Comparable<?>>> keys = new LinkedHashMap<>();
+        keys.put("name", item -> SearchNormalizer.normalize(item.getName()));
+        // Valores numéricos ya interpretados al sincronizar; "unknown" queda en null y va al final
+        keys.put("length", Starship::getLengthValue);
+        keys.put("cost", Starship::getCostInCreditsValue);
+        keys.put("crew", Starship::getCrewValue);
+        KEYS = Collections.unmodifiableMap(keys);
+    }
+
+    private final StarshipRepository starshipRepository;
+
+    public StarshipSortIndex(StarshipRepository starshipRepository) {
+        this.starshipRepository = starshipRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "starships";
+    }
+
+    @Override
+    protected void load(Consumer<Starship> consumer) {
+        starshipRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Starship item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected Map<String, Function<Starship, Comparable<?>>> keys() {
+        return KEYS;
+    }
+}
@@ -0,0 +1,57 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.domain.model.Vehicle;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Orden de vehículos por nombre, largo, costo y tripulación.
+ */
+@Component
+public class VehicleSortIndex extends CatalogSortIndex<Vehicle> {
+
+    private static final Map<String, Function<Vehicle, Comparable<?>>> KEYS;
+
+    static {
+        Map<String, Function<Vehicle, Comparable<?>>> keys = new LinkedHashMap<>();
+        keys.put("name", item -> SearchNormalizer.normalize(item.getName()));
+        // Valores numéricos ya interpretados al sincronizar; "unknown" queda en null y va al final
+        keys.put("length", Vehicle::getLengthValue);
+        keys.put("cost", Vehicle::getCostInCreditsValue);
+        keys.put("crew", Vehicle::getCrewValue);
+        KEYS = Collections.unmodifiableMap(keys);
+    }
+
+    private final VehicleRepository vehicleRepository;
+
+    public VehicleSortIndex(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Override
+    protected String resource() {
+        return "vehicles";
+    }
+
+    @Override
+    protected void load(Consumer<Vehicle> consumer) {
+        vehicleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Vehicle item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected Map<String, Function<Vehicle, Comparable<?>>> keys() {
+        return KEYS;
+    }
+}
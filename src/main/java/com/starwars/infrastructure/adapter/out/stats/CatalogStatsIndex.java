@@ -0,0 +1,116 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.application.service.CatalogSyncedEvent;
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+import com.starwars.domain.port.out.StatsIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Estadísticas de un recurso del catálogo local. Se calculan al arrancar y tras cada sincronización
+ * se actualizan restando y sumando solo los elementos que cambiaron; las consultas responden desde
+ * los agregados, sin recorrer el catálogo.
+ */
+@Slf4j
+public abstract class CatalogStatsIndex<T> implements StatsIndex {
+
+    private final int maxTop;
+
+    // Null hasta el primer cálculo
+    private volatile RunningAggregates aggregates;
+
+    protected CatalogStatsIndex(int maxTop) {
+        this.maxTop = maxTop;
+    }
+
+    // Recorre el catálogo local entregando cada elemento
+    protected abstract void load(Consumer<T> consumer);
+
+    protected abstract String uid(T item);
+
+    protected abstract String name(T item);
+
+    // Campo -> valor numérico del elemento (null si es desconocido), en el orden en que se documentan
+    protected abstract Map<String, Function<T, Double>> values();
+
+    // Atributo -> grupo del elemento (null si no tiene)
+    protected abstract Map<String, Function<T, String>> groups();
+
+    @Override
+    public Set<String> fields() {
+        return values().keySet();
+    }
+
+    @Override
+    public Set<String> groupings() {
+        return groups().keySet();
+    }
+
+    @Override
+    public int maxTop() {
+        return maxTop;
+    }
+
+    @Override
+    public List<RankedValue> top(String field, int k, boolean ascending) {
+        RunningAggregates current = aggregates;
+        return current == null ? List.of() : current.top(field, k, ascending);
+    }
+
+    @Override
+    public List<GroupStats> aggregate(String groupBy, String field) {
+        RunningAggregates current = aggregates;
+        return current == null ? List.of() : current.aggregate(groupBy, field);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onCatalogSynced(CatalogSyncedEvent event) {
+        if (event.includes(resource())) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            List<RunningAggregates.Row> rows = new ArrayList<>();
+            load(item -> rows.add(row(item)));
+            // Se carga todo antes de tocar los agregados: si la carga falla quedan los anteriores
+            RunningAggregates current = aggregates;
+            boolean first = current == null;
+            if (first) {
+                current = new RunningAggregates(fields(), groupings(), maxTop);
+            }
+            int changed = current.apply(rows);
+            aggregates = current;
+            log.info("{} {} stats: {} items, {} changed in {} ms", first ? "Built" : "Updated",
+                    resource(), current.size(), changed, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Se siguen sirviendo los agregados anteriores
+            log.warn("Could not rebuild {} stats: {}", resource(), e.getMessage());
+        }
+    }
+
+    private RunningAggregates.Row row(T item) {
+        Map<String, String> groupValues = new HashMap<>();
+        groups().forEach((grouping, group) -> groupValues.put(grouping, group.apply(item)));
+        Map<String, Double> fieldValues = new HashMap<>();
+        values().forEach((field, value) -> fieldValues.put(field, value.apply(item)));
+        return new RunningAggregates.Row(uid(item), name(item), groupValues, fieldValues);
+    }
+}
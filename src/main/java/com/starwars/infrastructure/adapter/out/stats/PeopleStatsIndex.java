@@ -0,0 +1,75 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.domain.model.People;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.infrastructure.adapter.out.client.SpecParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Estadísticas de personajes por género, color de ojos y de pelo: altura (cm) y masa (kg).
+ */
+@Component
+public class PeopleStatsIndex extends CatalogStatsIndex<People> {
+
+    private static final Map<String, Function<People, Double>> VALUES;
+    private static final Map<String, Function<People, String>> GROUPS;
+
+    static {
+        Map<String, Function<People, Double>> values = new LinkedHashMap<>();
+        // Llegan como texto ("1,358", "unknown"): se interpretan igual que las especificaciones de naves
+        values.put("height", item -> SpecParser.parseDouble(item.getHeight()));
+        values.put("mass", item -> SpecParser.parseDouble(item.getMass()));
+        VALUES = Collections.unmodifiableMap(values);
+
+        Map<String, Function<People, String>> groups = new LinkedHashMap<>();
+        groups.put("gender", People::getGender);
+        groups.put("eyeColor", People::getEyeColor);
+        groups.put("hairColor", People::getHairColor);
+        GROUPS = Collections.unmodifiableMap(groups);
+    }
+
+    private final PeopleRepository peopleRepository;
+
+    public PeopleStatsIndex(PeopleRepository peopleRepository,
+                            @Value("${stats.top-k.capacity:100}") int maxTop) {
+        super(maxTop);
+        this.peopleRepository = peopleRepository;
+    }
+
+    @Override
+    public String resource() {
+        return "people";
+    }
+
+    @Override
+    protected void load(Consumer<People> consumer) {
+        peopleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(People item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(People item) {
+        return item.getName();
+    }
+
+    @Override
+    protected Map<String, Function<People, Double>> values() {
+        return VALUES;
+    }
+
+    @Override
+    protected Map<String, Function<People, String>> groups() {
+        return GROUPS;
+    }
+}
@@ -0,0 +1,306 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.RankedValue;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Agregados de un recurso mantenidos de forma incremental: por grupo y campo, conteo y suma corridos
+ * y un multiconjunto ordenado de valores para el mínimo y el máximo; por campo, los {@code capacity}
+ * mayores y menores valores en un conjunto acotado.
+ * <p>
+ * {@link #apply} compara el catálogo nuevo con el anterior por uid y solo resta y suma los elementos
+ * que cambiaron. Las consultas leen los agregados ya calculados, sin recorrer el catálogo. Un ranking
+ * se vuelve a llenar recorriendo los elementos solo cuando las bajas lo dejan con menos de
+ * {@code capacity} entradas habiendo más elementos con valor.
+ */
+final class RunningAggregates {
+
+    /**
+     * Lo que aporta un elemento: grupo al que pertenece por atributo (null si no tiene) y valor de
+     * cada campo (null si es desconocido).
+     */
+    record Row(String uid, String name, Map<String, String> groups, Map<String, Double> values) {
+    }
+
+    private record Ranked(String uid, String name, double value) {
+    }
+
+    private static final Comparator<Ranked> ASCENDING = Comparator.comparingDouble(Ranked::value)
+            .thenComparing(Ranked::uid);
+    private static final Comparator<Ranked> DESCENDING = Comparator.comparingDouble(Ranked::value).reversed()
+            .thenComparing(Ranked::uid);
+
+    private final Set<String> fields;
+    private final Set<String> groupings;
+    private final int capacity;
+
+    private final Map<String, Row> rows = new HashMap<>();
+    private final Group total = new Group(null);
+    // atributo -> valor normalizado -> grupo
+    private final Map<String, Map<String, Group>> groups = new HashMap<>();
+    private final Map<String, TopK> largest = new HashMap<>();
+    private final Map<String, TopK> smallest = new HashMap<>();
+
+    RunningAggregates(Set<String> fields, Set<String> groupings, int capacity) {
+        this.fields = fields;
+        this.groupings = groupings;
+        this.capacity = capacity;
+        for (String field : fields) {
+            largest.put(field, new TopK(DESCENDING, capacity));
+            smallest.put(field, new TopK(ASCENDING, capacity));
+        }
+        for (String grouping : groupings) {
+            groups.put(grouping, new HashMap<>());
+        }
+    }
+
+    /**
+     * Deja los agregados como si se hubieran calculado desde cero sobre {@code current}.
+     *
+     * @return cuántos elementos se agregaron, modificaron o quitaron
+     */
+    synchronized int apply(List<Row> current) {
+        Map<String, Row> incoming = new LinkedHashMap<>();
+        for (Row row : current) {
+            if (row.uid() != null) {
+                incoming.put(row.uid(), row);
+            }
+        }
+
+        int changed = 0;
+        for (Iterator<Row> it = rows.values().iterator(); it.hasNext(); ) {
+            Row previous = it.next();
+            Row updated = incoming.get(previous.uid());
+            if (!previous.equals(updated)) {
+                subtract(previous);
+                it.remove();
+                if (updated == null) {
+                    changed++;
+                }
+            }
+        }
+        for (Row row : incoming.values()) {
+            if (!rows.containsKey(row.uid())) {
+                add(row);
+                rows.put(row.uid(), row);
+                changed++;
+            }
+        }
+
+        for (String field : fields) {
+            refillIfNeeded(field, largest.get(field));
+            refillIfNeeded(field, smallest.get(field));
+        }
+        return changed;
+    }
+
+    synchronized int size() {
+        return rows.size();
+    }
+
+    synchronized List<RankedValue> top(String field, int k, boolean ascending) {
+        TopK top = (ascending ? smallest : largest).get(field);
+        if (top == null) {
+            throw new IllegalArgumentException("Campo desconocido: " + field);
+        }
+        return top.entries.stream()
+                .limit(Math.min(k, capacity))
+                .map(ranked -> RankedValue.builder().uid(ranked.uid()).name(ranked.name()).value(ranked.value()).build())
+                .toList();
+    }
+
+    synchronized List<GroupStats> aggregate(String groupBy, String field) {
+        if (field != null && !fields.contains(field)) {
+            throw new IllegalArgumentException("Campo desconocido: " + field);
+        }
+        if (groupBy == null) {
+            return List.of(total.toStats(field));
+        }
+        Map<String, Group> byValue = groups.get(groupBy);
+        if (byValue == null) {
+            throw new IllegalArgumentException("Atributo desconocido: " + groupBy);
+        }
+        return byValue.values().stream()
+                .sorted(Comparator.comparingLong((Group group) -> group.count).reversed()
+                        .thenComparing(group -> group.label))
+                .map(group -> group.toStats(field))
+                .toList();
+    }
+
+    private void add(Row row) {
+        total.add(row);
+        for (String grouping : groupings) {
+            String value = row.groups().get(grouping);
+            if (value != null && !value.isBlank()) {
+                groups.get(grouping).computeIfAbsent(key(value), k -> new Group(value.trim())).add(row);
+            }
+        }
+        for (String field : fields) {
+            Double value = row.values().get(field);
+            if (value != null) {
+                Ranked ranked = new Ranked(row.uid(), row.name(), value);
+                largest.get(field).add(ranked);
+                smallest.get(field).add(ranked);
+            }
+        }
+    }
+
+    private void subtract(Row row) {
+        total.subtract(row);
+        for (String grouping : groupings) {
+            String value = row.groups().get(grouping);
+            if (value != null && !value.isBlank()) {
+                Map<String, Group> byValue = groups.get(grouping);
+                Group group = byValue.get(key(value));
+                group.subtract(row);
+                // Los grupos vacíos desaparecen, como si nunca hubieran existido
+                if (group.count == 0) {
+                    byValue.remove(key(value));
+                }
+            }
+        }
+        for (String field : fields) {
+            Double value = row.values().get(field);
+            if (value != null) {
+                Ranked ranked = new Ranked(row.uid(), row.name(), value);
+                largest.get(field).remove(ranked);
+                smallest.get(field).remove(ranked);
+            }
+        }
+    }
+
+    private void refillIfNeeded(String field, TopK top) {
+        if (top.entries.size() < Math.min(capacity, top.valued)) {
+            top.entries.clear();
+            for (Row row : rows.values()) {
+                Double value = row.values().get(field);
+                if (value != null) {
+                    top.entries.add(new Ranked(row.uid(), row.name(), value));
+                    if (top.entries.size() > capacity) {
+                        top.entries.pollLast();
+                    }
+                }
+            }
+        }
+    }
+
+    // Misma normalización que las facetas: "Starfighter" y "starfighter " son un solo grupo
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private final class Group {
+        private final String label;
+        private long count;
+        private final Map<String, Summary> summaries = new HashMap<>();
+
+        private Group(String label) {
+            this.label = label;
+        }
+
+        private void add(Row row) {
+            count++;
+            row.values().forEach((field, value) -> {
+                if (value != null && fields.contains(field)) {
+                    summaries.computeIfAbsent(field, f -> new Summary()).add(value);
+                }
+            });
+        }
+
+        private void subtract(Row row) {
+            count--;
+            row.values().forEach((field, value) -> {
+                if (value != null && fields.contains(field)) {
+                    summaries.get(field).subtract(value);
+                }
+            });
+        }
+
+        private GroupStats toStats(String field) {
+            GroupStats.GroupStatsBuilder stats = GroupStats.builder().group(label).count(count);
+            if (field == null) {
+                return stats.build();
+            }
+            Summary summary = summaries.get(field);
+            if (summary == null || summary.count == 0) {
+                return stats.field(field).valueCount(0L).build();
+            }
+            return stats.field(field)
+                    .valueCount(summary.count)
+                    .sum(summary.sum)
+                    .average(summary.sum / summary.count)
+                    .min(summary.values.firstKey())
+                    .max(summary.values.lastKey())
+                    .build();
+        }
+    }
+
+    /**
+     * Conteo y suma corridos de un campo; el mínimo y el máximo salen de un multiconjunto ordenado
+     * (valor -> repeticiones) para poder restar un valor sin recalcular.
+     */
+    private static final class Summary {
+        private long count;
+        private double sum;
+        private final TreeMap<Double, Integer> values = new TreeMap<>();
+
+        private void add(double value) {
+            count++;
+            sum += value;
+            values.merge(value, 1, Integer::sum);
+        }
+
+        private void subtract(double value) {
+            count--;
+            // Sin elementos la suma vuelve a cero exacto, sin arrastrar el redondeo de las restas
+            sum = count == 0 ? 0 : sum - value;
+            values.computeIfPresent(value, (v, repetitions) -> repetitions == 1 ? null : repetitions - 1);
+        }
+    }
+
+    /**
+     * Los {@code capacity} mejores según {@code order}. Se mantiene la invariante de que {@code entries}
+     * son los primeros {@code entries.size()} de todos los elementos con valor: un elemento nuevo solo
+     * entra si el conjunto los tiene a todos o si supera al último.
+     */
+    private static final class TopK {
+        private final TreeSet<Ranked> entries;
+        private final int capacity;
+        // Elementos con valor en el campo, estén o no en el conjunto
+        private long valued;
+
+        private TopK(Comparator<Ranked> order, int capacity) {
+            this.entries = new TreeSet<>(order);
+            this.capacity = capacity;
+        }
+
+        private void add(Ranked ranked) {
+            boolean complete = entries.size() == valued;
+            valued++;
+            if (complete && entries.size() < capacity) {
+                entries.add(ranked);
+            } else if (!entries.isEmpty() && entries.comparator().compare(ranked, entries.last()) < 0) {
+                entries.add(ranked);
+                if (entries.size() > capacity) {
+                    entries.pollLast();
+                }
+            }
+        }
+
+        private void remove(Ranked ranked) {
+            valued--;
+            entries.remove(ranked);
+        }
+    }
+}
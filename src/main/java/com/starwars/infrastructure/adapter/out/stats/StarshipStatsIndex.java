@@ -0,0 +1,75 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.StarshipRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Estadísticas de naves por clase: largo, costo, tripulación, pasajeros y capacidad de carga.
+ */
+@Component
+public class StarshipStatsIndex extends CatalogStatsIndex<Starship> {
+
+    private static final Map<String, Function<Starship, Double>> VALUES;
+    private static final Map<String, Function<Starship, String>> GROUPS = Map.of("starshipClass", Starship::getStarshipClass);
+
+    static {
+        Map<String, Function<Starship, Double>> values = new LinkedHashMap<>();
+        // Valores numéricos ya interpretados al sincronizar; "unknown" queda en null y no cuenta
+        values.put("length", Starship::getLengthValue);
+        values.put("cost", item -> toDouble(item.getCostInCreditsValue()));
+        values.put("crew", item -> toDouble(item.getCrewValue()));
+        values.put("passengers", item -> toDouble(item.getPassengersValue()));
+        values.put("cargoCapacity", item -> toDouble(item.getCargoCapacityValue()));
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
+    private final StarshipRepository starshipRepository;
+
+    public StarshipStatsIndex(StarshipRepository starshipRepository,
+                              @Value("${stats.top-k.capacity:100}") int maxTop) {
+        super(maxTop);
+        this.starshipRepository = starshipRepository;
+    }
+
+    @Override
+    public String resource() {
+        return "starships";
+    }
+
+    @Override
+    protected void load(Consumer<Starship> consumer) {
+        starshipRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Starship item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(Starship item) {
+        return item.getName();
+    }
+
+    @Override
+    protected Map<String, Function<Starship, Double>> values() {
+        return VALUES;
+    }
+
+    @Override
+    protected Map<String, Function<Starship, String>> groups() {
+        return GROUPS;
+    }
+
+    private static Double toDouble(Long value) {
+        return value == null ? null : value.doubleValue();
+    }
+}
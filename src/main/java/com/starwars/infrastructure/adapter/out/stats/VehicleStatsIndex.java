@@ -0,0 +1,75 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.domain.model.Vehicle;
+import com.starwars.domain.port.out.VehicleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Estadísticas de vehículos por clase: largo, costo, tripulación, pasajeros y capacidad de carga.
+ */
+@Component
+public class VehicleStatsIndex extends CatalogStatsIndex<Vehicle> {
+
+    private static final Map<String, Function<Vehicle, Double>> VALUES;
+    private static final Map<String, Function<Vehicle, String>> GROUPS = Map.of("vehicleClass", Vehicle::getVehicleClass);
+
+    static {
+        Map<String, Function<Vehicle, Double>> values = new LinkedHashMap<>();
+        // Valores numéricos ya interpretados al sincronizar; "unknown" queda en null y no cuenta
+        values.put("length", Vehicle::getLengthValue);
+        values.put("cost", item -> toDouble(item.getCostInCreditsValue()));
+        values.put("crew", item -> toDouble(item.getCrewValue()));
+        values.put("passengers", item -> toDouble(item.getPassengersValue()));
+        values.put("cargoCapacity", item -> toDouble(item.getCargoCapacityValue()));
+        VALUES = Collections.unmodifiableMap(values);
+    }
+
+    private final VehicleRepository vehicleRepository;
+
+    public VehicleStatsIndex(VehicleRepository vehicleRepository,
+                             @Value("${stats.top-k.capacity:100}") int maxTop) {
+        super(maxTop);
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    @Override
+    public String resource() {
+        return "vehicles";
+    }
+
+    @Override
+    protected void load(Consumer<Vehicle> consumer) {
+        vehicleRepository.exportAll(consumer);
+    }
+
+    @Override
+    protected String uid(Vehicle item) {
+        return item.getUid();
+    }
+
+    @Override
+    protected String name(Vehicle item) {
+        return item.getName();
+    }
+
+    @Override
+    protected Map<String, Function<Vehicle, Double>> values() {
+        return VALUES;
+    }
+
+    @Override
+    protected Map<String, Function<Vehicle, String>> groups() {
+        return GROUPS;
+    }
+
+    private static Double toDouble(Long value) {
+        return value == null ? null : value.doubleValue();
+    }
+}
@@ -0,0 +1,36 @@
+package com.starwars.infrastructure.config;
+
+import com.starwars.application.service.CatalogSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lanza periódicamente la sincronización del catálogo local con SWAPI.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSyncScheduler {
+
+    private final CatalogSyncService catalogSyncService;
+
+    @Value("${swapi.sync.enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(initialDelayString = "${swapi.sync.initial-delay:10000}",
+            fixedDelayString = "${swapi.sync.interval:3600000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            catalogSyncService.syncAll();
+        } catch (RuntimeException e) {
+            // Lo ya guardado queda; se reintenta en la próxima ejecución
+            log.warn("Catalog sync failed: {}", e.getMessage());
+        }
+    }
+}
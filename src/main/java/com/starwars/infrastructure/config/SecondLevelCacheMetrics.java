@@ -0,0 +1,75 @@
+package com.starwars.infrastructure.config;
+
+import com.starwars.infrastructure.adapter.out.persistence.entity.FilmEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.PeopleEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.StarshipEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.VehicleEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publica en Micrometer los aciertos y fallos de la caché de segundo nivel de Hibernate,
+ * por región del catálogo y para la caché de consultas:
+ * <p>
+ * - {@code catalog.cache.requests{region, result=hit|miss}}: contadores acumulados
+ * - {@code catalog.cache.hit.ratio{region}}: aciertos / (aciertos + fallos) desde el arranque
+ * <p>
+ * Los valores salen de las estadísticas de Hibernate ({@code hibernate.generate_statistics}).
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    static final String QUERY_REGION = "query";
+    private static final List<String> ENTITY_REGIONS = List.of(
+            FilmEntity.CACHE_REGION, PeopleEntity.CACHE_REGION, StarshipEntity.CACHE_REGION, VehicleEntity.CACHE_REGION);
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : ENTITY_REGIONS) {
+            register(meterRegistry, region,
+                    stats -> regionCount(stats, region, CacheRegionStatistics::getHitCount),
+                    stats -> regionCount(stats, region, CacheRegionStatistics::getMissCount),
+                    statistics);
+        }
+        register(meterRegistry, QUERY_REGION,
+                Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount, statistics);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String region, ToLongFunction<Statistics> hits,
+                                 ToLongFunction<Statistics> misses, Statistics statistics) {
+        FunctionCounter.builder("catalog.cache.requests", statistics, stats -> hits.applyAsLong(stats))
+                .tags("region", region, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.requests", statistics, stats -> misses.applyAsLong(stats))
+                .tags("region", region, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.hit.ratio", statistics, stats -> hitRatio(hits.applyAsLong(stats), misses.applyAsLong(stats)))
+                .description("Proporción de aciertos de la caché de segundo nivel de Hibernate")
+                .tag("region", region)
+                .register(meterRegistry);
+    }
+
+    // Con la caché de segundo nivel desactivada la región no existe y Hibernate lanza IllegalArgumentException
+    private static long regionCount(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        try {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    static double hitRatio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
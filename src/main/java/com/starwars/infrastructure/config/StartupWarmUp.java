@@ -0,0 +1,199 @@
+package com.starwars.infrastructure.config;
+
+import com.starwars.domain.model.User;
+import com.starwars.domain.port.in.FilmUseCase;
+import com.starwars.domain.port.in.PeopleUseCase;
+import com.starwars.domain.port.in.StarshipUseCase;
+import com.starwars.domain.port.in.VehicleUseCase;
+import com.starwars.domain.port.out.UserRepository;
+import com.starwars.infrastructure.adapter.in.security.JwtTokenProvider;
+import com.starwars.infrastructure.adapter.out.client.cache.HotKeyLog;
+import com.starwars.infrastructure.adapter.out.client.cache.SwapiResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fase de calentamiento al arrancar la aplicación.
+ * <p>
+ * 1. Precarga en la caché las primeras páginas de cada recurso, la lista completa de films
+ *    y los uids más pedidos según el {@link HotKeyLog} del arranque anterior.
+ * 2. Si todo quedó en caché, envía varias veces peticiones HTTP sintéticas al puerto local para que
+ *    el JIT compile los caminos calientes antes del tráfico real: filtro JWT, resolución de argumentos,
+ *    controladores, advices y conversores. Se autentican con un token de la cuenta
+ *    {@value #WARM_UP_USERNAME}, que se crea la primera vez con una contraseña aleatoria.
+ * <p>
+ * Spring Boot solo publica la aplicación como lista (readiness) cuando terminan los ApplicationRunner,
+ * así que el tráfico llega cuando el calentamiento terminó o se agotó su tiempo.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmUp implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 10;
+    // Claves que recorre el calentamiento del JIT; si falta alguna, esas peticiones irían a SWAPI
+    private static final List<String> WARM_KEYS = List.of(
+            "films:all", "people:page:1:" + PAGE_SIZE, "starships:page:1:" + PAGE_SIZE, "vehicles:page:1:" + PAGE_SIZE);
+    // Peticiones del calentamiento del JIT; leen lo mismo que precargan WARM_KEYS
+    private static final List<String> WARM_URLS = List.of(
+            "/api/v1/films?page=1&size=" + PAGE_SIZE,
+            "/api/v1/people?page=0&size=" + PAGE_SIZE,
+            "/api/v1/starships?page=1&size=" + PAGE_SIZE,
+            "/api/v1/vehicles?page=1&size=" + PAGE_SIZE);
+    private static final String WARM_UP_USERNAME = "startup-warmup";
+
+    private final ApplicationContext applicationContext;
+    private final HotKeyLog hotKeyLog;
+    private final SwapiResponseCache cache;
+    private final FilmUseCase filmUseCase;
+    private final PeopleUseCase peopleUseCase;
+    private final StarshipUseCase starshipUseCase;
+    private final VehicleUseCase vehicleUseCase;
+    private final Environment environment;
+    private final RestTemplate restTemplate;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider tokenProvider;
+
+    @Value("${swapi.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${swapi.warmup.pages:3}")
+    private int pages;
+
+    @Value("${swapi.warmup.timeout:30000}")
+    private long timeout;
+
+    @Value("${swapi.warmup.jit-iterations:200}")
+    private int jitIterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.currentTimeMillis();
+
+        boolean complete = preloadCache();
+        log.info("Cache warm-up {} in {} ms", complete ? "finished" : "timed out or failed",
+                System.currentTimeMillis() - start);
+
+        // Con la caché incompleta las peticiones sintéticas irían a SWAPI, así que se omiten
+        // Sin servidor web (tests con MockMvc) no hay puerto al que enviar las peticiones
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (complete && jitIterations > 0 && port != null) {
+            long jitStart = System.currentTimeMillis();
+            sendSyntheticRequests(port);
+            log.info("JIT warm-up of request hot paths finished in {} ms", System.currentTimeMillis() - jitStart);
+        }
+    }
+
+    private boolean preloadCache() {
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> filmUseCase.findAll(PageRequest.of(0, PAGE_SIZE)));
+        for (int page = 0; page < pages; page++) {
+            PageRequest pageable = PageRequest.of(page, PAGE_SIZE);
+            tasks.add(() -> peopleUseCase.findAll(pageable));
+            tasks.add(() -> starshipUseCase.findAll(pageable));
+            tasks.add(() -> vehicleUseCase.findAll(pageable));
+        }
+        for (String key : hotKeyLog.load()) {
+            Runnable task = hotKeyTask(key);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<?>[] futures = tasks.stream()
+                    .map(task -> CompletableFuture.runAsync(task, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).get(timeout, TimeUnit.MILLISECONDS);
+            return WARM_KEYS.stream().allMatch(key -> cache.peek(key).isPresent());
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Cache warm-up incomplete: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            // No se espera a las cargas pendientes: si se agotó el tiempo la aplicación arranca igual
+            executor.shutdownNow();
+        }
+    }
+
+    // Solo las búsquedas por id se pueden repetir a partir de la clave ("starships:id:9")
+    private Runnable hotKeyTask(String key) {
+        String[] parts = key.split(":", 3);
+        if (parts.length != 3 || !"id".equals(parts[1])) {
+            return null;
+        }
+        String uid = parts[2];
+        return switch (parts[0]) {
+            case "films" -> () -> filmUseCase.findByUid(uid);
+            case "people" -> () -> peopleUseCase.findByUid(uid);
+            case "starships" -> () -> starshipUseCase.findByUid(uid);
+            case "vehicles" -> () -> vehicleUseCase.findByUid(uid);
+            default -> null;
+        };
+    }
+
+    private void sendSyntheticRequests(int port) {
+        try {
+            String baseUrl = "http://localhost:" + port + environment.getProperty("server.servlet.context-path", "");
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(tokenProvider.generateToken(warmUpUser().getUsername()));
+            HttpEntity<Void> request = new HttpEntity<>(headers);
+            for (int i = 0; i < jitIterations; i++) {
+                for (String url : WARM_URLS) {
+                    restTemplate.exchange(baseUrl + url, HttpMethod.GET, request, byte[].class);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("JIT warm-up stopped: {}", e.getMessage());
+        }
+    }
+
+    // Cuenta propia del calentamiento: nadie conoce su contraseña, solo se usa con el token generado aquí
+    private User warmUpUser() {
+        return userRepository.findByUsername(WARM_UP_USERNAME).orElseGet(() -> {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            return userRepository.save(User.builder()
+                    .username(WARM_UP_USERNAME)
+                    .password(passwordEncoder.encode(Base64.getEncoder().encodeToString(secret)))
+                    .email(WARM_UP_USERNAME + "@localhost")
+                    .createdAt(LocalDateTime.now())
+                    .enabled(true)
+                    .build());
+        });
+    }
+}
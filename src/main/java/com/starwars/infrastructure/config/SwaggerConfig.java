@@ -1,10 +1,15 @@
 package com.starwars.infrastructure.config;
 
+import com.starwars.application.mapper.FieldSelection;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -14,6 +19,11 @@ import java.util.List;
 
 @Configuration
 public class SwaggerConfig {
+
+    // Los controladores reciben 'fields' ya interpretado; se documenta como texto en fieldSelectionParameter
+    static {
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(FieldSelection.class);
+    }
     
     private final Environment environment;
     
@@ -50,6 +60,25 @@ public class SwaggerConfig {
         
         return openAPI;
     }
+
+    /**
+     * Documenta {@code fields} en todos los GET de films, people, starships y vehicles sin repetir
+     * el parámetro en cada método de los controladores.
+     */
+    @Bean
+    public OpenApiCustomizer fieldSelectionParameter() {
+        return openAPI -> openAPI.getPaths().forEach((path, item) -> {
+            if (item.getGet() != null && path.matches("/api/v1/(films|people|starships|vehicles)(/.*)?")
+                    && !path.endsWith("/export")) {
+                item.getGet().addParametersItem(new Parameter()
+                        .in("query")
+                        .name(FieldSelection.PARAMETER)
+                        .required(false)
+                        .description("Comma-separated fields to return (uid is always included), e.g. title,director")
+                        .schema(new StringSchema()));
+            }
+        });
+    }
 }
 
 
@@ -1,9 +1,23 @@
 package com.starwars.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.starwars.application.mapper.FieldSelection;
+import com.starwars.infrastructure.adapter.in.rest.FieldSelectionArgumentResolver;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     
@@ -16,5 +30,31 @@ public class WebConfig implements WebMvcConfigurer {
                 .exposedHeaders("*")
                 .maxAge(3600);
     }
-}
 
+    // 'fields' llega a los controladores como FieldSelection, interpretado una vez por petición
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new FieldSelectionArgumentResolver());
+    }
+
+    // Los DTOs con @JsonFilter se escriben completos salvo que la petición traiga 'fields'
+    // (ver FieldSelectionResponseAdvice)
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionDefaultFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Con Accept: application/cbor o application/x-jackson-smile se responde en binario con la misma
+    // configuración de Jackson que el JSON (fechas, filtro de 'fields'); sin Accept sigue siendo JSON.
+    // Reemplazan a los conversores por defecto de Spring MVC, que usan un ObjectMapper sin esa configuración.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,162 @@
+-- Esquema inicial: usuarios, catálogo (films, people, starships, vehicles) y sus relaciones.
+-- SQL común a H2 y PostgreSQL; lo específico de cada motor va en db/migration/{vendor}.
+
+-- Ids del catálogo por secuencia con saltos de 50 (allocationSize de las entidades) para los inserts batch
+CREATE SEQUENCE films_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE people_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE starships_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE vehicles_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    created_at TIMESTAMP(6) NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE films (
+    id BIGINT NOT NULL,
+    uid VARCHAR(255) NOT NULL UNIQUE,
+    title VARCHAR(255) NOT NULL,
+    episode_id INTEGER,
+    opening_crawl VARCHAR(5000),
+    director VARCHAR(255),
+    producer VARCHAR(255),
+    release_date DATE,
+    url VARCHAR(255),
+    search_title VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE people (
+    id BIGINT NOT NULL,
+    uid VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    height VARCHAR(255),
+    mass VARCHAR(255),
+    hair_color VARCHAR(255),
+    skin_color VARCHAR(255),
+    eye_color VARCHAR(255),
+    birth_year VARCHAR(255),
+    gender VARCHAR(255),
+    homeworld VARCHAR(255),
+    url VARCHAR(255),
+    search_name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE starships (
+    id BIGINT NOT NULL,
+    uid VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    model VARCHAR(255),
+    manufacturer VARCHAR(255),
+    cost_in_credits VARCHAR(255),
+    length VARCHAR(255),
+    crew VARCHAR(255),
+    passengers VARCHAR(255),
+    cargo_capacity VARCHAR(255),
+    starship_class VARCHAR(255),
+    url VARCHAR(255),
+    cost_in_credits_value BIGINT,
+    length_value DOUBLE PRECISION,
+    crew_value BIGINT,
+    passengers_value BIGINT,
+    cargo_capacity_value BIGINT,
+    search_name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE vehicles (
+    id BIGINT NOT NULL,
+    uid VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    model VARCHAR(255),
+    manufacturer VARCHAR(255),
+    cost_in_credits VARCHAR(255),
+    length VARCHAR(255),
+    crew VARCHAR(255),
+    passengers VARCHAR(255),
+    cargo_capacity VARCHAR(255),
+    vehicle_class VARCHAR(255),
+    url VARCHAR(255),
+    cost_in_credits_value BIGINT,
+    length_value DOUBLE PRECISION,
+    crew_value BIGINT,
+    passengers_value BIGINT,
+    cargo_capacity_value BIGINT,
+    search_name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+-- Relaciones: la clave primaria cubre las búsquedas por el dueño; el índice extra, las inversas
+CREATE TABLE film_characters (
+    film_id BIGINT NOT NULL,
+    people_id BIGINT NOT NULL,
+    PRIMARY KEY (film_id, people_id),
+    CONSTRAINT fk_film_characters_film FOREIGN KEY (film_id) REFERENCES films (id),
+    CONSTRAINT fk_film_characters_people FOREIGN KEY (people_id) REFERENCES people (id)
+);
+
+CREATE TABLE film_starships (
+    film_id BIGINT NOT NULL,
+    starship_id BIGINT NOT NULL,
+    PRIMARY KEY (film_id, starship_id),
+    CONSTRAINT fk_film_starships_film FOREIGN KEY (film_id) REFERENCES films (id),
+    CONSTRAINT fk_film_starships_starship FOREIGN KEY (starship_id) REFERENCES starships (id)
+);
+
+CREATE TABLE film_vehicles (
+    film_id BIGINT NOT NULL,
+    vehicle_id BIGINT NOT NULL,
+    PRIMARY KEY (film_id, vehicle_id),
+    CONSTRAINT fk_film_vehicles_film FOREIGN KEY (film_id) REFERENCES films (id),
+    CONSTRAINT fk_film_vehicles_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles (id)
+);
+
+CREATE TABLE person_starships (
+    people_id BIGINT NOT NULL,
+    starship_id BIGINT NOT NULL,
+    PRIMARY KEY (people_id, starship_id),
+    CONSTRAINT fk_person_starships_people FOREIGN KEY (people_id) REFERENCES people (id),
+    CONSTRAINT fk_person_starships_starship FOREIGN KEY (starship_id) REFERENCES starships (id)
+);
+
+CREATE TABLE person_vehicles (
+    people_id BIGINT NOT NULL,
+    vehicle_id BIGINT NOT NULL,
+    PRIMARY KEY (people_id, vehicle_id),
+    CONSTRAINT fk_person_vehicles_people FOREIGN KEY (people_id) REFERENCES people (id),
+    CONSTRAINT fk_person_vehicles_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles (id)
+);
+
+CREATE INDEX idx_film_characters_people_id ON film_characters (people_id);
+CREATE INDEX idx_film_starships_starship_id ON film_starships (starship_id);
+CREATE INDEX idx_film_vehicles_vehicle_id ON film_vehicles (vehicle_id);
+CREATE INDEX idx_person_starships_starship_id ON person_starships (starship_id);
+CREATE INDEX idx_person_vehicles_vehicle_id ON person_vehicles (vehicle_id);
+
+-- Búsquedas por texto normalizado (SearchNormalizer); en H2 también resuelven LIKE 'abc%'
+CREATE INDEX idx_films_search_title ON films (search_title);
+CREATE INDEX idx_people_search_name ON people (search_name);
+CREATE INDEX idx_starships_search_name ON starships (search_name);
+CREATE INDEX idx_vehicles_search_name ON vehicles (search_name);
+
+-- Paginación keyset ordenada por (name, id)
+CREATE INDEX idx_starships_name_id ON starships (name, id);
+CREATE INDEX idx_vehicles_name_id ON vehicles (name, id);
+
+-- Filtros por rango sobre las especificaciones numéricas
+CREATE INDEX idx_starships_cost ON starships (cost_in_credits_value);
+CREATE INDEX idx_starships_length ON starships (length_value);
+CREATE INDEX idx_starships_crew ON starships (crew_value);
+CREATE INDEX idx_starships_passengers ON starships (passengers_value);
+CREATE INDEX idx_starships_cargo ON starships (cargo_capacity_value);
+CREATE INDEX idx_vehicles_cost ON vehicles (cost_in_credits_value);
+CREATE INDEX idx_vehicles_length ON vehicles (length_value);
+CREATE INDEX idx_vehicles_crew ON vehicles (crew_value);
+CREATE INDEX idx_vehicles_passengers ON vehicles (passengers_value);
+CREATE INDEX idx_vehicles_cargo ON vehicles (cargo_capacity_value);
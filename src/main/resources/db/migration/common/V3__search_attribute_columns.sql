@@ -0,0 +1,22 @@
+-- Columnas normalizadas (SearchNormalizer) de modelo, fabricante y clase para combinar filtros de texto
+-- de naves y vehículos en una sola consulta, cada uno sobre su índice.
+
+ALTER TABLE starships ADD COLUMN search_model VARCHAR(255);
+ALTER TABLE starships ADD COLUMN search_manufacturer VARCHAR(255);
+ALTER TABLE starships ADD COLUMN search_class VARCHAR(255);
+ALTER TABLE vehicles ADD COLUMN search_model VARCHAR(255);
+ALTER TABLE vehicles ADD COLUMN search_manufacturer VARCHAR(255);
+ALTER TABLE vehicles ADD COLUMN search_class VARCHAR(255);
+
+-- Aproximación en SQL (sin quitar acentos); la próxima sincronización las reescribe normalizadas
+UPDATE starships SET search_model = LOWER(model), search_manufacturer = LOWER(manufacturer),
+    search_class = LOWER(starship_class);
+UPDATE vehicles SET search_model = LOWER(model), search_manufacturer = LOWER(manufacturer),
+    search_class = LOWER(vehicle_class);
+
+CREATE INDEX idx_starships_search_model ON starships (search_model);
+CREATE INDEX idx_starships_search_manufacturer ON starships (search_manufacturer);
+CREATE INDEX idx_starships_search_class ON starships (search_class);
+CREATE INDEX idx_vehicles_search_model ON vehicles (search_model);
+CREATE INDEX idx_vehicles_search_manufacturer ON vehicles (search_manufacturer);
+CREATE INDEX idx_vehicles_search_class ON vehicles (search_class);
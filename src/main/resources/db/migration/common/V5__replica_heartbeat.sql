@@ -0,0 +1,8 @@
+-- Fila de heartbeat para medir el lag de las réplicas de lectura (ReplicaLagMonitor).
+-- beat_at es la hora (epoch ms) en que el primario escribió el último heartbeat; 0 hasta el primero.
+CREATE TABLE replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0);
@@ -0,0 +1,9 @@
+-- search_manufacturer guarda cada fabricante entero entre '|' (SearchNormalizer.toManufacturerKey) para que
+-- /search compare fabricantes con las mismas reglas que las facetas y no por subcadena.
+
+-- Aproximación en SQL (sin quitar acentos ni unir formas societarias como "Inc."); la próxima sincronización
+-- las reescribe con SearchNormalizer
+UPDATE starships SET search_manufacturer = '|' || REPLACE(LOWER(TRIM(manufacturer)), ', ', '|') || '|'
+    WHERE manufacturer IS NOT NULL AND TRIM(manufacturer) <> '';
+UPDATE vehicles SET search_manufacturer = '|' || REPLACE(LOWER(TRIM(manufacturer)), ', ', '|') || '|'
+    WHERE manufacturer IS NOT NULL AND TRIM(manufacturer) <> '';
@@ -0,0 +1,4 @@
+-- H2 no necesita índices de búsqueda adicionales: los B-tree de V1 sobre search_* ya resuelven
+-- LIKE 'abc%' y las búsquedas infijas recorren la tabla. Esta versión existe para que H2 y
+-- PostgreSQL compartan la numeración de migraciones.
+SELECT 1;
@@ -0,0 +1,2 @@
+-- Como en V2: en H2 alcanzan los B-tree de V3. Esta versión mantiene la numeración común con PostgreSQL.
+SELECT 1;
@@ -0,0 +1,28 @@
+-- Índices de búsqueda propios de PostgreSQL sobre las columnas search_*:
+-- - text_pattern_ops para que LIKE 'abc%' use el índice con cualquier collation
+-- - GIN trigram (pg_trgm) para las búsquedas infijas LIKE '%abc%'
+
+CREATE INDEX IF NOT EXISTS idx_films_search_title_prefix ON films (search_title text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_people_search_name_prefix ON people (search_name text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_starships_search_name_prefix ON starships (search_name text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_search_name_prefix ON vehicles (search_name text_pattern_ops);
+
+-- Sin permisos para crear la extensión la migración sigue: las búsquedas infijas recorren la tabla
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION WHEN insufficient_privilege THEN
+    RAISE NOTICE 'pg_trgm no disponible, se omiten los índices trigram';
+END
+$$;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_films_search_title_trgm ON films USING gin (search_title gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_people_search_name_trgm ON people USING gin (search_name gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_starships_search_name_trgm ON starships USING gin (search_name gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_vehicles_search_name_trgm ON vehicles USING gin (search_name gin_trgm_ops);
+    END IF;
+END
+$$;
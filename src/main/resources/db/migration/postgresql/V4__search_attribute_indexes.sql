@@ -0,0 +1,20 @@
+-- Índices de prefijo y trigram de las columnas de V3, igual que V2 para search_name.
+-- Con varios filtros infijos a la vez PostgreSQL combina los índices GIN con un BitmapAnd.
+
+CREATE INDEX IF NOT EXISTS idx_starships_search_model_prefix ON starships (search_model text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_starships_search_manufacturer_prefix ON starships (search_manufacturer text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_starships_search_class_prefix ON starships (search_class text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_search_model_prefix ON vehicles (search_model text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_search_manufacturer_prefix ON vehicles (search_manufacturer text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_search_class_prefix ON vehicles (search_class text_pattern_ops);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_starships_search_model_trgm ON starships USING gin (search_model gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_starships_search_manufacturer_trgm ON starships USING gin (search_manufacturer gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_vehicles_search_model_trgm ON vehicles USING gin (search_model gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_vehicles_search_manufacturer_trgm ON vehicles USING gin (search_manufacturer gin_trgm_ops);
+    END IF;
+END
+$$;
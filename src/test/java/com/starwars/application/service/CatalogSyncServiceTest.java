@@ -0,0 +1,99 @@
+package com.starwars.application.service;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiStarshipDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de la sincronización del catálogo local con SWAPI.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogSyncServiceTest {
+
+    @Mock
+    private SwapiClient swapiClient;
+
+    @Mock
+    private StarshipRepository starshipRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private PeopleRepository peopleRepository;
+
+    @Mock
+    private FilmRepository filmRepository;
+
+    private CatalogSyncService catalogSyncService;
+
+    @BeforeEach
+    void setUp() {
+        catalogSyncService = new CatalogSyncService(swapiClient, new SwapiMapper(), starshipRepository, vehicleRepository,
+                peopleRepository, filmRepository, event -> { });
+    }
+
+    @Test
+    @DisplayName("Debería completar cada nave con su detalle y escribirlas en un único upsert")
+    void testSyncStarships_ShouldUpsertByUid() {
+        // ========== ARRANGE ==========
+        when(swapiClient.fetchAll("starships", SwapiStarshipDTO.class)).thenReturn(List.of(
+                SwapiStarshipDTO.builder().uid("9").name("Death Star").build(),
+                SwapiStarshipDTO.builder().uid("12").name("X-wing").build()));
+        when(swapiClient.fetchById("starships", "9", SwapiStarshipDTO.class))
+                .thenReturn(SwapiStarshipDTO.builder().uid("9").name("Death Star").model("DS-1").build());
+        when(swapiClient.fetchById("starships", "12", SwapiStarshipDTO.class))
+                .thenReturn(SwapiStarshipDTO.builder().uid("12").name("X-wing").model("T-65").build());
+        when(starshipRepository.upsertAll(anyCollection())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // ========== ACT ==========
+        int synced = catalogSyncService.syncStarships();
+
+        // ========== ASSERT ==========
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Starship>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(starshipRepository).upsertAll(upserted.capture());
+        verify(starshipRepository, never()).save(any());
+        assertThat(synced).isEqualTo(2);
+        assertThat(upserted.getValue()).extracting(Starship::getModel).containsExactly("DS-1", "T-65");
+    }
+
+    @Test
+    @DisplayName("Debería sumar a cada personaje las naves y vehículos que lo listan como piloto")
+    void testWithPilotLinks_ShouldMergeCraftPilotsIntoPeople() {
+        // ========== ARRANGE ==========
+        // Luke (1) tiene el X-wing en su ficha; Leia (5) no tiene naves; 13 no está en el catálogo
+        Map<String, List<String>> byPerson = Map.of("1", List.of("12"), "5", List.of());
+        Map<String, List<String>> byCraft = Map.of("12", List.of("1"), "22", List.of("1", "13"));
+
+        // ========== ACT ==========
+        Map<String, List<String>> links = CatalogSyncService.withPilotLinks(byPerson, byCraft);
+
+        // ========== ASSERT ==========
+        assertThat(links).containsOnlyKeys("1", "5");
+        assertThat(links.get("1")).containsExactlyInAnyOrder("12", "22");
+        assertThat(links.get("5")).isEmpty();
+    }
+}
@@ -0,0 +1,77 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.domain.exception.UnsupportedFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests del formato de las exportaciones en streaming.
+ */
+class CollectionExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CollectionExporter exporter = new CollectionExporter(objectMapper);
+
+    @Test
+    @DisplayName("Debería escribir un objeto JSON por línea en NDJSON")
+    void testExport_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // ========== ACT ==========
+        ResponseEntity<StreamingResponseBody> response = exporter.export("starships", "ndjson", CollectionExporterTest::threeNames,
+                name -> Map.of("name", name));
+
+        // ========== ASSERT ==========
+        assertThat(response.getHeaders().getContentType()).isEqualTo(CollectionExporter.NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("starships.ndjson");
+        assertThat(write(response)).isEqualTo("""
+                {"name":"X-wing"}
+                {"name":"Y-wing"}
+                {"name":"A-wing"}
+                """);
+    }
+
+    @Test
+    @DisplayName("Debería escribir un array JSON con formato json")
+    void testExport_AsJson_ShouldWriteArray() throws Exception {
+        // ========== ACT ==========
+        ResponseEntity<StreamingResponseBody> response = exporter.export("starships", "json", CollectionExporterTest::threeNames,
+                name -> Map.of("name", name));
+
+        // ========== ASSERT ==========
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(objectMapper.readValue(write(response), List.class)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un formato desconocido antes de empezar a escribir")
+    void testExport_WithUnknownFormat_ShouldThrow() {
+        // ========== ACT & ASSERT ==========
+        assertThatThrownBy(() -> exporter.export("starships", "xml", CollectionExporterTest::threeNames, name -> name))
+                .isInstanceOf(UnsupportedFormatException.class)
+                .hasMessageContaining("xml");
+    }
+
+    private static long threeNames(Consumer<String> consumer) {
+        List.of("X-wing", "Y-wing", "A-wing").forEach(consumer);
+        return 3;
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
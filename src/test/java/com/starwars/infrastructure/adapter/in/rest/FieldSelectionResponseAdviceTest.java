@@ -0,0 +1,109 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.application.dto.response.FilmResponse;
+import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.mapper.FieldSelection;
+import com.starwars.application.mapper.FilmMapper;
+import com.starwars.domain.exception.UnsupportedFieldException;
+import com.starwars.domain.model.Film;
+import com.starwars.infrastructure.config.WebConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests de los sparse fieldsets: interpretación de {@code fields=}, mapeo y serialización de un film
+ * con y sin selección.
+ */
+class FieldSelectionResponseAdviceTest {
+
+    private static final Film NEW_HOPE = Film.builder()
+            .id(1L).uid("1").title("A New Hope").episodeId(4).openingCrawl("It is a period of civil war.")
+            .director("George Lucas").producer("Gary Kurtz, Rick McCallum").releaseDate(LocalDate.of(1977, 5, 25))
+            .build();
+
+    private final FilmMapper filmMapper = new FilmMapper();
+    private final FieldSelectionArgumentResolver resolver = new FieldSelectionArgumentResolver();
+    private final FieldSelectionResponseAdvice advice = new FieldSelectionResponseAdvice();
+    private final ObjectMapper objectMapper = objectMapper();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/films");
+
+    @Test
+    @DisplayName("Debería mapear y serializar solo los campos pedidos, más el uid")
+    void testFields_ShouldRestrictMappingAndSerialization() throws Exception {
+        // ========== ARRANGE ==========
+        FieldSelection fields = resolve("title, director");
+
+        // ========== ACT ==========
+        FilmResponse film = filmMapper.toResponse(NEW_HOPE, filmMapper.requireKnown(fields));
+        String json = write(StandardResponse.exito(List.of(film)));
+
+        // ========== ASSERT ==========
+        assertThat(film.getOpeningCrawl()).isNull();
+        assertThat(film.getReleaseDate()).isNull();
+        assertThat(json).contains("\"uid\":\"1\",\"title\":\"A New Hope\",\"director\":\"George Lucas\"")
+                .doesNotContain("openingCrawl", "episodeId", "releaseDate", "\"id\"");
+    }
+
+    @Test
+    @DisplayName("Debería mapear y serializar todos los campos, incluso los nulos, si no se pide 'fields'")
+    void testWithoutFields_ShouldKeepEveryField() throws Exception {
+        // ========== ARRANGE ==========
+        FieldSelection fields = resolve(null);
+
+        // ========== ACT ==========
+        String json = write(filmMapper.toResponse(Film.builder().uid("1").title("A New Hope")
+                .openingCrawl("It is a period of civil war.").build(), fields));
+
+        // ========== ASSERT ==========
+        assertThat(fields.isAll()).isTrue();
+        assertThat(json).contains("\"title\":\"A New Hope\"", "\"openingCrawl\":\"It is a period of civil war.\"",
+                "\"producer\":null");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un campo que el recurso no tiene")
+    void testUnknownField_ShouldThrow() {
+        // ========== ARRANGE ==========
+        FieldSelection fields = resolve("title,name");
+
+        // ========== ACT & ASSERT ==========
+        assertThatThrownBy(() -> filmMapper.requireKnown(fields))
+                .isInstanceOf(UnsupportedFieldException.class)
+                .hasMessageContaining("'name'");
+    }
+
+    // Lo que recibe el controlador: el resolver interpreta 'fields' y lo deja en la petición para el advice
+    private FieldSelection resolve(String fields) {
+        if (fields != null) {
+            request.setParameter(FieldSelection.PARAMETER, fields);
+        }
+        return (FieldSelection) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+
+    // Lo mismo que hace el conversor JSON de Spring con lo que devuelve el advice
+    private String write(Object body) throws Exception {
+        Object advised = advice.beforeBodyWrite(body, null, null, null, new ServletServerHttpRequest(request), null);
+        if (advised instanceof MappingJacksonValue value) {
+            return objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue());
+        }
+        return objectMapper.writeValueAsString(advised);
+    }
+
+    private static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new WebConfig().fieldSelectionDefaultFilter().customize(builder);
+        return builder.build();
+    }
+}
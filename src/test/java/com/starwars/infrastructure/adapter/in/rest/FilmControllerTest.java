@@ -0,0 +1,119 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.application.mapper.FilmMapper;
+import com.starwars.application.mapper.PeopleMapper;
+import com.starwars.application.mapper.StarshipMapper;
+import com.starwars.application.mapper.VehicleMapper;
+import com.starwars.domain.model.Film;
+import com.starwars.domain.port.in.FilmUseCase;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
+import com.starwars.infrastructure.config.WebConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de los parámetros de /api/v1/films, sin seguridad ni base de datos: el caso de uso es un mock.
+ */
+@ExtendWith(MockitoExtension.class)
+class FilmControllerTest {
+
+    @Mock
+    private FilmUseCase filmUseCase;
+
+    @Mock
+    private SwapiClient swapiClient;
+
+    @Mock
+    private SwapiMapper swapiMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        FilmController controller = new FilmController(filmUseCase, new FilmMapper(),
+                new CollectionExporter(new ObjectMapper()), new PeopleMapper(), new StarshipMapper(),
+                new VehicleMapper(), swapiClient, swapiMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(), new FieldSelectionResponseAdvice())
+                .setCustomArgumentResolvers(new FieldSelectionArgumentResolver())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería devolver 400 con fuzzy=true sin 'title' o combinado con 'text', como los demás recursos")
+    void testSearch_WithFuzzyWithoutTitle_ShouldReturn400() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/v1/films/search").param("fuzzy", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("La búsqueda aproximada ('fuzzy') solo admite el parámetro 'title'."));
+        mockMvc.perform(get("/api/v1/films/search")
+                        .param("fuzzy", "true")
+                        .param("title", "hope")
+                        .param("text", "rebel"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(filmUseCase, swapiClient);
+    }
+
+    @Test
+    @DisplayName("Debería devolver solo uid y los campos pedidos con 'fields'")
+    void testGetAll_WithFields_ShouldReturnOnlyThoseFields() throws Exception {
+        // ========== ARRANGE ==========
+        Film newHope = Film.builder().id(1L).uid("1").title("A New Hope").episodeId(4)
+                .director("George Lucas").releaseDate(LocalDate.of(1977, 5, 25)).build();
+        when(filmUseCase.findAll(any())).thenReturn(new PageImpl<>(List.of(newHope), PageRequest.of(0, 10), 1));
+
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/v1/films").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.datos.content[0].uid").value("1"))
+                .andExpect(jsonPath("$.datos.content[0].title").value("A New Hope"))
+                .andExpect(jsonPath("$.datos.content[0].id").doesNotExist())
+                .andExpect(jsonPath("$.datos.content[0].director").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Debería devolver 400 con un campo desconocido antes de consultar el catálogo, aunque la página salga vacía")
+    void testGetAll_WithUnknownField_ShouldReturn400WithoutQuerying() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/v1/films").param("fields", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("'bogus'")));
+        // En las relaciones se valida contra el recurso que se devuelve
+        mockMvc.perform(get("/api/v1/films/1/characters").param("fields", "title"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(filmUseCase);
+    }
+
+    // El conversor JSON de la aplicación, con el filtro de 'fields' que esperan los DTO
+    private static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new WebConfig().fieldSelectionDefaultFilter().customize(builder);
+        return builder.build();
+    }
+}
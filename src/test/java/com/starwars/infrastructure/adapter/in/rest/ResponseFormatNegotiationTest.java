@@ -0,0 +1,158 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.starwars.application.mapper.FilmMapper;
+import com.starwars.application.mapper.PeopleMapper;
+import com.starwars.application.mapper.StarshipMapper;
+import com.starwars.application.mapper.VehicleMapper;
+import com.starwars.domain.model.Film;
+import com.starwars.domain.port.in.FilmUseCase;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
+import com.starwars.infrastructure.config.WebConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Negociación de contenido con los conversores de {@link WebConfig}: CBOR y Smile solo si se piden en
+ * {@code Accept}, JSON en cualquier otro caso, y {@code fields=} igual en todos los formatos. Los
+ * conversores se combinan con los de Spring MVC como lo hace Spring Boot, sin seguridad ni base de datos.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResponseFormatNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final Film NEW_HOPE = Film.builder()
+            .id(1L).uid("1").title("A New Hope").episodeId(4).director("George Lucas")
+            .releaseDate(LocalDate.of(1977, 5, 25)).build();
+
+    @Mock
+    private FilmUseCase filmUseCase;
+
+    @Mock
+    private SwapiClient swapiClient;
+
+    @Mock
+    private SwapiMapper swapiMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        FilmController controller = new FilmController(filmUseCase, new FilmMapper(),
+                new CollectionExporter(new ObjectMapper()), new PeopleMapper(), new StarshipMapper(),
+                new VehicleMapper(), swapiClient, swapiMapper);
+        WebConfig webConfig = new WebConfig();
+        HttpMessageConverters converters = new HttpMessageConverters(
+                new MappingJackson2HttpMessageConverter(builder().build()),
+                webConfig.cborHttpMessageConverter(builder()),
+                webConfig.smileHttpMessageConverter(builder()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(), new FieldSelectionResponseAdvice())
+                .setCustomArgumentResolvers(new FieldSelectionArgumentResolver())
+                .setMessageConverters(converters.getConverters().toArray(HttpMessageConverter[]::new))
+                .build();
+        when(filmUseCase.findAll(any())).thenReturn(new PageImpl<>(List.of(NEW_HOPE), PageRequest.of(0, 10), 1));
+    }
+
+    @Test
+    @DisplayName("Debería responder CBOR con Accept: application/cbor")
+    void testAcceptCbor_ShouldReturnCbor() throws Exception {
+        // ========== ACT ==========
+        MvcResult result = mockMvc.perform(get("/api/v1/films").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // ========== ASSERT ==========
+        JsonNode film = read(result, new CBORFactory()).at("/datos/content/0");
+        assertThat(film.get("title").asText()).isEqualTo("A New Hope");
+        assertThat(film.get("director").asText()).isEqualTo("George Lucas");
+    }
+
+    @Test
+    @DisplayName("Debería responder Smile con Accept: application/x-jackson-smile")
+    void testAcceptSmile_ShouldReturnSmile() throws Exception {
+        // ========== ACT ==========
+        MvcResult result = mockMvc.perform(get("/api/v1/films").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        // ========== ASSERT ==========
+        JsonNode film = read(result, new SmileFactory()).at("/datos/content/0");
+        assertThat(film.get("title").asText()).isEqualTo("A New Hope");
+        assertThat(film.get("director").asText()).isEqualTo("George Lucas");
+    }
+
+    @Test
+    @DisplayName("Debería responder JSON sin Accept y con Accept: */*")
+    void testWithoutAcceptOrWildcard_ShouldReturnJson() throws Exception {
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/v1/films"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.datos.content[0].title").value("A New Hope"));
+        mockMvc.perform(get("/api/v1/films").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.datos.content[0].title").value("A New Hope"));
+    }
+
+    @Test
+    @DisplayName("Debería aplicar 'fields' también en CBOR y Smile")
+    void testFieldsInBinaryFormats_ShouldReturnOnlyThoseFields() throws Exception {
+        // ========== ACT & ASSERT ==========
+        for (MediaType format : List.of(MediaType.APPLICATION_CBOR, SMILE)) {
+            MvcResult result = mockMvc.perform(get("/api/v1/films").param("fields", "title").accept(format))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(format))
+                    .andReturn();
+
+            JsonNode film = read(result, MediaType.APPLICATION_CBOR.equals(format) ? new CBORFactory() : new SmileFactory())
+                    .at("/datos/content/0");
+            assertThat(film.fieldNames()).toIterable().as(format.toString()).containsExactly("uid", "title");
+        }
+    }
+
+    // Como el builder de Spring Boot: el filtro de 'fields' por defecto que esperan los DTO
+    private static Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new WebConfig().fieldSelectionDefaultFilter().customize(builder);
+        return builder;
+    }
+
+    private static JsonNode read(MvcResult result, JsonFactory factory) throws Exception {
+        return new ObjectMapper(factory).readTree(result.getResponse().getContentAsByteArray());
+    }
+}
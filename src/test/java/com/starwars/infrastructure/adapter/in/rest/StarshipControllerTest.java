@@ -0,0 +1,103 @@
+package com.starwars.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.application.mapper.StarshipMapper;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.in.StarshipUseCase;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.SwapiMapper;
+import com.starwars.infrastructure.config.WebConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de los parámetros de /api/v1/starships/search, sin seguridad ni base de datos:
+ * el caso de uso es un mock.
+ */
+@ExtendWith(MockitoExtension.class)
+class StarshipControllerTest {
+
+    @Mock
+    private StarshipUseCase starshipUseCase;
+
+    @Mock
+    private SwapiClient swapiClient;
+
+    @Mock
+    private SwapiMapper swapiMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        StarshipController controller = new StarshipController(starshipUseCase, new StarshipMapper(),
+                new CollectionExporter(new ObjectMapper()), swapiClient, swapiMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(), new FieldSelectionResponseAdvice())
+                .setCustomArgumentResolvers(new FieldSelectionArgumentResolver())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería combinar nombre y modelo en una búsqueda local en lugar de devolver 400")
+    void testSearch_WithNameAndModel_ShouldCombineFilters() throws Exception {
+        // ========== ARRANGE ==========
+        Starship destroyer = Starship.builder().id(1L).uid("3").name("Star Destroyer")
+                .model("Imperial I-class Star Destroyer").build();
+        when(starshipUseCase.findBySearchAfter(any(), anyString(), anyInt(), anyBoolean()))
+                .thenReturn(CursorPage.<Starship>builder().content(List.of(destroyer)).build());
+
+        // ========== ACT & ASSERT ==========
+        mockMvc.perform(get("/api/v1/starships/search")
+                        .param("name", "star")
+                        .param("model", "destroyer")
+                        .param("manufacturer", "Kuat Drive Yards"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.datos.content[0].name").value("Star Destroyer"));
+
+        ArgumentCaptor<SearchFilter> filter = ArgumentCaptor.forClass(SearchFilter.class);
+        verify(starshipUseCase).findBySearchAfter(filter.capture(), anyString(), anyInt(), anyBoolean());
+        assertThat(filter.getValue().getName()).isEqualTo("star");
+        assertThat(filter.getValue().getModel()).isEqualTo("destroyer");
+        assertThat(filter.getValue().getManufacturer()).isEqualTo("Kuat Drive Yards");
+    }
+
+    @Test
+    @DisplayName("Debería devolver 400 si no se pasa ningún filtro")
+    void testSearch_WithoutFilters_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/starships/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // El conversor JSON de la aplicación, con el filtro de 'fields' que esperan los DTO
+    private static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new WebConfig().fieldSelectionDefaultFilter().customize(builder);
+        return builder.build();
+    }
+}
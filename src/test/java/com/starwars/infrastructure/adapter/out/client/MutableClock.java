@@ -0,0 +1,33 @@
+package com.starwars.infrastructure.adapter.out.client;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Reloj manual para los tests de la caché y la resiliencia del cliente de SWAPI.
+ */
+public class MutableClock extends Clock {
+
+    private long millis = 1_000_000;
+
+    public void advance(long delta) {
+        millis += delta;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+}
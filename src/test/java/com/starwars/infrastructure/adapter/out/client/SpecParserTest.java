@@ -0,0 +1,34 @@
+package com.starwars.infrastructure.adapter.out.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la normalización de especificaciones de SWAPI a números.
+ */
+class SpecParserTest {
+
+    @Test
+    @DisplayName("Debería convertir los formatos de texto de SWAPI a números")
+    void testParse_ShouldNormalizeSwapiFormats() {
+        assertThat(SpecParser.parseLong("3500000")).isEqualTo(3_500_000L);
+        assertThat(SpecParser.parseLong("342,953")).isEqualTo(342_953L);
+        assertThat(SpecParser.parseDouble("1,600")).isEqualTo(1600.0);
+        assertThat(SpecParser.parseDouble("9.2")).isEqualTo(9.2);
+        // Rango de tripulación: se guarda el máximo
+        assertThat(SpecParser.parseLong("30-165")).isEqualTo(165L);
+        assertThat(SpecParser.parseLong("none")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería devolver null para valores desconocidos")
+    void testParse_WhenUnknown_ShouldReturnNull() {
+        assertThat(SpecParser.parseLong("unknown")).isNull();
+        assertThat(SpecParser.parseLong("n/a")).isNull();
+        assertThat(SpecParser.parseLong(null)).isNull();
+        assertThat(SpecParser.parseDouble("")).isNull();
+        assertThat(SpecParser.parseDouble("many")).isNull();
+    }
+}
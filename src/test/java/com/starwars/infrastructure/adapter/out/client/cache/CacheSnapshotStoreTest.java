@@ -0,0 +1,178 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.domain.model.SwapiPageResponse;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiFilmDTO;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiPeopleDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests del snapshot en disco de la caché de SWAPI.
+ * Cada "arranque" usa una caché y un cliente nuevos que solo comparten el archivo.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private SwapiClient swapiClient;
+
+    private ObjectMapper objectMapper;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        file = tempDir.resolve("swapi-cache.snapshot");
+    }
+
+    @Test
+    @DisplayName("Debería servir tras un reinicio las entradas guardadas sin llamar a SWAPI")
+    void testRestore_AfterSave_ShouldServeFromSnapshot() {
+        // ========== ARRANGE ==========
+        SwapiFilmDTO film = SwapiFilmDTO.builder().uid("1").title("A New Hope").releaseDate(LocalDate.of(1977, 5, 25)).build();
+        SwapiPeopleDTO luke = SwapiPeopleDTO.builder().uid("1").name("Luke Skywalker").build();
+        SwapiPageResponse<SwapiPeopleDTO> page = new SwapiPageResponse<>("ok", 82, 9, null, "next", List.of(luke));
+        when(swapiClient.fetchAll("films", SwapiFilmDTO.class)).thenReturn(List.of(film));
+        when(swapiClient.fetchPage("people", 1, 10, SwapiPeopleDTO.class)).thenReturn(page);
+        when(swapiClient.fetchById("people", "1", SwapiPeopleDTO.class)).thenReturn(luke);
+
+        Startup before = new Startup();
+        before.client.fetchAll("films", SwapiFilmDTO.class);
+        before.client.fetchPage("people", 1, 10, SwapiPeopleDTO.class);
+        before.client.fetchById("people", "1", SwapiPeopleDTO.class);
+        before.store.save();
+
+        // ========== ACT ==========
+        Startup after = new Startup();
+        List<String> restored = after.store.restore();
+
+        // ========== ASSERT ==========
+        assertThat(restored).containsExactlyInAnyOrder("films:all", "people:page:1:10", "people:id:1");
+        assertThat(after.client.fetchAll("films", SwapiFilmDTO.class)).containsExactly(film);
+        assertThat(after.client.fetchPage("people", 1, 10, SwapiPeopleDTO.class)).isEqualTo(page);
+        assertThat(after.client.fetchById("people", "1", SwapiPeopleDTO.class)).isEqualTo(luke);
+        // Solo las tres cargas del primer arranque llegaron a SWAPI
+        verify(swapiClient).fetchAll("films", SwapiFilmDTO.class);
+        verify(swapiClient).fetchPage("people", 1, 10, SwapiPeopleDTO.class);
+        verify(swapiClient).fetchById("people", "1", SwapiPeopleDTO.class);
+    }
+
+    @Test
+    @DisplayName("Debería recargar una entrada recuperada con el loader reconstruido desde su clave")
+    void testReload_OfRestoredEntry_ShouldCallSwapi() {
+        // ========== ARRANGE ==========
+        SwapiPeopleDTO luke = SwapiPeopleDTO.builder().uid("1").name("Luke Skywalker").build();
+        SwapiPeopleDTO updated = SwapiPeopleDTO.builder().uid("1").name("Luke Skywalker (updated)").build();
+        when(swapiClient.fetchById("people", "1", SwapiPeopleDTO.class)).thenReturn(luke, updated);
+        Startup before = new Startup();
+        before.client.fetchById("people", "1", SwapiPeopleDTO.class);
+        before.store.save();
+
+        Startup after = new Startup();
+        after.store.restore();
+
+        // ========== ACT ==========
+        after.cache.reload("people:id:1");
+
+        // ========== ASSERT ==========
+        assertThat(after.client.fetchById("people", "1", SwapiPeopleDTO.class)).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("Debería reconciliar las entradas recuperadas con el presupuesto del refresco anticipado")
+    void testRestoreOnStartup_ShouldReconcileWithinRefreshBudget() {
+        // ========== ARRANGE ==========
+        SwapiPeopleDTO luke = SwapiPeopleDTO.builder().uid("1").name("Luke Skywalker").build();
+        SwapiPeopleDTO leia = SwapiPeopleDTO.builder().uid("5").name("Leia Organa").build();
+        when(swapiClient.fetchById("people", "1", SwapiPeopleDTO.class)).thenReturn(luke);
+        when(swapiClient.fetchById("people", "5", SwapiPeopleDTO.class)).thenReturn(leia);
+        Startup before = new Startup();
+        before.client.fetchById("people", "1", SwapiPeopleDTO.class);
+        before.client.fetchById("people", "5", SwapiPeopleDTO.class);
+        before.store.save();
+
+        // ========== ACT ==========
+        Startup after = new Startup();
+        after.store.restoreOnStartup();
+        after.scheduler.refreshHotEntries();
+        after.scheduler.refreshHotEntries();
+
+        // ========== ASSERT ==========
+        // Con una recarga por minuto solo una de las dos entradas volvió a SWAPI; la otra espera su turno
+        verify(swapiClient, times(3)).fetchById(eq("people"), anyString(), eq(SwapiPeopleDTO.class));
+    }
+
+    @Test
+    @DisplayName("Debería dejar fuera del snapshot una clave demasiado larga sin romper el resto")
+    void testSave_WhenKeyTooLong_ShouldSkipEntry() {
+        // ========== ARRANGE ==========
+        String longName = "x".repeat(70_000);
+        SwapiPeopleDTO luke = SwapiPeopleDTO.builder().uid("1").name("Luke Skywalker").build();
+        when(swapiClient.fetchByName("people", longName, SwapiPeopleDTO.class)).thenReturn(List.of(luke));
+        when(swapiClient.fetchById("people", "1", SwapiPeopleDTO.class)).thenReturn(luke);
+        Startup before = new Startup();
+        before.client.fetchByName("people", longName, SwapiPeopleDTO.class);
+        before.client.fetchById("people", "1", SwapiPeopleDTO.class);
+
+        // ========== ACT ==========
+        before.store.save();
+        List<String> restored = new Startup().store.restore();
+
+        // ========== ASSERT ==========
+        assertThat(restored).containsExactly("people:id:1");
+    }
+
+    @Test
+    @DisplayName("Debería ignorar un snapshot con otra versión de formato")
+    void testRestore_WhenVersionDiffers_ShouldIgnoreSnapshot() throws Exception {
+        // ========== ARRANGE ==========
+        ByteBuffer header = ByteBuffer.allocate(20)
+                .putInt(CacheSnapshotStore.MAGIC)
+                .putInt(CacheSnapshotStore.FORMAT_VERSION + 1)
+                .putLong(System.currentTimeMillis())
+                .putInt(1);
+        Files.write(file, header.array());
+
+        // ========== ACT ==========
+        List<String> restored = new Startup().store.restore();
+
+        // ========== ASSERT ==========
+        assertThat(restored).isEmpty();
+        verify(swapiClient, never()).fetchAll("films", SwapiFilmDTO.class);
+    }
+
+    private class Startup {
+        final SwapiResponseCache cache = new SwapiResponseCache(new AccessFrequencyTracker(60_000), 600_000, 100);
+        final CachingSwapiClient client = new CachingSwapiClient(swapiClient, cache);
+        // Una recarga por minuto y hot-score inalcanzable: solo se reconcilian entradas del snapshot
+        final RefreshAheadScheduler scheduler = new RefreshAheadScheduler(cache, new AccessFrequencyTracker(60_000),
+                Runnable::run, Clock.systemUTC(), true, 0.8, Double.MAX_VALUE, 1, 30_000);
+        final CacheSnapshotStore store = new CacheSnapshotStore(cache, client, new AccessFrequencyTracker(60_000),
+                scheduler, objectMapper, file.toString(), true);
+    }
+}
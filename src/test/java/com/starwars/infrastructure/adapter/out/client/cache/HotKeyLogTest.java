@@ -0,0 +1,50 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests del registro de claves calientes que se usa para precargar la caché al arrancar.
+ */
+class HotKeyLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Debería guardar las claves más pedidas y recuperarlas de la más caliente a la más fría")
+    void testSaveAndLoad_ShouldKeepHottestKeysFirst() {
+        // ========== ARRANGE ==========
+        AccessFrequencyTracker tracker = new AccessFrequencyTracker(60_000);
+        for (int i = 0; i < 5; i++) {
+            tracker.record("people:id:1");
+        }
+        for (int i = 0; i < 3; i++) {
+            tracker.record("starships:id:9");
+        }
+        tracker.record("films:all");
+        String file = tempDir.resolve("hot-keys.log").toString();
+
+        // ========== ACT ==========
+        new HotKeyLog(tracker, file, 2).save();
+        // Un arranque nuevo parte de un tracker vacío y solo tiene el archivo
+        HotKeyLog restored = new HotKeyLog(new AccessFrequencyTracker(60_000), file, 2);
+
+        // ========== ASSERT ==========
+        assertThat(restored.load()).containsExactly("people:id:1", "starships:id:9");
+    }
+
+    @Test
+    @DisplayName("Debería devolver una lista vacía cuando no existe el archivo")
+    void testLoad_WhenFileMissing_ShouldReturnEmpty() {
+        HotKeyLog hotKeyLog = new HotKeyLog(new AccessFrequencyTracker(60_000),
+                tempDir.resolve("missing.log").toString(), 50);
+
+        assertThat(hotKeyLog.load()).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package com.starwars.infrastructure.adapter.out.client.cache;
+
+import com.starwars.infrastructure.adapter.out.client.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la caché de SWAPI y del refresco anticipado de claves calientes.
+ * Se usa un reloj manual y un executor síncrono para controlar el tiempo y las recargas.
+ */
+class RefreshAheadSchedulerTest {
+
+    private static final long TTL = 10_000;
+    private static final long BACKOFF = 2_000;
+
+    private MutableClock clock;
+    private AccessFrequencyTracker tracker;
+    private SwapiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        tracker = new AccessFrequencyTracker(clock, 60_000);
+        cache = new SwapiResponseCache(tracker, clock, TTL, 100);
+    }
+
+    @Test
+    @DisplayName("Debería servir desde la caché mientras la entrada no expira")
+    void testGet_WhenFresh_ShouldNotCallLoaderAgain() {
+        // ========== ARRANGE ==========
+        AtomicInteger calls = new AtomicInteger();
+
+        // ========== ACT ==========
+        cache.get("films:all", () -> "v" + calls.incrementAndGet());
+        clock.advance(TTL - 1);
+        String result = cache.get("films:all", () -> "v" + calls.incrementAndGet());
+
+        // ========== ASSERT ==========
+        assertThat(result).isEqualTo("v1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("No debería cachear resultados nulos (errores de SWAPI)")
+    void testGet_WhenLoaderReturnsNull_ShouldNotCache() {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("films:id:99", () -> { calls.incrementAndGet(); return null; });
+        cache.get("films:id:99", () -> { calls.incrementAndGet(); return null; });
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debería recargar una clave caliente antes de que expire")
+    void testRefresh_WhenHotAndNearExpiry_ShouldReloadInBackground() {
+        // ========== ARRANGE ==========
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            cache.get("starships:id:2", () -> "v" + calls.incrementAndGet());
+        }
+        RefreshAheadScheduler scheduler = new RefreshAheadScheduler(cache, tracker, Runnable::run, clock,
+                true, 0.8, 3.0, 60, BACKOFF);
+
+        // ========== ACT ==========
+        clock.advance((long) (TTL * 0.9));
+        scheduler.refreshHotEntries();
+
+        // ========== ASSERT ==========
+        // La recarga ocurrió antes de expirar y el siguiente acceso ya no paga la recarga en frío
+        assertThat(calls).hasValue(2);
+        clock.advance((long) (TTL * 0.5));
+        assertThat((String) cache.get("starships:id:2", () -> "cold")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("No debería recargar claves frías")
+    void testRefresh_WhenCold_ShouldNotReload() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("vehicles:id:4", () -> "v" + calls.incrementAndGet());
+        RefreshAheadScheduler scheduler = new RefreshAheadScheduler(cache, tracker, Runnable::run, clock,
+                true, 0.8, 3.0, 60, BACKOFF);
+
+        clock.advance((long) (TTL * 0.9));
+        scheduler.refreshHotEntries();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debería respetar el presupuesto global de recargas por minuto")
+    void testRefresh_WhenBudgetExhausted_ShouldSkipRemainingKeys() {
+        // ========== ARRANGE ==========
+        AtomicInteger calls = new AtomicInteger();
+        for (int uid = 1; uid <= 5; uid++) {
+            for (int i = 0; i < 5; i++) {
+                cache.get("people:id:" + uid, () -> "v" + calls.incrementAndGet());
+            }
+        }
+        RefreshAheadScheduler scheduler = new RefreshAheadScheduler(cache, tracker, Runnable::run, clock,
+                true, 0.8, 3.0, 2, BACKOFF);
+
+        // ========== ACT ==========
+        clock.advance((long) (TTL * 0.9));
+        scheduler.refreshHotEntries();
+
+        // ========== ASSERT ==========
+        // 5 cargas iniciales + solo 2 recargas permitidas por el presupuesto
+        assertThat(calls).hasValue(7);
+    }
+
+    @Test
+    @DisplayName("Debería esperar antes de reintentar una clave cuya recarga falló, y más tras cada fallo")
+    void testRefresh_WhenReloadFails_ShouldBackOff() {
+        // ========== ARRANGE ==========
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            cache.get("films:id:1", () -> {
+                if (calls.incrementAndGet() > 1) {
+                    throw new IllegalStateException("SWAPI down");
+                }
+                return "v1";
+            });
+        }
+        RefreshAheadScheduler scheduler = new RefreshAheadScheduler(cache, tracker, Runnable::run, clock,
+                true, 0.8, 0.5, 60, BACKOFF);
+        clock.advance((long) (TTL * 0.9));
+
+        // ========== ACT & ASSERT ==========
+        scheduler.refreshHotEntries();
+        assertThat(calls).hasValue(2);
+
+        // Dentro de la primera espera no se reintenta
+        clock.advance(BACKOFF - 1);
+        scheduler.refreshHotEntries();
+        assertThat(calls).hasValue(2);
+
+        clock.advance(1);
+        scheduler.refreshHotEntries();
+        assertThat(calls).hasValue(3);
+
+        // La segunda espera es el doble
+        clock.advance(BACKOFF);
+        scheduler.refreshHotEntries();
+        assertThat(calls).hasValue(3);
+        clock.advance(BACKOFF);
+        scheduler.refreshHotEntries();
+        assertThat(calls).hasValue(4);
+    }
+}
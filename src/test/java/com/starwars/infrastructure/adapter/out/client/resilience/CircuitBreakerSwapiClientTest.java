@@ -0,0 +1,124 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import com.starwars.domain.exception.SwapiUnavailableException;
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.MutableClock;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import com.starwars.infrastructure.adapter.out.client.cache.CachingSwapiClient;
+import com.starwars.infrastructure.adapter.out.client.cache.SwapiResponseCache;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiFilmDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests del circuit breaker hacia SWAPI y del fallback a datos vencidos de la caché.
+ */
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerSwapiClientTest {
+
+    private static final long OPEN_DURATION = 30_000;
+
+    @Mock
+    private SwapiClient swapiClientImpl;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private SwapiCircuitBreaker circuitBreaker;
+    private CircuitBreakerSwapiClient circuitBreakerClient;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new SwapiCircuitBreaker(meterRegistry, clock, 2, OPEN_DURATION);
+        circuitBreakerClient = new CircuitBreakerSwapiClient(swapiClientImpl, circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("Debería abrir el circuito tras los fallos consecutivos y dejar de llamar a SWAPI")
+    void testCircuit_WhenFailuresReachThreshold_ShouldOpenAndRejectCalls() {
+        // ========== ARRANGE ==========
+        when(swapiClientImpl.fetchById("films", "1", SwapiFilmDTO.class))
+                .thenThrow(new SwapiUnavailableException("timeout"));
+
+        // ========== ACT ==========
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> circuitBreakerClient.fetchById("films", "1", SwapiFilmDTO.class))
+                    .isInstanceOf(SwapiUnavailableException.class);
+        }
+
+        // ========== ASSERT ==========
+        // La tercera llamada ya no llegó a SWAPI
+        verify(swapiClientImpl, times(2)).fetchById("films", "1", SwapiFilmDTO.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(SwapiCircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("swapi.circuit.state").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Debería cerrar el circuito si la llamada de prueba en semiabierto funciona")
+    void testCircuit_WhenHalfOpenProbeSucceeds_ShouldClose() {
+        SwapiFilmDTO film = SwapiFilmDTO.builder().uid("1").title("A New Hope").build();
+        when(swapiClientImpl.fetchById("films", "1", SwapiFilmDTO.class))
+                .thenThrow(new SwapiUnavailableException("timeout"))
+                .thenThrow(new SwapiUnavailableException("timeout"))
+                .thenReturn(film);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> circuitBreakerClient.fetchById("films", "1", SwapiFilmDTO.class))
+                    .isInstanceOf(SwapiUnavailableException.class);
+        }
+
+        clock.advance(OPEN_DURATION);
+        SwapiFilmDTO result = circuitBreakerClient.fetchById("films", "1", SwapiFilmDTO.class);
+
+        assertThat(result).isEqualTo(film);
+        assertThat(circuitBreaker.getState()).isEqualTo(SwapiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debería permitir una sola llamada de prueba en semiabierto y reabrir si falla")
+    void testCircuit_WhenHalfOpenProbeFails_ShouldReopen() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.advance(OPEN_DURATION);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(SwapiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Debería servir el último dato conocido de la caché mientras SWAPI falla")
+    void testCache_WhenSwapiUnavailable_ShouldServeStaleValue() {
+        // ========== ARRANGE ==========
+        SwapiResponseCache cache = new SwapiResponseCache(new AccessFrequencyTracker(60_000), 0, 100);
+        CachingSwapiClient client = new CachingSwapiClient(circuitBreakerClient, cache);
+        List<SwapiFilmDTO> films = List.of(SwapiFilmDTO.builder().uid("1").title("A New Hope").build());
+        when(swapiClientImpl.fetchAll("films", SwapiFilmDTO.class))
+                .thenReturn(films)
+                .thenThrow(new SwapiUnavailableException("timeout"));
+
+        // ========== ACT ==========
+        // TTL 0: la segunda llamada siempre intenta recargar
+        client.fetchAll("films", SwapiFilmDTO.class);
+        List<SwapiFilmDTO> result = client.fetchAll("films", SwapiFilmDTO.class);
+
+        // ========== ASSERT ==========
+        assertThat(result).isEqualTo(films);
+        assertThat(client.fetchAll("vehicles", SwapiFilmDTO.class)).isEmpty();
+    }
+}
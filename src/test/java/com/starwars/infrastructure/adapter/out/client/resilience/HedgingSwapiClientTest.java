@@ -0,0 +1,113 @@
+package com.starwars.infrastructure.adapter.out.client.resilience;
+
+import com.starwars.domain.port.out.SwapiClient;
+import com.starwars.infrastructure.adapter.out.client.dto.SwapiStarshipDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de las peticiones de cobertura (hedging) sobre fetchById.
+ * La primera llamada al mock tarda mucho más que el p95 y la segunda responde al instante.
+ */
+@ExtendWith(MockitoExtension.class)
+class HedgingSwapiClientTest {
+
+    @Mock
+    private SwapiClient swapiClientImpl;
+
+    private LatencyTracker latencyTracker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyTracker = new LatencyTracker(100, 10);
+        // p95 observado de 20 ms
+        for (int i = 0; i < 20; i++) {
+            latencyTracker.record(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Debería lanzar una segunda petición cuando la primera supera el p95 y quedarse con la más rápida")
+    void testFetchById_WhenPrimaryIsSlow_ShouldReturnHedgedResponse() {
+        // ========== ARRANGE ==========
+        SwapiStarshipDTO slow = SwapiStarshipDTO.builder().uid("9").name("slow").build();
+        SwapiStarshipDTO fast = SwapiStarshipDTO.builder().uid("9").name("fast").build();
+        AtomicInteger calls = new AtomicInteger();
+        when(swapiClientImpl.fetchById("starships", "9", SwapiStarshipDTO.class)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(2_000);
+                return slow;
+            }
+            return fast;
+        });
+        HedgingSwapiClient client = newClient(100);
+
+        // ========== ACT ==========
+        SwapiStarshipDTO result = client.fetchById("starships", "9", SwapiStarshipDTO.class);
+
+        // ========== ASSERT ==========
+        assertThat(result.getName()).isEqualTo("fast");
+        verify(swapiClientImpl, times(2)).fetchById("starships", "9", SwapiStarshipDTO.class);
+        assertThat(meterRegistry.counter("swapi.hedging.won").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("No debería duplicar peticiones cuando el presupuesto de hedging está agotado")
+    void testFetchById_WhenBudgetExhausted_ShouldWaitForPrimary() {
+        // ========== ARRANGE ==========
+        SwapiStarshipDTO dto = SwapiStarshipDTO.builder().uid("9").name("slow").build();
+        when(swapiClientImpl.fetchById("starships", "9", SwapiStarshipDTO.class)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return dto;
+        });
+        // 0%: nunca se permiten peticiones duplicadas
+        HedgingSwapiClient client = newClient(0);
+
+        // ========== ACT ==========
+        SwapiStarshipDTO result = client.fetchById("starships", "9", SwapiStarshipDTO.class);
+
+        // ========== ASSERT ==========
+        assertThat(result.getName()).isEqualTo("slow");
+        verify(swapiClientImpl, times(1)).fetchById("starships", "9", SwapiStarshipDTO.class);
+        assertThat(meterRegistry.counter("swapi.hedging.sent").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería calcular el p95 solo cuando hay muestras suficientes")
+    void testLatencyTracker_ShouldComputeP95() {
+        LatencyTracker tracker = new LatencyTracker(100, 10);
+        for (int i = 1; i <= 9; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.p95()).isEqualTo(-1);
+
+        // La ventana conserva las últimas 100 muestras (11..110)
+        for (int i = 10; i <= 110; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.p95()).isEqualTo(105);
+    }
+
+    private HedgingSwapiClient newClient(double budgetPercent) {
+        HedgingBudget budget = new HedgingBudget(budgetPercent);
+        // Margen de permisos acumulado por peticiones anteriores
+        for (int i = 0; i < 10; i++) {
+            budget.onRequest();
+        }
+        return new HedgingSwapiClient(swapiClientImpl, meterRegistry, latencyTracker, budget, true);
+    }
+}
@@ -0,0 +1,106 @@
+package com.starwars.infrastructure.adapter.out.facet;
+
+import com.starwars.domain.model.FacetedPage;
+import com.starwars.domain.model.Starship;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests del índice de facetas sobre bitmaps con un catálogo pequeño de naves.
+ */
+class BitmapFacetIndexTest {
+
+    private BitmapFacetIndex<Starship> index;
+
+    @BeforeEach
+    void setUp() {
+        List<Starship> starships = List.of(
+                starship("A-wing", "Starfighter", "Alliance Underground Engineering, Incom Corporation"),
+                starship("Death Star", "Deep Space Mobile Battlestation", "Imperial Department of Military Research, Sienar Fleet Systems"),
+                starship("Millennium Falcon", "Light freighter", "Corellian Engineering Corporation"),
+                starship("TIE Advanced x1", "Starfighter", "Sienar Fleet Systems"),
+                starship("X-wing", "Starfighter", "Incom Corporation"),
+                starship("Y-wing", "assault starfighter", "Koensayr Manufacturing"));
+        Map<String, Function<Starship, Collection<String>>> attributes = new LinkedHashMap<>();
+        attributes.put("starshipClass", s -> List.of(s.getStarshipClass()));
+        attributes.put("manufacturer", s -> SearchNormalizer.manufacturers(s.getManufacturer()));
+        index = BitmapFacetIndex.build(starships, attributes);
+    }
+
+    @Test
+    @DisplayName("Debería combinar con OR los valores de un atributo y con AND los atributos")
+    void testSearch_ShouldIntersectAttributesAndUniteValues() {
+        // ========== ARRANGE ==========
+        Map<String, Set<String>> filters = Map.of(
+                "starshipClass", Set.of("starfighter", "Assault Starfighter"),
+                "manufacturer", Set.of("Incom Corporation", "Koensayr Manufacturing"));
+
+        // ========== ACT ==========
+        FacetedPage<Starship> page = index.search(filters, 0, 10);
+
+        // ========== ASSERT ==========
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Starship::getName).containsExactly("A-wing", "X-wing", "Y-wing");
+    }
+
+    @Test
+    @DisplayName("Debería contar cada faceta aplicando solo los filtros de los demás atributos")
+    void testSearch_ShouldCountFacetsAgainstOtherFilters() {
+        // ========== ACT ==========
+        FacetedPage<Starship> page = index.search(Map.of("starshipClass", Set.of("Starfighter")), 0, 10);
+
+        // ========== ASSERT ==========
+        // La clase elegida no oculta las demás clases
+        assertThat(page.getFacets().get("starshipClass")).containsExactly(
+                entry("Starfighter", 3L),
+                entry("assault starfighter", 1L),
+                entry("Deep Space Mobile Battlestation", 1L),
+                entry("Light freighter", 1L));
+        // Los fabricantes se cuentan dentro de los cazas
+        assertThat(page.getFacets().get("manufacturer")).containsExactly(
+                entry("Incom Corporation", 2L),
+                entry("Alliance Underground Engineering", 1L),
+                entry("Sienar Fleet Systems", 1L));
+    }
+
+    @Test
+    @DisplayName("Debería paginar sobre los resultados en orden y devolver vacío con un valor desconocido")
+    void testSearch_ShouldPageAndHandleUnknownValues() {
+        // ========== ACT ==========
+        FacetedPage<Starship> secondPage = index.search(Map.of(), 4, 4);
+        FacetedPage<Starship> unknown = index.search(Map.of("manufacturer", Set.of("Kuat Drive Yards")), 0, 10);
+
+        // ========== ASSERT ==========
+        assertThat(secondPage.getTotalElements()).isEqualTo(6);
+        assertThat(secondPage.getContent()).extracting(Starship::getName).containsExactly("X-wing", "Y-wing");
+        assertThat(unknown.getTotalElements()).isZero();
+        assertThat(unknown.getContent()).isEmpty();
+        assertThat(unknown.getFacets().get("starshipClass")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería separar los fabricantes por comas sin partir las formas societarias")
+    void testManufacturers_ShouldKeepLegalSuffixes() {
+        assertThat(SearchNormalizer.manufacturers("Kuat Drive Yards, Fondor Shipyards"))
+                .containsExactly("Kuat Drive Yards", "Fondor Shipyards");
+        assertThat(SearchNormalizer.manufacturers("Gallofree Yards, Inc."))
+                .containsExactly("Gallofree Yards, Inc.");
+        assertThat(SearchNormalizer.manufacturers(null)).isEmpty();
+    }
+
+    private static Starship starship(String name, String starshipClass, String manufacturer) {
+        return Starship.builder().name(name).starshipClass(starshipClass).manufacturer(manufacturer).build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.starwars.infrastructure.adapter.out.graph;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latencia de las consultas del grafo de apariciones. No corre con {@code mvn test}; se ejecuta con
+ * {@code mvn test -Pbenchmark}.
+ * <p>
+ * SWAPI tiene 82 personajes, 6 films, 36 naves y 39 vehículos; se mide con ese tamaño y con uno cien
+ * veces mayor, con la misma cantidad de enlaces por personaje.
+ */
+@Slf4j
+@Tag("benchmark")
+class CharacterGraphBenchmarkTest {
+
+    private static final int WARM_UP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final List<String> ALL_LINKS = List.of(CsrGraph.FILMS, CsrGraph.STARSHIPS, CsrGraph.VEHICLES);
+
+    @Test
+    @DisplayName("Mide p50/p99 de coapariciones y caminos con el tamaño del catálogo y con uno cien veces mayor")
+    void benchmarkGraphQueries() {
+        for (int scale : new int[]{1, 100}) {
+            long buildStart = System.nanoTime();
+            CsrGraph graph = graph(scale);
+            long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+            int people = 82 * scale;
+            Random random = new Random(3);
+
+            long[] coAppearances = latencies(i -> graph.coAppearances(random.nextInt(people), 20));
+            long[] pair = latencies(i -> graph.sharedFilms(random.nextInt(people), random.nextInt(people)));
+            long[] path = latencies(i -> graph.shortestPath(random.nextInt(people), random.nextInt(people), ALL_LINKS));
+
+            log.info("Character graph with {} nodes, {} links (built in {} ms): co-appearances p50 {} ns "
+                            + "p99 {} ns, pair p50 {} ns p99 {} ns, shortest path p50 {} ns p99 {} ns",
+                    graph.nodeCount(), graph.linkCount(), buildMillis,
+                    percentile(coAppearances, 50), percentile(coAppearances, 99),
+                    percentile(pair, 50), percentile(pair, 99),
+                    percentile(path, 50), percentile(path, 99));
+            assertThat(percentile(path, 50)).isPositive();
+        }
+    }
+
+    // Cada personaje aparece en 1 a 3 films y pilotea hasta 2 naves y 2 vehículos, como en SWAPI
+    private static CsrGraph graph(int scale) {
+        Random random = new Random(7);
+        int people = 82 * scale;
+        int films = 6 * scale;
+        int starships = 36 * scale;
+        int vehicles = 39 * scale;
+        CsrGraph.Builder builder = CsrGraph.builder();
+        for (int i = 0; i < people; i++) {
+            builder.node(CsrGraph.PEOPLE, String.valueOf(i), "Person " + i);
+        }
+        for (int i = 0; i < films; i++) {
+            builder.node(CsrGraph.FILMS, String.valueOf(i), "Film " + i);
+        }
+        for (int i = 0; i < starships; i++) {
+            builder.node(CsrGraph.STARSHIPS, String.valueOf(i), "Starship " + i);
+        }
+        for (int i = 0; i < vehicles; i++) {
+            builder.node(CsrGraph.VEHICLES, String.valueOf(i), "Vehicle " + i);
+        }
+        for (int person = 0; person < people; person++) {
+            String uid = String.valueOf(person);
+            random.ints(1 + random.nextInt(3), 0, films).distinct()
+                    .forEach(film -> builder.link(uid, CsrGraph.FILMS, String.valueOf(film)));
+            random.ints(random.nextInt(3), 0, starships).distinct()
+                    .forEach(starship -> builder.link(uid, CsrGraph.STARSHIPS, String.valueOf(starship)));
+            random.ints(random.nextInt(3), 0, vehicles).distinct()
+                    .forEach(vehicle -> builder.link(uid, CsrGraph.VEHICLES, String.valueOf(vehicle)));
+        }
+        return builder.build();
+    }
+
+    private static long[] latencies(IntConsumer query) {
+        for (int i = 0; i < WARM_UP; i++) {
+            query.accept(i);
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.accept(i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,143 @@
+package com.starwars.infrastructure.adapter.out.graph;
+
+import com.starwars.domain.model.CoAppearance;
+import com.starwars.domain.model.Film;
+import com.starwars.domain.model.GraphNode;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Vehicle;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests del grafo de apariciones sobre un catálogo mínimo: tres films, una nave y un vehículo.
+ */
+@ExtendWith(MockitoExtension.class)
+class CharacterGraphIndexTest {
+
+    @Mock
+    private PeopleRepository peopleRepository;
+
+    @Mock
+    private FilmRepository filmRepository;
+
+    @Mock
+    private StarshipRepository starshipRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @InjectMocks
+    private CharacterGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Luke y Leia en los tres films; Han en dos; Wedge pilotea el mismo X-wing que Luke;
+        // Lobot solo comparte con Han el speeder de Cloud City
+        doAnswer(each(List.of(person("1", "Luke Skywalker"), person("5", "Leia Organa"), person("14", "Han Solo"),
+                person("18", "Wedge Antilles"), person("26", "Lobot")))).when(peopleRepository).exportAll(any());
+        doAnswer(each(List.of(film("1", "A New Hope"), film("2", "The Empire Strikes Back"),
+                film("3", "Return of the Jedi")))).when(filmRepository).exportAll(any());
+        doAnswer(each(List.of(Starship.builder().uid("12").name("X-wing").build())))
+                .when(starshipRepository).exportAll(any());
+        doAnswer(each(List.of(Vehicle.builder().uid("14").name("Snowspeeder").build())))
+                .when(vehicleRepository).exportAll(any());
+        givenLinks(List.of(
+                new String[]{"1", "1"}, new String[]{"1", "5"}, new String[]{"1", "14"},
+                new String[]{"2", "1"}, new String[]{"2", "5"}, new String[]{"2", "14"},
+                new String[]{"3", "1"}, new String[]{"3", "5"}));
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(0);
+            consumer.accept("1", "12");
+            consumer.accept("18", "12");
+            return null;
+        }).when(peopleRepository).exportStarshipLinks(any());
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(0);
+            consumer.accept("14", "14");
+            consumer.accept("26", "14");
+            // Un uid que no está en el catálogo se ignora
+            consumer.accept("99", "14");
+            return null;
+        }).when(peopleRepository).exportVehicleLinks(any());
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Debería contar los films compartidos y ordenar de quien más comparte a quien menos")
+    void testCoAppearances_ShouldCountSharedFilms() {
+        // ========== ACT ==========
+        List<CoAppearance> coAppearances = index.coAppearances("1", 10).orElseThrow();
+
+        // ========== ASSERT ==========
+        assertThat(coAppearances).extracting(CoAppearance::getName, CoAppearance::getSharedFilms)
+                .containsExactly(tuple("Leia Organa", 3), tuple("Han Solo", 2));
+        assertThat(index.coAppearances("1", 1).orElseThrow()).hasSize(1);
+        assertThat(index.coAppearance("14", "5").orElseThrow().getSharedFilms()).isEqualTo(2);
+        assertThat(index.coAppearance("18", "5").orElseThrow().getSharedFilms()).isZero();
+        assertThat(index.coAppearances("99", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería encontrar el camino más corto pasando solo por los tipos de enlace pedidos")
+    void testShortestPath_ShouldRespectLinkTypes() {
+        // ========== ACT ==========
+        List<GraphNode> anyLink = index.shortestPath("18", "26", Set.of("films", "starships", "vehicles")).orElseThrow();
+        List<GraphNode> filmsOnly = index.shortestPath("18", "26", Set.of("films")).orElseThrow();
+
+        // ========== ASSERT ==========
+        // Wedge -X-wing- Luke -film- Han -Snowspeeder- Lobot
+        assertThat(anyLink).extracting(GraphNode::getName)
+                .containsExactly("Wedge Antilles", "X-wing", "Luke Skywalker", "A New Hope", "Han Solo",
+                        "Snowspeeder", "Lobot");
+        assertThat(anyLink).extracting(GraphNode::getType)
+                .containsExactly("people", "starships", "people", "films", "people", "vehicles", "people");
+        assertThat(filmsOnly).isEmpty();
+        assertThat(index.shortestPath("5", "5", Set.of("films")).orElseThrow()).extracting(GraphNode::getUid)
+                .containsExactly("5");
+    }
+
+    private static <T> Answer<Long> each(List<T> items) {
+        return invocation -> {
+            Consumer<T> consumer = invocation.getArgument(0);
+            items.forEach(consumer);
+            return (long) items.size();
+        };
+    }
+
+    private void givenLinks(List<String[]> filmCharacters) {
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(0);
+            filmCharacters.forEach(link -> consumer.accept(link[0], link[1]));
+            return null;
+        }).when(filmRepository).exportCharacterLinks(any());
+    }
+
+    private static People person(String uid, String name) {
+        return People.builder().uid(uid).name(name).build();
+    }
+
+    private static Film film(String uid, String title) {
+        return Film.builder().uid(uid).title(title).build();
+    }
+}
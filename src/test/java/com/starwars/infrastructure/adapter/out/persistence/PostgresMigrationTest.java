@@ -0,0 +1,59 @@
+package com.starwars.infrastructure.adapter.out.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migraciones de Flyway sobre un PostgreSQL real, con las mismas ubicaciones que el perfil dev
+ * ({@code common} más {@code postgresql}). Los tests con H2 no pasan por los scripts propios de
+ * PostgreSQL; sin Docker este test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("Debería aplicar todas las migraciones y crear los índices de prefijo y trigram")
+    void testMigrate_ShouldApplyEveryMigration() {
+        // ========== ARRANGE ==========
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        // ========== ACT ==========
+        // Hasta V5, con fabricantes ya cargados para que V6 tenga qué reescribir
+        flyway(dataSource, "5").migrate();
+        jdbc.update("INSERT INTO starships (id, uid, name, manufacturer) VALUES (1, '3', 'Star Destroyer', "
+                + "'Kuat Drive Yards, Incom Corporation')");
+        MigrateResult result = flyway(dataSource, null).migrate();
+
+        // ========== ASSERT ==========
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("6");
+        assertThat(jdbc.queryForObject("SELECT search_manufacturer FROM starships WHERE uid = '3'", String.class))
+                .isEqualTo("|kuat drive yards|incom corporation|");
+        assertThat(jdbc.queryForList("SELECT indexname FROM pg_indexes WHERE tablename = 'starships'", String.class))
+                .contains("idx_starships_search_name_prefix", "idx_starships_search_name_trgm",
+                        "idx_starships_search_manufacturer_trgm");
+        assertThat(jdbc.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class)).isZero();
+    }
+
+    private static Flyway flyway(DriverManagerDataSource dataSource, String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .target(target == null ? "latest" : target)
+                .load();
+    }
+}
@@ -0,0 +1,91 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.domain.model.Starship;
+import com.starwars.infrastructure.adapter.out.persistence.entity.StarshipEntity;
+import com.starwars.infrastructure.adapter.out.persistence.repository.StarshipJpaRepository;
+import com.starwars.infrastructure.config.SecondLevelCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la caché de segundo nivel de Hibernate sobre las naves.
+ * Sin transacción de test: las escrituras pendientes de commit desactivan la caché de consultas.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StarshipRepositoryAdapter.class, CatalogUpsertWriter.class})
+class CatalogSecondLevelCacheTest {
+
+    @Autowired
+    private StarshipRepositoryAdapter adapter;
+
+    @Autowired
+    private StarshipJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        adapter.upsertAll(List.of(Starship.builder().uid("3000").name("Naboo Royal Starship").build()));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Debería servir desde caché las lecturas repetidas por uid y por id")
+    void testRepeatedReads_ShouldHitCache() {
+        // ========== ARRANGE ==========
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new SecondLevelCacheMetrics(entityManagerFactory, meterRegistry);
+
+        // ========== ACT ==========
+        Long id = adapter.findByUid("3000").orElseThrow().getId();
+        Starship byUid = adapter.findByUid("3000").orElseThrow();
+        Starship byId = adapter.findById(id).orElseThrow();
+
+        // ========== ASSERT ==========
+        assertThat(byUid.getName()).isEqualTo("Naboo Royal Starship");
+        assertThat(byId.getName()).isEqualTo("Naboo Royal Starship");
+        // findByUid sale de la caché de consultas y findById de la región de la entidad
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(StarshipEntity.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.cache.hit.ratio").tag("region", "query").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Debería invalidar la caché cuando el upsert escribe por JDBC")
+    void testUpsertAll_ShouldEvictCachedRows() {
+        // ========== ARRANGE ==========
+        adapter.findByUid("3000");
+
+        // ========== ACT ==========
+        adapter.upsertAll(List.of(Starship.builder().uid("3000").name("Naboo Royal Cruiser").build()));
+        Starship afterUpsert = adapter.findByUid("3000").orElseThrow();
+
+        // ========== ASSERT ==========
+        assertThat(afterUpsert.getName()).isEqualTo("Naboo Royal Cruiser");
+    }
+}
@@ -0,0 +1,75 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.infrastructure.adapter.out.persistence.repository.FilmJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes asignados por página de films: entidades completas contra la proyección del listado.
+ * No corre con {@code mvn test}; se ejecuta con {@code mvn test -Pbenchmark}.
+ * <p>
+ * H2 en memoria devuelve los textos ya materializados, así que aquí no se ve el costo de leer
+ * {@code opening_crawl} desde la red; la diferencia medida es la de hidratar entidades.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+class FilmListAllocationBenchmarkTest {
+
+    private static final int FILMS = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private FilmJpaRepository jpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.rangeClosed(1, FILMS)
+                .forEach(i -> entityManager.persist(FilmRepositoryAdapterTest.film(String.valueOf(i), "Film " + i, i)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Mide la memoria asignada por página con entidades y con la proyección del listado")
+    void benchmarkAllocationPerPage() {
+        long entityBytes = allocatedPerPage(() -> jpaRepository.findAll(PageRequest.of(3, PAGE_SIZE)).getContent());
+        long projectionBytes = allocatedPerPage(() -> jpaRepository.findAllProjectedBy(PageRequest.of(3, PAGE_SIZE)).getContent());
+
+        log.info("Allocated per page of {} films: entities {} B, projection {} B", PAGE_SIZE, entityBytes, projectionBytes);
+        assertThat(entityBytes).isPositive();
+        assertThat(projectionBytes).isPositive();
+    }
+
+    private long allocatedPerPage(Runnable query) {
+        for (int i = 0; i < WARM_UP; i++) {
+            query.run();
+            entityManager.clear();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+            // Sin clear las entidades quedarían en el contexto y las siguientes páginas no se hidratarían
+            entityManager.clear();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,119 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.infrastructure.adapter.out.persistence.entity.FilmEntity;
+import com.starwars.infrastructure.adapter.out.persistence.entity.PeopleEntity;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de las proyecciones y relaciones de FilmRepositoryAdapter sobre H2.
+ */
+@DataJpaTest
+@Import({FilmRepositoryAdapter.class, CatalogUpsertWriter.class})
+class FilmRepositoryAdapterTest {
+
+    @Autowired
+    private FilmRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long newHopeId;
+
+    @BeforeEach
+    void setUp() {
+        newHopeId = entityManager.persistAndGetId(film("1", "A New Hope", 4), Long.class);
+        entityManager.persist(film("2", "The Empire Strikes Back", 5));
+        entityManager.persist(film("3", "Return of the Jedi", 6));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debería listar los films sin cargar el openingCrawl ni dejarlos en el contexto de persistencia")
+    void testFindAll_ShouldUseProjectionWithoutOpeningCrawl() {
+        // ========== ACT ==========
+        Page<Film> page = adapter.findAll(PageRequest.of(0, 2, Sort.by("episodeId")));
+
+        // ========== ASSERT ==========
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Film::getTitle)
+                .containsExactly("A New Hope", "The Empire Strikes Back");
+        assertThat(page.getContent()).extracting(Film::getOpeningCrawl).containsOnlyNulls();
+        assertThat(page.getContent()).extracting(Film::getReleaseDate).doesNotContainNull();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería traer el openingCrawl completo en el detalle")
+    void testFindById_ShouldLoadOpeningCrawl() {
+        // ========== ACT ==========
+        Film film = adapter.findById(newHopeId).orElseThrow();
+
+        // ========== ASSERT ==========
+        assertThat(film.getOpeningCrawl()).hasSize(4000);
+    }
+
+    @Test
+    @DisplayName("Debería buscar por título sin distinguir mayúsculas ni acentos")
+    void testFindByTitleContaining_ShouldMatchNormalizedTitle() {
+        // ========== ACT ==========
+        Page<Film> page = adapter.findByTitleContaining("JÉDI", PageRequest.of(0, 10));
+
+        // ========== ASSERT ==========
+        assertThat(page.getContent()).extracting(Film::getUid).containsExactly("3");
+        assertThat(page.getContent().get(0).getOpeningCrawl()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería enlazar los personajes por uid y traerlos ordenados en una sola consulta")
+    void testUpsertAll_ShouldReplaceCharacterLinks() {
+        // ========== ARRANGE ==========
+        entityManager.persist(PeopleEntity.builder().uid("1").name("Luke Skywalker").build());
+        entityManager.persist(PeopleEntity.builder().uid("4").name("Darth Vader").build());
+        entityManager.flush();
+        Film newHope = Film.builder().uid("1").title("A New Hope").episodeId(4).build();
+
+        // ========== ACT ==========
+        // "99" no está sincronizado y se ignora
+        adapter.upsertAll(List.of(newHope), Map.of("1", List.of("1", "4", "99")), Map.of(), Map.of());
+        entityManager.clear();
+        Optional<List<People>> characters = adapter.findCharacters("1");
+
+        // ========== ASSERT ==========
+        assertThat(characters).isPresent();
+        assertThat(characters.get()).extracting(People::getName).containsExactly("Darth Vader", "Luke Skywalker");
+        assertThat(adapter.findCharacters("2")).contains(List.of());
+        assertThat(adapter.findCharacters("404")).isEmpty();
+    }
+
+    static FilmEntity film(String uid, String title, int episodeId) {
+        return FilmEntity.builder()
+                .uid(uid)
+                .title(title)
+                .episodeId(episodeId)
+                .openingCrawl("It is a period of civil war. ".repeat(200).substring(0, 4000))
+                .director("George Lucas")
+                .releaseDate(LocalDate.of(1976 + episodeId - 3, 5, 25))
+                .url("https://www.swapi.tech/api/films/" + uid)
+                .build();
+    }
+}
@@ -0,0 +1,231 @@
+package com.starwars.infrastructure.adapter.out.persistence.adapter;
+
+import com.starwars.domain.exception.InvalidCursorException;
+import com.starwars.domain.model.CursorPage;
+import com.starwars.domain.model.SearchFilter;
+import com.starwars.domain.model.SpecFilter;
+import com.starwars.domain.model.Starship;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests de la paginación keyset de StarshipRepositoryAdapter sobre H2.
+ */
+@DataJpaTest
+@Import({StarshipRepositoryAdapter.class, CatalogUpsertWriter.class})
+class StarshipRepositoryAdapterTest {
+
+    @Autowired
+    private StarshipRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // Dos naves con el mismo nombre: el id desempata el orden
+        List.of("X-wing", "Death Star", "Millennium Falcon", "TIE Advanced x1", "Y-wing", "X-wing")
+                .forEach(name -> adapter.save(Starship.builder()
+                        .uid(name + "-" + System.nanoTime())
+                        .name(name)
+                        .build()));
+    }
+
+    @Test
+    @DisplayName("Debería recorrer todas las naves por nombre sin repetir ni saltear ninguna")
+    void testFindAllAfter_ShouldWalkAllPagesInOrder() {
+        // ========== ARRANGE ==========
+        List<String> names = new ArrayList<>();
+        String cursor = "";
+
+        // ========== ACT ==========
+        do {
+            CursorPage<Starship> page = adapter.findAllAfter(cursor, 2, false);
+            page.getContent().forEach(starship -> names.add(starship.getName()));
+            assertThat(page.getTotalElements()).isNull();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // ========== ASSERT ==========
+        assertThat(names).containsExactly(
+                "Death Star", "Millennium Falcon", "TIE Advanced x1", "X-wing", "X-wing", "Y-wing");
+    }
+
+    @Test
+    @DisplayName("Debería filtrar por nombre y calcular el total solo cuando se pide")
+    void testFindByNameContainingAfter_WithTotal_ShouldCountMatches() {
+        // ========== ACT ==========
+        CursorPage<Starship> first = adapter.findByNameContainingAfter("WING", null, 2, true);
+        CursorPage<Starship> second = adapter.findByNameContainingAfter("WING", first.getNextCursor(), 2, true);
+
+        // ========== ASSERT ==========
+        assertThat(first.getContent()).extracting(Starship::getName).containsExactly("X-wing", "X-wing");
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(second.getContent()).extracting(Starship::getName).containsExactly("Y-wing");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería filtrar por rango sobre las columnas numéricas y paginar con cursor")
+    void testFindBySpecsAfter_ShouldFilterInDatabase() {
+        // ========== ARRANGE ==========
+        adapter.save(Starship.builder().uid("10").name("Millennium Falcon II").lengthValue(34.37).crewValue(4L).build());
+        adapter.save(Starship.builder().uid("9").name("Death Star II").lengthValue(120000.0).crewValue(342953L).build());
+        adapter.save(Starship.builder().uid("22").name("Imperial shuttle").lengthValue(20.0).crewValue(6L).build());
+        // Sin crew conocido: nunca entra en un filtro por crew
+        adapter.save(Starship.builder().uid("99").name("Unknown ship").lengthValue(25.0).build());
+        SpecFilter filter = SpecFilter.builder().minLength(10.0).maxCrew(10L).build();
+
+        // ========== ACT ==========
+        CursorPage<Starship> first = adapter.findBySpecsAfter(filter, "", 1, true);
+        CursorPage<Starship> second = adapter.findBySpecsAfter(filter, first.getNextCursor(), 1, false);
+
+        // ========== ASSERT ==========
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(first.getContent()).extracting(Starship::getName).containsExactly("Imperial shuttle");
+        assertThat(second.getContent()).extracting(Starship::getName).containsExactly("Millennium Falcon II");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debería buscar por prefijo sin distinguir mayúsculas ni acentos")
+    void testFindByNamePrefixAfter_ShouldMatchNormalizedPrefix() {
+        // ========== ARRANGE ==========
+        adapter.save(Starship.builder().uid("500").name("Ébon Hawk").build());
+
+        // ========== ACT ==========
+        CursorPage<Starship> accented = adapter.findByNamePrefixAfter("EBON", "", 10, true);
+        CursorPage<Starship> prefix = adapter.findByNamePrefixAfter("x-", "", 10, false);
+        // "wing" aparece dentro del nombre pero no al principio
+        CursorPage<Starship> infixOnly = adapter.findByNamePrefixAfter("wing", "", 10, false);
+
+        // ========== ASSERT ==========
+        assertThat(accented.getContent()).extracting(Starship::getName).containsExactly("Ébon Hawk");
+        assertThat(accented.getTotalElements()).isEqualTo(1);
+        assertThat(prefix.getContent()).extracting(Starship::getName).containsExactly("X-wing", "X-wing");
+        assertThat(infixOnly.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería combinar nombre, modelo y fabricante en una sola consulta paginada")
+    void testFindBySearchAfter_ShouldIntersectTextFilters() {
+        // ========== ARRANGE ==========
+        adapter.upsertAll(List.of(
+                Starship.builder().uid("s-1").name("Executor").model("Executor-class star dreadnought")
+                        .manufacturer("Kuat Drive Yards, Fondor Shipyards").starshipClass("Star dreadnought").build(),
+                Starship.builder().uid("s-2").name("Star Destroyer").model("Imperial I-class Star Destroyer")
+                        .manufacturer("Kuat Drive Yards").starshipClass("Star Destroyer").build(),
+                Starship.builder().uid("s-3").name("Star Courier").model("Executor-class courier")
+                        .manufacturer("Sienar Fleet Systems").starshipClass("Courier").build()));
+        SearchFilter filter = SearchFilter.builder().name("STAR").model("class").manufacturer("kuat drive yards").build();
+
+        // ========== ACT ==========
+        CursorPage<Starship> page = adapter.findBySearchAfter(filter, "", 10, true);
+        CursorPage<Starship> byClass = adapter.findBySearchAfter(
+                SearchFilter.builder().model("executor").craftClass("Star Dreadnought").prefix(true).build(), "", 10, false);
+
+        // ========== ASSERT ==========
+        assertThat(page.getContent()).extracting(Starship::getName).containsExactly("Star Destroyer");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(byClass.getContent()).extracting(Starship::getName).containsExactly("Executor");
+    }
+
+    @Test
+    @DisplayName("Debería comparar fabricante y clase enteros, con las mismas reglas que las facetas")
+    void testFindBySearchAfter_ShouldMatchWholeManufacturerAndClass() {
+        // ========== ARRANGE ==========
+        adapter.upsertAll(List.of(
+                Starship.builder().uid("s-1").name("Executor").manufacturer("Kuat Drive Yards, Fondor Shipyards")
+                        .starshipClass("Star dreadnought").build(),
+                Starship.builder().uid("s-2").name("Rebel transport").manufacturer("Gallofree Yards, Inc.")
+                        .starshipClass("Medium transport").build()));
+
+        // ========== ACT ==========
+        CursorPage<Starship> secondManufacturer = adapter.findBySearchAfter(
+                SearchFilter.builder().manufacturer("FONDOR SHIPYARDS").build(), "", 10, false);
+        CursorPage<Starship> withSuffix = adapter.findBySearchAfter(
+                SearchFilter.builder().manufacturer("Gallofree Yards, Inc.").build(), "", 10, false);
+        CursorPage<Starship> partialManufacturer = adapter.findBySearchAfter(
+                SearchFilter.builder().manufacturer("kuat").build(), "", 10, false);
+        CursorPage<Starship> partialClass = adapter.findBySearchAfter(
+                SearchFilter.builder().craftClass("transport").build(), "", 10, false);
+
+        // ========== ASSERT ==========
+        assertThat(secondManufacturer.getContent()).extracting(Starship::getName).containsExactly("Executor");
+        assertThat(withSuffix.getContent()).extracting(Starship::getName).containsExactly("Rebel transport");
+        assertThat(partialManufacturer.getContent()).isEmpty();
+        assertThat(partialClass.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería tratar los comodines de LIKE como texto literal")
+    void testFindByNameContainingAfter_WithWildcards_ShouldMatchLiterally() {
+        CursorPage<Starship> result = adapter.findByNameContainingAfter("%", null, 10, false);
+
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería insertar las naves nuevas y actualizar por uid las existentes conservando su id")
+    void testUpsertAll_ShouldKeepIdsAndUpdateValues() {
+        // ========== ARRANGE ==========
+        adapter.upsertAll(List.of(Starship.builder().uid("2000").name("Razor Crest").crewValue(1L).build()));
+        entityManager.clear();
+        Long id = adapter.findByUid("2000").orElseThrow().getId();
+
+        // ========== ACT ==========
+        int written = adapter.upsertAll(List.of(
+                Starship.builder().uid("2000").name("Razor Crest Mk II").crewValue(2L).build(),
+                Starship.builder().uid("2001").name("Slave I").crewValue(1L).build()));
+        entityManager.clear();
+
+        // ========== ASSERT ==========
+        Starship updated = adapter.findByUid("2000").orElseThrow();
+        assertThat(written).isEqualTo(2);
+        assertThat(updated.getId()).isEqualTo(id);
+        assertThat(updated.getName()).isEqualTo("Razor Crest Mk II");
+        assertThat(updated.getCrewValue()).isEqualTo(2L);
+        assertThat(adapter.findByUid("2001")).isPresent();
+        // search_name se escribe aunque el upsert no pase por los callbacks de la entidad
+        assertThat(adapter.findByNamePrefixAfter("razor", "", 10, false).getContent())
+                .extracting(Starship::getUid).containsExactly("2000");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un cursor que no fue emitido por la API")
+    void testFindAllAfter_WithInvalidCursor_ShouldThrow() {
+        assertThatThrownBy(() -> adapter.findAllAfter("not-a-cursor", 10, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Debería exportar todas las naves en orden de id sin retenerlas en el contexto de persistencia")
+    void testExportAll_ShouldStreamInIdOrderAndDetach() {
+        // ========== ARRANGE ==========
+        entityManager.flush();
+        entityManager.clear();
+        List<Starship> exported = new ArrayList<>();
+
+        // ========== ACT ==========
+        long count = adapter.exportAll(exported::add);
+
+        // ========== ASSERT ==========
+        assertThat(count).isEqualTo(6);
+        assertThat(exported).extracting(Starship::getName).containsExactly(
+                "X-wing", "Death Star", "Millennium Falcon", "TIE Advanced x1", "Y-wing", "X-wing");
+        assertThat(exported).extracting(Starship::getId).isSorted();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
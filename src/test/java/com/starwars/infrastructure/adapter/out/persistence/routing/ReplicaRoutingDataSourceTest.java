@@ -0,0 +1,167 @@
+package com.starwars.infrastructure.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests del enrutado de lecturas sobre dos instancias H2 en memoria: un primario y una réplica.
+ * Cada base tiene una tabla {@code marker} con su nombre para saber quién atendió la consulta.
+ * La réplica no replica nada: su heartbeat se escribe a mano para simular el lag. Ambas bases tienen
+ * la tabla de heartbeat con su fila, como las deja la migración V5.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primaryDb;
+    private JdbcTemplate replicaDb;
+    private ReplicaRoutingDataSource routing;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryDb = new JdbcTemplate(primary);
+        replicaDb = new JdbcTemplate(replica);
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), 5_000);
+        monitor = new ReplicaLagMonitor(routing, new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryDb.execute("SHUTDOWN");
+        replicaDb.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Debería enviar las transacciones de solo lectura a la réplica y las de escritura al primario")
+    void testGetConnection_WhenReplicaIsFresh_ShouldRouteReadsToReplica() {
+        // ========== ARRANGE ==========
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.checkLag();
+
+        // ========== ACT ==========
+        String read = readOnly.execute(status -> marker());
+        String written = readWrite.execute(status -> marker());
+
+        // ========== ASSERT ==========
+        assertThat(read).isEqualTo("replica");
+        assertThat(written).isEqualTo("primary");
+        assertThat(routing.fallbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debería volver al primario cuando la réplica supera el lag máximo")
+    void testGetConnection_WhenReplicaLags_ShouldFallBackToPrimary() {
+        // ========== ARRANGE ==========
+        replicaHeartbeat(System.currentTimeMillis() - 60_000);
+        monitor.checkLag();
+
+        // ========== ACT ==========
+        String read = readOnly.execute(status -> marker());
+
+        // ========== ASSERT ==========
+        assertThat(read).isEqualTo("primary");
+        assertThat(routing.replicas().get(0).lagMillis()).isGreaterThanOrEqualTo(60_000);
+        assertThat(routing.fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería dejar fuera una réplica a la que no llega el heartbeat")
+    void testCheckLag_WhenReplicaHasNoHeartbeat_ShouldFallBackToPrimary() {
+        // ========== ARRANGE ==========
+        replicaDb.execute("DROP TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+
+        // ========== ACT ==========
+        monitor.checkLag();
+        String read = readOnly.execute(status -> marker());
+
+        // ========== ASSERT ==========
+        assertThat(read).isEqualTo("primary");
+        assertThat(routing.replicas().get(0).lagMillis()).isEqualTo(-1);
+        // El primario sí recibió el heartbeat
+        assertThat(primaryDb.queryForObject("SELECT COUNT(*) FROM " + ReplicaLagMonitor.HEARTBEAT_TABLE, Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería leer del primario tras una escritura hasta que la réplica recibe un heartbeat posterior")
+    void testGetConnection_AfterWrite_ShouldReadFromPrimaryUntilReplicaCatchesUp() throws InterruptedException {
+        // ========== ARRANGE ==========
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.checkLag();
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = name"));
+
+        // ========== ACT ==========
+        String beforeCatchUp = readOnly.execute(status -> marker());
+        Thread.sleep(5);
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.checkLag();
+        String afterCatchUp = readOnly.execute(status -> marker());
+
+        // ========== ASSERT ==========
+        // La réplica estaba dentro del lag máximo, pero aún sin la escritura
+        assertThat(beforeCatchUp).isEqualTo("primary");
+        assertThat(afterCatchUp).isEqualTo("replica");
+        assertThat(routing.fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería dejar fuera la réplica si no se puede escribir el heartbeat en el primario")
+    void testCheckLag_WhenHeartbeatWriteFails_ShouldResetReplicaLag() {
+        // ========== ARRANGE ==========
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.checkLag();
+        primaryDb.execute("DROP TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+
+        // ========== ACT ==========
+        monitor.checkLag();
+        String read = readOnly.execute(status -> marker());
+
+        // ========== ASSERT ==========
+        assertThat(read).isEqualTo("primary");
+        assertThat(routing.replicas().get(0).lagMillis()).isEqualTo(-1);
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private void replicaHeartbeat(long beatAt) {
+        replicaDb.update("UPDATE " + ReplicaLagMonitor.HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1", beatAt);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        jdbc.execute("CREATE TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE + " (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO " + ReplicaLagMonitor.HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, 0)");
+        return dataSource;
+    }
+}
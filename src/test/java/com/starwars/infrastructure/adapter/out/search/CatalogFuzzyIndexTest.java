@@ -0,0 +1,136 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.People;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests de la búsqueda aproximada por nombre sobre el BK-tree con un catálogo pequeño de personajes.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogFuzzyIndexTest {
+
+    @Mock
+    private PeopleRepository peopleRepository;
+
+    private AccessFrequencyTracker tracker;
+    private PeopleFuzzyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new AccessFrequencyTracker(60_000);
+        index = new PeopleFuzzyIndex(peopleRepository, tracker, 2, 50);
+    }
+
+    @Test
+    @DisplayName("Debería tolerar errores de tipeo y ordenar por distancia y luego por popularidad")
+    void testSearch_ShouldRankByDistanceThenPopularity() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        tracker.record("people:id:43");
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<People> skywalkers = index.search("Skywaler");
+        List<People> luke = index.search("Luke Skywaler");
+
+        // ========== ASSERT ==========
+        // Los tres Skywalker están a distancia 1; Shmi es la única con accesos registrados
+        assertThat(skywalkers).extracting(People::getName)
+                .containsExactly("Shmi Skywalker", "Luke Skywalker", "Anakin Skywalker");
+        // El nombre completo está a distancia 1; las demás palabras quedan fuera de la cota
+        assertThat(luke).extracting(People::getName).containsExactly("Luke Skywalker");
+        assertThat(index.search("Padme")).extracting(People::getName).containsExactly("Padmé Amidala");
+    }
+
+    @Test
+    @DisplayName("Debería acotar la distancia según el largo de la consulta")
+    void testSearch_ShouldBoundDistanceByQueryLength() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        index.rebuild();
+
+        // ========== ACT & ASSERT ==========
+        // Hasta 3 caracteres solo se admiten palabras exactas
+        assertThat(index.search("han")).extracting(People::getName).containsExactly("Han Solo");
+        assertThat(index.search("hab")).isEmpty();
+        // Con 5 caracteres se admite un error pero no dos
+        assertThat(index.search("chewy")).isEmpty();
+        assertThat(index.search("Chewbaca")).extracting(People::getName).containsExactly("Chewbacca");
+        assertThat(index.maxDistance(3)).isZero();
+        assertThat(index.maxDistance(5)).isEqualTo(1);
+        assertThat(index.maxDistance(12)).isEqualTo(2);
+        assertThat(new PeopleFuzzyIndex(peopleRepository, tracker, 1, 50).maxDistance(12)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería encontrar en el BK-tree los mismos términos que una comparación contra todos")
+    void testBkTree_ShouldMatchLinearScan() {
+        // ========== ARRANGE ==========
+        Random random = new Random(42);
+        Map<String, int[]> postings = new LinkedHashMap<>();
+        while (postings.size() < 2_000) {
+            postings.put(randomWord(random), new int[]{postings.size()});
+        }
+        BkTree tree = BkTree.build(postings);
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            // ========== ACT ==========
+            TreeSet<Integer> found = new TreeSet<>();
+            tree.search(query, 2, (elements, distance) -> found.add(elements[0]));
+
+            // ========== ASSERT ==========
+            TreeSet<Integer> expected = new TreeSet<>();
+            postings.forEach((term, elements) -> {
+                if (BkTree.distance(query, term) <= 2) {
+                    expected.add(elements[0]);
+                }
+            });
+            assertThat(found).isEqualTo(expected);
+        }
+        assertThat(BkTree.distance("millenium falcon", "millennium falcon")).isEqualTo(1);
+        assertThat(BkTree.distance("", "x1")).isEqualTo(2);
+    }
+
+    private void givenCatalog() {
+        List<People> people = new ArrayList<>(List.of(
+                People.builder().uid("1").name("Luke Skywalker").build(),
+                People.builder().uid("11").name("Anakin Skywalker").build(),
+                People.builder().uid("43").name("Shmi Skywalker").build(),
+                People.builder().uid("14").name("Han Solo").build(),
+                People.builder().uid("13").name("Chewbacca").build(),
+                People.builder().uid("35").name("Padmé Amidala").build()));
+        doAnswer(invocation -> {
+            Consumer<People> consumer = invocation.getArgument(0);
+            people.forEach(consumer);
+            return (long) people.size();
+        }).when(peopleRepository).exportAll(any());
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(word);
+    }
+}
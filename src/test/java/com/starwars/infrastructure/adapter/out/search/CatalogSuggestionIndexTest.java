@@ -0,0 +1,138 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.Film;
+import com.starwars.domain.model.People;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.model.Suggestion;
+import com.starwars.domain.port.out.FilmRepository;
+import com.starwars.domain.port.out.PeopleRepository;
+import com.starwars.domain.port.out.StarshipRepository;
+import com.starwars.domain.port.out.VehicleRepository;
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests del autocompletado sobre el trie de prefijos con un catálogo pequeño.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogSuggestionIndexTest {
+
+    @Mock
+    private FilmRepository filmRepository;
+
+    @Mock
+    private PeopleRepository peopleRepository;
+
+    @Mock
+    private StarshipRepository starshipRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private AccessFrequencyTracker tracker;
+    private CatalogSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new AccessFrequencyTracker(60_000);
+        index = new CatalogSuggestionIndex(filmRepository, peopleRepository, starshipRepository, vehicleRepository, tracker, 3);
+    }
+
+    @Test
+    @DisplayName("Debería sugerir por el inicio de cualquier palabra, del más popular al menos popular")
+    void testSuggest_ShouldRankByPopularity() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        tracker.record("people:id:11");
+        tracker.record("people:id:11");
+        tracker.record("people:id:43");
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<Suggestion> suggestions = index.suggest("SKY", Set.of("people"), 10);
+
+        // ========== ASSERT ==========
+        // El tope es max-suggestions (3) y el empate en popularidad lo gana el nombre más corto
+        assertThat(suggestions).extracting(Suggestion::getLabel)
+                .containsExactly("Anakin Skywalker", "Shmi Skywalker", "Luke Skywalker");
+    }
+
+    @Test
+    @DisplayName("Debería combinar recursos respetando los tipos pedidos")
+    void testSuggest_ShouldFilterByTypes() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<Suggestion> all = index.suggest("a", Set.of("films", "people", "starships", "vehicles"), 10);
+        List<Suggestion> starships = index.suggest("a", Set.of("starships"), 10);
+
+        // ========== ASSERT ==========
+        // Sin popularidad registrada gana el nombre más corto, sea del recurso que sea
+        assertThat(all).extracting(Suggestion::getLabel)
+                .containsExactly("A New Hope", "TIE Advanced x1", "Anakin Skywalker");
+        assertThat(starships).extracting(Suggestion::getLabel).containsExactly("TIE Advanced x1");
+        assertThat(index.suggest("zz", Set.of("people"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería guardar en cada nodo solo los k mejores del subárbol sin repetir elementos")
+    void testPrefixTrie_ShouldKeepTopKPerNode() {
+        // ========== ARRANGE ==========
+        // El elemento 0 tiene dos claves bajo "s": no debe aparecer dos veces
+        PrefixTrie trie = PrefixTrie.build(List.of(
+                List.of("sand crawler", "crawler"),
+                List.of("snowspeeder"),
+                List.of("sail barge", "barge"),
+                List.of("speeder bike", "bike"),
+                List.of("crawler s", "s")), 2);
+
+        // ========== ACT & ASSERT ==========
+        assertThat(trie.complete("s", 10)).containsExactly(0, 1);
+        assertThat(trie.complete("sp", 10)).containsExactly(3);
+        assertThat(trie.complete("crawler", 10)).containsExactly(0, 4);
+        assertThat(trie.complete("", 1)).containsExactly(0);
+        assertThat(trie.complete("x", 10)).isEmpty();
+    }
+
+    private void givenCatalog() {
+        doAnswer(exporting(List.of(Film.builder().uid("1").title("A New Hope").build())))
+                .when(filmRepository).exportAll(any());
+        doAnswer(exporting(List.of(
+                People.builder().uid("1").name("Luke Skywalker").build(),
+                People.builder().uid("11").name("Anakin Skywalker").build(),
+                People.builder().uid("43").name("Shmi Skywalker").build(),
+                People.builder().uid("14").name("Han Solo").build(),
+                People.builder().uid("13").name("Chewbacca").build())))
+                .when(peopleRepository).exportAll(any());
+        doAnswer(exporting(List.of(
+                Starship.builder().uid("13").name("TIE Advanced x1").build(),
+                Starship.builder().uid("10").name("Millennium Falcon").build())))
+                .when(starshipRepository).exportAll(any());
+        doAnswer(exporting(List.of())).when(vehicleRepository).exportAll(any());
+    }
+
+    // Simula exportAll entregando cada elemento al consumer recibido
+    private static <T> Answer<Long> exporting(List<T> items) {
+        return invocation -> {
+            Consumer<T> consumer = invocation.getArgument(0);
+            items.forEach(consumer);
+            return (long) items.size();
+        };
+    }
+}
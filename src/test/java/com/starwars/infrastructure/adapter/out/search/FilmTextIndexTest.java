@@ -0,0 +1,142 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.domain.model.Film;
+import com.starwars.domain.model.SearchHit;
+import com.starwars.domain.port.out.FilmRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests de la búsqueda de texto completo sobre los tres films de la trilogía original.
+ */
+@ExtendWith(MockitoExtension.class)
+class FilmTextIndexTest {
+
+    private static final String NEW_HOPE_CRAWL = "It is a period of civil war.\r\nRebel spaceships, striking\r\n"
+            + "from a hidden base, have won\r\ntheir first victory against\r\nthe evil Galactic Empire.\r\n\r\n"
+            + "During the battle, Rebel\r\nspies managed to steal secret\r\nplans to the Empire's\r\n"
+            + "ultimate weapon, the DEATH\r\nSTAR, an armored space\r\nstation with enough power\r\n"
+            + "to destroy an entire planet.";
+    private static final String EMPIRE_CRAWL = "It is a dark time for the\r\nRebellion. Although the Death\r\n"
+            + "Star has been destroyed,\r\nImperial troops have driven the\r\nRebel forces from their hidden\r\n"
+            + "base and pursued them across\r\nthe galaxy.";
+    private static final String JEDI_CRAWL = "Luke Skywalker has returned to\r\nhis home planet of Tatooine in\r\n"
+            + "an attempt to rescue his\r\nfriend Han Solo from the\r\nclutches of the vile gangster\r\n"
+            + "Jabba the Hutt.\r\n\r\nWhen completed, this ultimate\r\nweapon will spell certain doom\r\n"
+            + "for the small band of rebels\r\nstruggling to restore freedom\r\nto the galaxy...";
+
+    @Mock
+    private FilmRepository filmRepository;
+
+    private FilmTextIndex index;
+    private List<Film> films;
+
+    @BeforeEach
+    void setUp() {
+        index = new FilmTextIndex(filmRepository, 50);
+        films = new ArrayList<>(List.of(
+                film("1", "A New Hope", "George Lucas", "Gary Kurtz, Rick McCallum", NEW_HOPE_CRAWL),
+                film("2", "The Empire Strikes Back", "Irvin Kershner", "Gary Kurtz, Rick McCallum", EMPIRE_CRAWL),
+                film("3", "Return of the Jedi", "Richard Marquand", "Howard G. Kazanjian, George Lucas, Rick McCallum", JEDI_CRAWL)));
+    }
+
+    @Test
+    @DisplayName("Debería ordenar por BM25 reduciendo las palabras a su raíz y resaltar las coincidencias")
+    void testSearch_ShouldRankAndHighlight() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<SearchHit<Film>> hits = index.search("rebel spaceship");
+
+        // ========== ASSERT ==========
+        // Solo A New Hope tiene los dos términos; "rebels" comparte raíz con "rebel" y "Rebellion" no
+        assertThat(hits).extracting(hit -> hit.getItem().getTitle())
+                .containsExactlyInAnyOrder("A New Hope", "Return of the Jedi", "The Empire Strikes Back");
+        assertThat(hits.get(0).getItem().getTitle()).isEqualTo("A New Hope");
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+        assertThat(hits.get(0).getHighlights()).containsOnlyKeys("openingCrawl");
+        assertThat(hits.get(0).getHighlights().get("openingCrawl"))
+                .startsWith("It is a period of civil war. <em>Rebel</em> <em>spaceships</em>, striking")
+                .doesNotContain("\r\n");
+        assertThat(hits).filteredOn(hit -> hit.getItem().getUid().equals("3"))
+                .singleElement()
+                .satisfies(hit -> assertThat(hit.getHighlights().get("openingCrawl")).contains("<em>rebels</em>"));
+    }
+
+    @Test
+    @DisplayName("Debería dar más peso al director que a los productores y buscar en todos los campos")
+    void testSearch_ShouldWeightFields() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<SearchHit<Film>> hits = index.search("George Lucas");
+
+        // ========== ASSERT ==========
+        assertThat(hits).extracting(hit -> hit.getItem().getUid()).containsExactly("1", "3");
+        assertThat(hits.get(0).getHighlights()).containsEntry("director", "<em>George</em> <em>Lucas</em>");
+        assertThat(hits.get(1).getHighlights())
+                .containsEntry("producer", "Howard G. Kazanjian, <em>George</em> <em>Lucas</em>, Rick McCallum");
+        assertThat(index.search("the of and")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería reflejar los cambios de un film al reconstruir el índice")
+    void testRebuild_ShouldPickUpChangedFilms() {
+        // ========== ARRANGE ==========
+        givenCatalog();
+        index.rebuild();
+        assertThat(index.search("hoth")).isEmpty();
+
+        // ========== ACT ==========
+        films.set(1, film("2", "The Empire Strikes Back", "Irvin Kershner", "Gary Kurtz, Rick McCallum",
+                EMPIRE_CRAWL + "\r\nA new secret base on the remote ice world of Hoth."));
+        index.rebuild();
+
+        // ========== ASSERT ==========
+        assertThat(index.search("hoth")).extracting(hit -> hit.getItem().getUid()).containsExactly("2");
+        assertThat(index.search("spaceships")).extracting(hit -> hit.getItem().getUid()).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Debería recortar los textos largos alrededor de las coincidencias y escapar el HTML")
+    void testSnippet_ShouldTrimAndEscape() {
+        // ========== ACT ==========
+        String trimmed = Bm25Index.snippet(NEW_HOPE_CRAWL, Set.of(TextAnalyzer.stem("weapon")), 80);
+        String escaped = Bm25Index.snippet("Han & Leia <3 rebels", Set.of("rebel"), 160);
+
+        // ========== ASSERT ==========
+        assertThat(trimmed).startsWith("… ").endsWith(" …").contains("<em>weapon</em>");
+        assertThat(escaped).isEqualTo("Han &amp; Leia &lt;3 <em>rebels</em>");
+        assertThat(TextAnalyzer.terms("The Empire's rebels were hoping, attacked the galaxy"))
+                .containsExactly("empire", "rebel", "were", "hope", "attack", "galaxi");
+    }
+
+    private void givenCatalog() {
+        doAnswer(invocation -> {
+            Consumer<Film> consumer = invocation.getArgument(0);
+            films.forEach(consumer);
+            return (long) films.size();
+        }).when(filmRepository).exportAll(any());
+    }
+
+    private static Film film(String uid, String title, String director, String producer, String openingCrawl) {
+        return Film.builder().uid(uid).title(title).director(director).producer(producer).openingCrawl(openingCrawl).build();
+    }
+}
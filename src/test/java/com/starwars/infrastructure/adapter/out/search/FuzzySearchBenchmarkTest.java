@@ -0,0 +1,151 @@
+package com.starwars.infrastructure.adapter.out.search;
+
+import com.starwars.infrastructure.adapter.out.client.cache.AccessFrequencyTracker;
+import com.starwars.infrastructure.adapter.out.persistence.entity.SearchNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latencia de {@link CatalogFuzzyIndex#search}, con ranking por distancia y popularidad incluido,
+ * contra recorrer todo el catálogo calculando la distancia a cada término.
+ * No corre con {@code mvn test}; se ejecuta con {@code mvn test -Pbenchmark}.
+ * <p>
+ * El catálogo de SWAPI tiene unos 260 nombres entre los cuatro recursos; se mide con ese tamaño
+ * y con uno cien veces mayor generado combinando palabras de nombres reales.
+ */
+@Slf4j
+@Tag("benchmark")
+class FuzzySearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "luke", "skywalker", "anakin", "leia", "organa", "han", "solo", "obi", "wan", "kenobi",
+            "millennium", "falcon", "death", "star", "destroyer", "x", "wing", "tie", "advanced", "fighter",
+            "sand", "crawler", "snowspeeder", "imperial", "shuttle", "republic", "cruiser", "naboo", "royal", "jedi",
+            "starfighter", "gunship", "speeder", "bike", "trade", "federation", "droid", "control", "ship", "walker",
+            "padme", "amidala", "chewbacca", "wedge", "antilles", "boba", "fett", "jabba", "desilijic", "tiure"};
+    // Los nombres reales que buscan TYPOS, al principio del catálogo generado
+    private static final String[] NAMES = {
+            "Luke Skywalker", "Millennium Falcon", "Chewbacca", "Star Destroyer", "Obi-Wan Kenobi", "Padmé Amidala"};
+    private static final String[] TYPOS = {"skywaler", "millenium falcon", "chewbaca", "destoyer", "kenobbi", "amidla"};
+    private static final int MAX_DISTANCE = 2;
+    private static final int WARM_UP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    @DisplayName("Mide p50/p99 de CatalogFuzzyIndex.search con el tamaño del catálogo y con uno cien veces mayor")
+    void benchmarkFuzzySearch() {
+        for (int size : new int[]{260, 26_000}) {
+            List<String> names = names(size);
+            NameFuzzyIndex index = new NameFuzzyIndex(names);
+            index.rebuild();
+
+            // El índice encuentra exactamente lo mismo que comparar con cada término de cada nombre
+            for (String typo : TYPOS) {
+                assertThat(index.search(typo)).as(typo)
+                        .isNotEmpty()
+                        .containsExactlyInAnyOrderElementsOf(linearScan(index, names, typo));
+            }
+
+            long[] indexed = latencies(index::search);
+            long[] linear = latencies(query -> linearScan(index, names, query));
+
+            log.info("Fuzzy search over {} names: index p50 {} ns p99 {} ns, linear scan p50 {} ns p99 {} ns",
+                    size, percentile(indexed, 50), percentile(indexed, 99),
+                    percentile(linear, 50), percentile(linear, 99));
+            assertThat(percentile(indexed, 50)).isLessThan(percentile(linear, 50));
+        }
+    }
+
+    // Los nombres reales y el resto de dos o tres palabras
+    private static List<String> names(int size) {
+        Random random = new Random(7);
+        List<String> names = new ArrayList<>(List.of(NAMES));
+        for (int element = names.size(); element < size; element++) {
+            StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            for (int words = 1 + random.nextInt(2); words > 0; words--) {
+                name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            if (element >= WORDS.length * 4) {
+                // Un sufijo distinto por nombre ("x1", "mk2"...) para que el diccionario crezca con el catálogo
+                name.append(' ').append(Integer.toString(element, 36));
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+
+    // Sin índice: la distancia de la consulta a cada término de cada nombre
+    private static List<String> linearScan(NameFuzzyIndex index, List<String> names, String query) {
+        String key = SearchNormalizer.normalize(query);
+        int maxDistance = index.maxDistance(key.length());
+        List<String> matches = new ArrayList<>();
+        for (String name : names) {
+            for (String term : CatalogFuzzyIndex.terms(name)) {
+                if (BkTree.distance(key, term) <= maxDistance) {
+                    matches.add(name);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static long[] latencies(Consumer<String> search) {
+        for (int i = 0; i < WARM_UP; i++) {
+            search.accept(TYPOS[i % TYPOS.length]);
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.accept(TYPOS[i % TYPOS.length]);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    // Índice sobre nombres sueltos; sin tope de resultados para poder compararlo con el recorrido completo
+    private static final class NameFuzzyIndex extends CatalogFuzzyIndex<String> {
+
+        private final List<String> names;
+
+        NameFuzzyIndex(List<String> names) {
+            super(new AccessFrequencyTracker(60_000), MAX_DISTANCE, Integer.MAX_VALUE);
+            this.names = names;
+        }
+
+        @Override
+        protected String resource() {
+            return "names";
+        }
+
+        @Override
+        protected void load(Consumer<String> consumer) {
+            names.forEach(consumer);
+        }
+
+        @Override
+        protected String uid(String item) {
+            return item;
+        }
+
+        @Override
+        protected String name(String item) {
+            return item;
+        }
+    }
+}
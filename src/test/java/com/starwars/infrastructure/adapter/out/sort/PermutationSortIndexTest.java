@@ -0,0 +1,116 @@
+package com.starwars.infrastructure.adapter.out.sort;
+
+import com.starwars.domain.model.SortOrder;
+import com.starwars.domain.model.Starship;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de las vistas ordenadas precalculadas sobre un catálogo pequeño de naves.
+ */
+class PermutationSortIndexTest {
+
+    private static final Comparator<Starship> BY_UID = Comparator.comparing(Starship::getUid);
+
+    private final StarshipSortIndex starshipSortIndex = new StarshipSortIndex(null);
+
+    @Test
+    @DisplayName("Debería paginar en ambos sentidos dejando siempre al final los valores desconocidos")
+    void testSlice_ShouldKeepUnknownValuesLast() {
+        // ========== ARRANGE ==========
+        PermutationSortIndex<Starship> index = PermutationSortIndex.build(List.of(
+                starship("10", "Millennium Falcon", 34.37, 100_000L),
+                starship("9", "Death Star", 120_000.0, 1_000_000_000_000L),
+                starship("12", "X-wing", 12.5, 149_999L),
+                starship("13", "TIE Advanced x1", 9.2, null),
+                starship("3", "Star Destroyer", 1_600.0, 150_000_000L)), keys(), BY_UID);
+
+        // ========== ACT & ASSERT ==========
+        assertThat(index.slice("length", false, 0, 10)).extracting(Starship::getName)
+                .containsExactly("TIE Advanced x1", "X-wing", "Millennium Falcon", "Star Destroyer", "Death Star");
+        assertThat(index.slice("cost", true, 0, 10)).extracting(Starship::getName)
+                .containsExactly("Death Star", "Star Destroyer", "X-wing", "Millennium Falcon", "TIE Advanced x1");
+        assertThat(index.slice("cost", false, 3, 2)).extracting(Starship::getName)
+                .containsExactly("Death Star", "TIE Advanced x1");
+        assertThat(index.slice("name", true, 0, 2)).extracting(Starship::getName)
+                .containsExactly("X-wing", "TIE Advanced x1");
+        assertThat(index.slice("name", false, 10, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería dejar tras una actualización incremental el mismo orden que construyendo desde cero")
+    void testUpdate_ShouldMatchFullBuild() {
+        // ========== ARRANGE ==========
+        Random random = new Random(11);
+        List<Starship> catalog = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            catalog.add(randomStarship(random, String.valueOf(i)));
+        }
+        PermutationSortIndex<Starship> index = PermutationSortIndex.build(catalog, keys(), BY_UID);
+
+        // Se modifican, borran y agregan naves
+        List<Starship> synced = new ArrayList<>();
+        for (Starship starship : catalog) {
+            int change = random.nextInt(10);
+            if (change == 0) {
+                synced.add(randomStarship(random, starship.getUid()));
+            } else if (change != 1) {
+                synced.add(starship);
+            }
+        }
+        for (int i = 300; i < 330; i++) {
+            synced.add(randomStarship(random, String.valueOf(i)));
+        }
+
+        // ========== ACT ==========
+        PermutationSortIndex<Starship> updated = index.update(synced, Starship::getUid, keys(), BY_UID);
+        PermutationSortIndex<Starship> rebuilt = PermutationSortIndex.build(synced, keys(), BY_UID);
+
+        // ========== ASSERT ==========
+        assertThat(updated.size()).isEqualTo(synced.size());
+        for (String field : keys().keySet()) {
+            for (boolean descending : new boolean[]{false, true}) {
+                assertThat(updated.slice(field, descending, 0, synced.size()))
+                        .as("%s %s", field, descending ? "desc" : "asc")
+                        .isEqualTo(rebuilt.slice(field, descending, 0, synced.size()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debería interpretar sort=campo[,asc|desc] y rechazar otras direcciones")
+    void testSortOrder_ShouldParseDirection() {
+        assertThat(SortOrder.parse("length")).isEqualTo(new SortOrder("length", false));
+        assertThat(SortOrder.parse("cost,DESC")).isEqualTo(new SortOrder("cost", true));
+        assertThat(SortOrder.parse("cost,down")).isNull();
+        assertThat(SortOrder.parse("cost,asc,desc")).isNull();
+    }
+
+    private Map<String, Function<Starship, Comparable<?>>> keys() {
+        return starshipSortIndex.keys();
+    }
+
+    private static Starship starship(String uid, String name, Double length, Long cost) {
+        return Starship.builder().uid(uid).name(name).lengthValue(length).costInCreditsValue(cost).build();
+    }
+
+    // Valores repetidos y desconocidos a propósito, para ejercitar empates y el tramo final
+    private static Starship randomStarship(Random random, String uid) {
+        return Starship.builder()
+                .uid(uid)
+                .name("Ship " + (char) ('a' + random.nextInt(26)))
+                .lengthValue(random.nextInt(5) == 0 ? null : (double) random.nextInt(50))
+                .costInCreditsValue(random.nextInt(5) == 0 ? null : (long) random.nextInt(50))
+                .crewValue(random.nextInt(5) == 0 ? null : (long) random.nextInt(50))
+                .build();
+    }
+}
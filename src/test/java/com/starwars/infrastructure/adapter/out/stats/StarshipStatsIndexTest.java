@@ -0,0 +1,139 @@
+package com.starwars.infrastructure.adapter.out.stats;
+
+import com.starwars.domain.model.GroupStats;
+import com.starwars.domain.model.Starship;
+import com.starwars.domain.port.out.StarshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests de los rankings y agregados de naves mantenidos de forma incremental.
+ */
+@ExtendWith(MockitoExtension.class)
+class StarshipStatsIndexTest {
+
+    @Mock
+    private StarshipRepository starshipRepository;
+
+    private List<Starship> starships;
+
+    @BeforeEach
+    void setUp() {
+        starships = new ArrayList<>(List.of(
+                starship("10", "Millennium Falcon", "Light freighter", 34.37, 4L),
+                starship("9", "Death Star", "Deep Space Mobile Battlestation", 120_000.0, 342_953L),
+                starship("12", "X-wing", "Starfighter", 12.5, 1L),
+                starship("13", "TIE Advanced x1", "starfighter ", 9.2, 1L),
+                starship("11", "Y-wing", "assault starfighter", 14.0, 2L),
+                starship("3", "Star Destroyer", "Star Destroyer", 1_600.0, null)));
+    }
+
+    @Test
+    @DisplayName("Debería armar rankings y agregados por clase ignorando los valores desconocidos")
+    void testQueries_ShouldServeRankingsAndGroups() {
+        // ========== ARRANGE ==========
+        StarshipStatsIndex index = new StarshipStatsIndex(starshipRepository, 3);
+        givenCatalog();
+        index.rebuild();
+
+        // ========== ACT ==========
+        List<GroupStats> crewByClass = index.aggregate("starshipClass", "crew");
+
+        // ========== ASSERT ==========
+        assertThat(index.top("length", 10, false)).extracting("name")
+                .containsExactly("Death Star", "Star Destroyer", "Millennium Falcon");
+        assertThat(index.top("length", 2, true)).extracting("name")
+                .containsExactly("TIE Advanced x1", "X-wing");
+        // "Starfighter" y "starfighter " son la misma clase
+        assertThat(crewByClass.get(0)).isEqualTo(GroupStats.builder().group("Starfighter").count(2).field("crew")
+                .valueCount(2L).sum(2.0).average(1.0).min(1.0).max(1.0).build());
+        assertThat(crewByClass).extracting(GroupStats::getGroup).hasSize(5);
+        assertThat(crewByClass).filteredOn(group -> "Star Destroyer".equals(group.getGroup()))
+                .singleElement()
+                .satisfies(group -> assertThat(group.getValueCount()).isZero());
+        assertThat(index.aggregate(null, null)).containsExactly(GroupStats.builder().count(6).build());
+    }
+
+    @Test
+    @DisplayName("Debería dejar tras cada sincronización los mismos agregados que calculando desde cero")
+    void testRebuild_ShouldMatchFullComputation() {
+        // ========== ARRANGE ==========
+        Random random = new Random(7);
+        starships.clear();
+        for (int i = 0; i < 200; i++) {
+            starships.add(randomStarship(random, String.valueOf(i)));
+        }
+        StarshipStatsIndex index = new StarshipStatsIndex(starshipRepository, 10);
+        givenCatalog();
+        index.rebuild();
+
+        for (int round = 0; round < 5; round++) {
+            // Se modifican, borran y agregan naves; borrar las más largas obliga a volver a llenar el ranking
+            List<Starship> synced = new ArrayList<>();
+            for (Starship starship : starships) {
+                int change = random.nextInt(10);
+                if (change == 0) {
+                    synced.add(randomStarship(random, starship.getUid()));
+                } else if (change != 1 && (starship.getLengthValue() == null || starship.getLengthValue() < 45)) {
+                    synced.add(starship);
+                }
+            }
+            for (int i = 0; i < 15; i++) {
+                synced.add(randomStarship(random, round + "-" + i));
+            }
+            starships.clear();
+            starships.addAll(synced);
+
+            // ========== ACT ==========
+            index.rebuild();
+            StarshipStatsIndex fresh = new StarshipStatsIndex(starshipRepository, 10);
+            fresh.rebuild();
+
+            // ========== ASSERT ==========
+            for (String field : index.fields()) {
+                assertThat(index.top(field, 10, false)).as("top %s", field).isEqualTo(fresh.top(field, 10, false));
+                assertThat(index.top(field, 10, true)).as("bottom %s", field).isEqualTo(fresh.top(field, 10, true));
+                assertThat(index.aggregate("starshipClass", field)).as("groups %s", field)
+                        .isEqualTo(fresh.aggregate("starshipClass", field));
+                assertThat(index.aggregate(null, field)).as("total %s", field).isEqualTo(fresh.aggregate(null, field));
+            }
+        }
+    }
+
+    private void givenCatalog() {
+        doAnswer(invocation -> {
+            Consumer<Starship> consumer = invocation.getArgument(0);
+            starships.forEach(consumer);
+            return (long) starships.size();
+        }).when(starshipRepository).exportAll(any());
+    }
+
+    private static Starship starship(String uid, String name, String starshipClass, Double length, Long crew) {
+        return Starship.builder().uid(uid).name(name).starshipClass(starshipClass).lengthValue(length).crewValue(crew).build();
+    }
+
+    // Valores repetidos y desconocidos a propósito, para ejercitar empates y grupos que se vacían
+    private static Starship randomStarship(Random random, String uid) {
+        return Starship.builder()
+                .uid(uid)
+                .name("Ship " + (char) ('a' + random.nextInt(26)))
+                .starshipClass("Class " + random.nextInt(6))
+                .lengthValue(random.nextInt(5) == 0 ? null : (double) random.nextInt(50))
+                .costInCreditsValue(random.nextInt(5) == 0 ? null : (long) random.nextInt(50))
+                .crewValue(random.nextInt(5) == 0 ? null : (long) random.nextInt(50))
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.starwars.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.starwars.application.dto.response.FilmResponse;
+import com.starwars.application.dto.response.PageResponse;
+import com.starwars.application.dto.response.PeopleResponse;
+import com.starwars.application.dto.response.StandardResponse;
+import com.starwars.application.dto.response.StarshipResponse;
+import com.starwars.application.dto.response.VehicleResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tamaño y tiempo de escribir y leer una página completa de cada recurso en JSON, CBOR y Smile, con
+ * los ObjectMapper configurados como en {@link WebConfig}. No corre con {@code mvn test}; se ejecuta
+ * con {@code mvn test -Pbenchmark}.
+ * <p>
+ * Cada página trae el catálogo entero del recurso en SWAPI: 6 films, 82 personajes, 36 naves y 39
+ * vehículos.
+ */
+@Slf4j
+@Tag("benchmark")
+class ResponseFormatBenchmarkTest {
+
+    private static final int WARM_UP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("Mide bytes y p50/p99 de escritura y lectura de una página por recurso en cada formato")
+    void benchmarkFormats() {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", mapper(new JsonFactory()));
+        mappers.put("cbor", mapper(new CBORFactory()));
+        mappers.put("smile", mapper(new SmileFactory()));
+
+        benchmark("films", page(6, ResponseFormatBenchmarkTest::film), FilmResponse.class, mappers);
+        benchmark("people", page(82, ResponseFormatBenchmarkTest::person), PeopleResponse.class, mappers);
+        benchmark("starships", page(36, ResponseFormatBenchmarkTest::starship), StarshipResponse.class, mappers);
+        benchmark("vehicles", page(39, ResponseFormatBenchmarkTest::vehicle), VehicleResponse.class, mappers);
+    }
+
+    private static void benchmark(String resource, StandardResponse<?> page, Class<?> item,
+                                  Map<String, ObjectMapper> mappers) {
+        int jsonBytes = -1;
+        for (Map.Entry<String, ObjectMapper> format : mappers.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            JavaType type = mapper.getTypeFactory().constructParametricType(StandardResponse.class,
+                    mapper.getTypeFactory().constructParametricType(PageResponse.class, item));
+            byte[] bytes = write(mapper, page);
+            if (jsonBytes < 0) {
+                jsonBytes = bytes.length;
+            }
+            long[] writes = latencies(() -> write(mapper, page));
+            long[] reads = latencies(() -> read(mapper, bytes, type));
+
+            log.info("{} page as {}: {} bytes ({}% of JSON), write p50 {} ns p99 {} ns ({} pages/s), "
+                            + "read p50 {} ns p99 {} ns ({} pages/s)",
+                    resource, format.getKey(), bytes.length, bytes.length * 100 / jsonBytes,
+                    percentile(writes, 50), percentile(writes, 99), 1_000_000_000L / percentile(writes, 50),
+                    percentile(reads, 50), percentile(reads, 99), 1_000_000_000L / percentile(reads, 50));
+            assertThat(read(mapper, bytes, type)).isEqualTo(page);
+        }
+    }
+
+    // Igual que los conversores de WebConfig: el builder de Spring con el filtro de 'fields' por defecto
+    private static ObjectMapper mapper(JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new WebConfig().fieldSelectionDefaultFilter().customize(builder);
+        return builder.factory(factory).build();
+    }
+
+    private static <T> StandardResponse<PageResponse<T>> page(int size, IntFunction<T> item) {
+        return StandardResponse.exito(PageResponse.<T>builder()
+                .content(IntStream.rangeClosed(1, size).mapToObj(item).toList())
+                .pageNumber(0)
+                .pageSize(size)
+                .totalElements((long) size)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .build());
+    }
+
+    private static FilmResponse film(int i) {
+        return FilmResponse.builder().id((long) i).uid(String.valueOf(i)).title("Episode " + i).episodeId(i)
+                .openingCrawl(("It is a period of civil war. Rebel spaceships, striking from a hidden base, have won "
+                        + "their first victory against the evil Galactic Empire.\r\n").repeat(4))
+                .director("George Lucas").producer("Gary Kurtz, Rick McCallum")
+                .releaseDate(LocalDate.of(1977, 5, 25).plusYears(i)).build();
+    }
+
+    private static PeopleResponse person(int i) {
+        return PeopleResponse.builder().id((long) i).uid(String.valueOf(i)).name("Person " + i)
+                .height(String.valueOf(150 + i)).mass(String.valueOf(50 + i)).hairColor("blond").skinColor("fair")
+                .eyeColor("blue").birthYear((i + 10) + "BBY").gender(i % 2 == 0 ? "female" : "male")
+                .homeworld("https://www.swapi.tech/api/planets/" + (i % 60 + 1)).build();
+    }
+
+    private static StarshipResponse starship(int i) {
+        return StarshipResponse.builder().id((long) i).uid(String.valueOf(i)).name("Starship " + i)
+                .model("T-65 X-wing").manufacturer("Incom Corporation").costInCredits(String.valueOf(149999 * i))
+                .length(String.valueOf(12.5 * i)).crew("1").passengers("0").cargoCapacity(String.valueOf(110 * i))
+                .starshipClass("Starfighter").build();
+    }
+
+    private static VehicleResponse vehicle(int i) {
+        return VehicleResponse.builder().id((long) i).uid(String.valueOf(i)).name("Vehicle " + i)
+                .model("Digger Crawler").manufacturer("Corellia Mining Corporation")
+                .costInCredits(String.valueOf(150000 + i)).length(String.valueOf(36.8 + i)).crew("46")
+                .passengers("30").cargoCapacity("50000").vehicleClass("wheeled").build();
+    }
+
+    private static byte[] write(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object read(ObjectMapper mapper, byte[] bytes, JavaType type) {
+        try {
+            return mapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long[] latencies(Runnable operation) {
+        for (int i = 0; i < WARM_UP; i++) {
+            operation.run();
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}